@@ -0,0 +1,137 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.utils.Accessor;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+// Scores are comparisons per microsecond of orders by customer tier then quantity, reading the nested tier through
+// a hand-written lambda, a resolved getter path and var handles on the private fields. Handles stored in the chain
+// are not constants to the JIT; constantFields calls the same fused handles from static finals.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(AccessorBenchmark.PAIRS)
+public class AccessorBenchmark {
+
+    static final int PAIRS = 1024;
+
+    private static final MethodHandle TIER;
+    private static final MethodHandle QUANTITY;
+
+    static {
+        try {
+            TIER = AccessorBenchmark.<Order.Customer> fieldAccessor("customer").then(customerAccessor("tier")).handle()
+                    .asType(MethodType.methodType(Integer.class, Order.class));
+            QUANTITY = fieldAccessor("quantity").handle().asType(MethodType.methodType(int.class, Order.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Order[] first;
+    private Order[] second;
+    private Comparator<Order> direct;
+    private Comparator<Order> path;
+    private Comparator<Order> fields;
+    private Comparator<Order> constantFields;
+
+    private static <S> Accessor<Order, S> fieldAccessor(String name) throws ReflectiveOperationException {
+        final Field field = Order.class.getDeclaredField(name);
+        return Accessor.of(name, MethodHandles.privateLookupIn(Order.class, MethodHandles.lookup())
+                .findVarHandle(Order.class, name, field.getType()), boxed(field.getType()));
+    }
+
+    private static Accessor<Order.Customer, Integer> customerAccessor(String name)
+            throws ReflectiveOperationException {
+        return Accessor.of(name, MethodHandles.privateLookupIn(Order.Customer.class, MethodHandles.lookup())
+                .findVarHandle(Order.Customer.class, name, int.class), Integer.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> Class<S> boxed(Class<?> type) {
+        return (Class<S>) MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static int compareConstant(Order left, Order right) {
+        try {
+            final int tier = ((Integer) TIER.invokeExact(left)).compareTo((Integer) TIER.invokeExact(right));
+            return tier != 0 ? tier
+                    : Integer.compare((int) QUANTITY.invokeExact(left), (int) QUANTITY.invokeExact(right));
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        first = new Order[PAIRS];
+        second = new Order[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            first[i] = Order.sample(i);
+            second[i] = Order.sample(i + 3);
+        }
+        direct = TypeSafeChainComparator.create(Order.class)
+                .chain(o -> o.getCustomer() == null ? null : o.getCustomer().getTier(),
+                        Comparator.<Integer> naturalOrder())
+                .chain(Order::getQuantity, Comparator.naturalOrder());
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        path = TypeSafeChainComparator.create(Order.class)
+                .chain(Accessor.resolve(lookup, Order.class, "customer.tier", Integer.class),
+                        Comparator.naturalOrder())
+                .chain(Accessor.resolve(lookup, Order.class, "quantity", Integer.class), Comparator.naturalOrder());
+        final Accessor<Order, Order.Customer> customer = fieldAccessor("customer");
+        final Accessor<Order, Integer> quantity = fieldAccessor("quantity");
+        fields = TypeSafeChainComparator.create(Order.class)
+                .chain(customer.then(customerAccessor("tier")), Comparator.naturalOrder())
+                .chain(quantity, Comparator.naturalOrder());
+        constantFields = AccessorBenchmark::compareConstant;
+    }
+
+    private int compareAll(Comparator<Order> comparator) {
+        int sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += comparator.compare(first[i], second[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int direct() {
+        return compareAll(direct);
+    }
+
+    @Benchmark
+    public int path() {
+        return compareAll(path);
+    }
+
+    @Benchmark
+    public int fields() {
+        return compareAll(fields);
+    }
+
+    @Benchmark
+    public int constantFields() {
+        return compareAll(constantFields);
+    }
+}
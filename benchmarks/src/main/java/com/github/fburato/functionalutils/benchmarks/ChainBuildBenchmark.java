@@ -0,0 +1,72 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import com.github.fburato.functionalutils.utils.TypeSafeChainShow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Scores are nanoseconds per chain built with the given number of steps; run with -prof gc to compare allocations.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChainBuildBenchmark {
+
+    private static final List<Function<Wide, Integer>> GETTERS = List.of(Wide::getF0, Wide::getF1, Wide::getF2,
+            Wide::getF3, Wide::getF4, Wide::getF5, Wide::getF6, Wide::getF7, Wide::getF8, Wide::getF9, Wide::getF10,
+            Wide::getF11, Wide::getF12, Wide::getF13, Wide::getF14, Wide::getF15);
+
+    @Param({ "4", "16", "30" })
+    public int steps;
+
+    @Benchmark
+    public Comparator<Wide> chainedComparator() {
+        TypeSafeChainComparator<Wide> comparator = TypeSafeChainComparator.create(Wide.class);
+        for (int i = 0; i < steps; i++) {
+            comparator = comparator.chain(GETTERS.get(i % Wide.FIELDS), Comparator.naturalOrder());
+        }
+        return comparator;
+    }
+
+    @Benchmark
+    public Comparator<Wide> stagedComparator() {
+        final TypeSafeChainComparator.Staged<Wide> stage = TypeSafeChainComparator.create(Wide.class).stage();
+        for (int i = 0; i < steps; i++) {
+            stage.chain(GETTERS.get(i % Wide.FIELDS), Comparator.naturalOrder());
+        }
+        return stage.freeze();
+    }
+
+    @Benchmark
+    public TypeSafeChainShow<Wide> chainedShow() {
+        TypeSafeChainShow<Wide> show = TypeSafeChainShow.create(Wide.class);
+        for (int i = 0; i < steps; i++) {
+            show = show.standardChain(GETTERS.get(i % Wide.FIELDS));
+        }
+        return show;
+    }
+
+    @Benchmark
+    public TypeSafeChainShow<Wide> stagedShow() {
+        final TypeSafeChainShow.Staged<Wide> stage = TypeSafeChainShow.create(Wide.class).stage();
+        for (int i = 0; i < steps; i++) {
+            stage.standardChain(GETTERS.get(i % Wide.FIELDS));
+        }
+        return stage.freeze();
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.utils.ChainDiff;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Scores are updates per microsecond over sixteen field versions where a few random fields change: a full comparison
+// followed by a field by field re-check, against a single diff into a bitmask.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ChainDiffBenchmark.PAIRS)
+public class ChainDiffBenchmark {
+
+    static final int PAIRS = 1024;
+
+    private static final List<Function<Wide, Integer>> GETTERS = List.of(Wide::getF0, Wide::getF1, Wide::getF2,
+            Wide::getF3, Wide::getF4, Wide::getF5, Wide::getF6, Wide::getF7, Wide::getF8, Wide::getF9, Wide::getF10,
+            Wide::getF11, Wide::getF12, Wide::getF13, Wide::getF14, Wide::getF15);
+
+    private Wide[] before;
+    private Wide[] after;
+    private Comparator<Wide> comparator;
+    private ChainDiff<Wide> diff;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        before = new Wide[PAIRS];
+        after = new Wide[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            final Integer[] left = new Integer[Wide.FIELDS];
+            final Integer[] right = new Integer[Wide.FIELDS];
+            for (int f = 0; f < Wide.FIELDS; f++) {
+                left[f] = random.nextInt(1000);
+                right[f] = random.nextInt(4) == 0 ? random.nextInt(1000) : left[f];
+            }
+            before[i] = new Wide(left);
+            after[i] = new Wide(right);
+        }
+        TypeSafeChainComparator<Wide> chain = TypeSafeChainComparator.create(Wide.class);
+        for (Function<Wide, Integer> getter : GETTERS) {
+            chain = chain.chain(getter, Comparator.naturalOrder());
+        }
+        comparator = chain;
+        diff = ChainDiff.create(chain);
+    }
+
+    @Benchmark
+    public long recheck() {
+        long sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (comparator.compare(before[i], after[i]) != 0) {
+                long mask = 0;
+                for (int f = 0; f < GETTERS.size(); f++) {
+                    final Function<Wide, Integer> getter = GETTERS.get(f);
+                    if (!getter.apply(before[i]).equals(getter.apply(after[i]))) {
+                        mask |= 1L << f;
+                    }
+                }
+                sum += mask;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long diff() {
+        long sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += diff.diff(before[i], after[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.utils.ChainIndex;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+// Scores are nanoseconds to count the orders of one (tier, quantity) pair with an id in a window over 262144
+// orders: through a TreeSet sub set bounded by probe orders, or through the chain index with field values.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChainIndexBenchmark {
+
+    private static final int ELEMENTS = 262144;
+
+    private final TypeSafeChainComparator<Order> comparator = TypeSafeChainComparator.create(Order.class)
+            .chain(o -> o.getCustomer().getTier(), Comparator.<Integer> naturalOrder())
+            .chain(Order::getQuantity, Comparator.<Integer> naturalOrder())
+            .chain(Order::getId, Comparator.<Long> naturalOrder());
+    private TreeSet<Order> treeSet;
+    private ChainIndex<Order> index;
+    private int query;
+
+    @Setup
+    public void setup() {
+        final List<Order> orders = new ArrayList<>(ELEMENTS);
+        for (int i = 0; i < ELEMENTS; i++) {
+            orders.add(Order.sample(i));
+        }
+        treeSet = new TreeSet<>(comparator);
+        treeSet.addAll(orders);
+        index = ChainIndex.create(comparator);
+        index.addAll(orders);
+    }
+
+    private static Order probe(int tier, int quantity, long id) {
+        return new Order(id, null, new Order.Customer(null, null, tier), quantity, 0, false, null);
+    }
+
+    @Benchmark
+    public long treeSet() {
+        final int tier = query % 3;
+        final int quantity = query++ % 17;
+        final long from = 1_000_000L + 50_000;
+        return treeSet.subSet(probe(tier, quantity, from), probe(tier, quantity, from + 20_000)).size();
+    }
+
+    @Benchmark
+    public long index() {
+        final int tier = query % 3;
+        final int quantity = query++ % 17;
+        final long from = 1_000_000L + 50_000;
+        return index.prefixRange(List.of(tier, quantity), from, from + 20_000).count();
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.utils.ChainSearch;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Scores are nanoseconds to find the first order with a given quantity in 65536 orders sorted by quantity and id:
+// through Arrays.binarySearch with a probe order, or through the chain search with an int key. Run with -prof gc to
+// compare the allocation of each lookup.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChainSearchBenchmark {
+
+    private static final int ELEMENTS = 65536;
+
+    private final TypeSafeChainComparator<Order> comparator = TypeSafeChainComparator.create(Order.class)
+            .chainInt(Order::getQuantity, IntComparator.natural())
+            .chainLong(Order::getId, LongComparator.natural());
+    private final ChainSearch<Order> search = ChainSearch.create(comparator);
+    private Order[] orders;
+    private int query;
+
+    @Setup
+    public void setup() {
+        orders = new Order[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            orders[i] = Order.sample(i);
+        }
+        Arrays.sort(orders, comparator);
+    }
+
+    @Benchmark
+    public int probe() {
+        final int quantity = query++ % 17;
+        final int index = Arrays.binarySearch(orders,
+                new Order(Long.MIN_VALUE, null, new Order.Customer(null, null, 0), quantity, 0, false, null),
+                comparator);
+        return -index - 1;
+    }
+
+    @Benchmark
+    public int key() {
+        return search.lowerBound(orders, query++ % 17);
+    }
+}
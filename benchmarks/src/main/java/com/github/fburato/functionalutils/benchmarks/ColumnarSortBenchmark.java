@@ -0,0 +1,123 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.utils.ColumnarSort;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Scores are milliseconds to sort the given number of rows held as parallel region, timestamp and price columns:
+// materialising a row object per index and sorting those with a chain comparator, sorting boxed indices with a
+// Comparator<Integer>, or sorting an int permutation with the columnar sort.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarSortBenchmark {
+
+    public static final class Row {
+        private final int region;
+        private final long timestamp;
+        private final double price;
+        private final int index;
+
+        Row(int region, long timestamp, double price, int index) {
+            this.region = region;
+            this.timestamp = timestamp;
+            this.price = price;
+            this.index = index;
+        }
+
+        public int getRegion() {
+            return region;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+    }
+
+    @Param({ "1000000", "10000000" })
+    public int rows;
+
+    private int[] region;
+    private long[] timestamp;
+    private double[] price;
+    private ColumnarSort columnarSort;
+    private final Comparator<Row> rowComparator = TypeSafeChainComparator.create(Row.class)
+            .chainInt(Row::getRegion, IntComparator.natural())
+            .chainLong(Row::getTimestamp, LongComparator.natural())
+            .chainDouble(Row::getPrice, DoubleComparator.natural());
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        region = new int[rows];
+        timestamp = new long[rows];
+        price = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            region[i] = random.nextInt(64);
+            timestamp[i] = random.nextInt(1 << 20);
+            price[i] = random.nextInt(10000) / 100.0;
+        }
+        columnarSort = ColumnarSort.create(rows).chainInt(region, IntComparator.natural())
+                .chainLong(timestamp, LongComparator.natural()).chainDouble(price, DoubleComparator.natural());
+    }
+
+    @Benchmark
+    public int[] objects() {
+        final Row[] materialised = new Row[rows];
+        for (int i = 0; i < rows; i++) {
+            materialised[i] = new Row(region[i], timestamp[i], price[i], i);
+        }
+        Arrays.sort(materialised, rowComparator);
+        final int[] permutation = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            permutation[i] = materialised[i].index;
+        }
+        return permutation;
+    }
+
+    @Benchmark
+    public Integer[] boxedIndices() {
+        final Integer[] indices = new Integer[rows];
+        for (int i = 0; i < rows; i++) {
+            indices[i] = i;
+        }
+        Arrays.sort(indices, (i, j) -> {
+            int value = Integer.compare(region[i], region[j]);
+            if (value == 0) {
+                value = Long.compare(timestamp[i], timestamp[j]);
+            }
+            return value != 0 ? value : Double.compare(price[i], price[j]);
+        });
+        return indices;
+    }
+
+    @Benchmark
+    public int[] columnar() {
+        return columnarSort.sort();
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Scores are comparisons per microsecond; only the last field differs so every step is evaluated. The derived
+// comparator covers all sixteen fields but stops at the same differing field.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ComparatorBenchmark.PAIRS)
+public class ComparatorBenchmark {
+
+    static final int PAIRS = 1024;
+
+    private static final List<Function<Wide, Integer>> GETTERS = List.of(Wide::getF0, Wide::getF1, Wide::getF2,
+            Wide::getF3, Wide::getF4, Wide::getF5, Wide::getF6, Wide::getF7, Wide::getF8, Wide::getF9, Wide::getF10,
+            Wide::getF11, Wide::getF12, Wide::getF13, Wide::getF14, Wide::getF15);
+
+    @Param({ "1", "4", "8", "16" })
+    public int arity;
+
+    private Wide[] first;
+    private Wide[] second;
+    private Comparator<Wide> chain;
+    private Comparator<Wide> unrolled;
+    private Comparator<Wide> derived;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        first = new Wide[PAIRS];
+        second = new Wide[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            final Integer[] left = new Integer[Wide.FIELDS];
+            final Integer[] right = new Integer[Wide.FIELDS];
+            for (int f = 0; f < Wide.FIELDS; f++) {
+                left[f] = f;
+                right[f] = f;
+            }
+            left[arity - 1] = random.nextInt(1000);
+            right[arity - 1] = random.nextInt(1000);
+            first[i] = new Wide(left);
+            second[i] = new Wide(right);
+        }
+        TypeSafeChainComparator<Wide> comparator = TypeSafeChainComparator.create(Wide.class);
+        for (int f = 0; f < arity; f++) {
+            comparator = comparator.chain(GETTERS.get(f), Comparator.naturalOrder());
+        }
+        chain = comparator.addComparator(Comparator.<Integer> naturalOrder());
+        unrolled = comparator.unrolled();
+        derived = new WideComparator();
+    }
+
+    private int compareAll(Comparator<Wide> comparator) {
+        int sum = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            sum += comparator.compare(first[i], second[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int delegating() {
+        return compareAll(chain);
+    }
+
+    @Benchmark
+    public int unrolled() {
+        return compareAll(unrolled);
+    }
+
+    @Benchmark
+    public int derived() {
+        return compareAll(derived);
+    }
+}
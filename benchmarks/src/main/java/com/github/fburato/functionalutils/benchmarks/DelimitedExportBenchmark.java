@@ -0,0 +1,117 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.utils.DelimitedExporter;
+import com.github.fburato.functionalutils.utils.TypeSafeChainShow;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Scores are rows/s; the bytes counter gives the written bytes/s. Run with -prof gc for allocation rates.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(DelimitedExportBenchmark.ROWS)
+public class DelimitedExportBenchmark {
+
+    static final int ROWS = 100_000;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Written {
+        public long bytes;
+    }
+
+    private final TypeSafeChainShow<Order> columns = TypeSafeChainShow.create(Order.class)
+            .standardChain("id", Order::getId)
+            .standardChain("reference", Order::getReference)
+            .standardChain("customer", o -> o.getCustomer().getName())
+            .standardChain("quantity", Order::getQuantity)
+            .standardChain("price", Order::getPrice)
+            .standardChain("paid", Order::isPaid)
+            .standardChain("notes", Order::getNotes);
+    private final TypeSafeChainShow<Order> line = TypeSafeChainShow.createWithConfig(Order.class,
+            new TypeSafeChainShow.Configuration<>(c -> "", "", "", ","))
+            .standardChain(Order::getId)
+            .standardChain(Order::getReference)
+            .standardChain(o -> o.getCustomer().getName())
+            .standardChain(Order::getQuantity)
+            .standardChain(Order::getPrice)
+            .standardChain(Order::isPaid)
+            .standardChain(Order::getNotes);
+    private final DelimitedExporter<Order> exporter = DelimitedExporter.create(columns);
+
+    private Order[] orders;
+    private Path file;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() throws IOException {
+        orders = new Order[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            orders[i] = Order.sample(i);
+        }
+        file = Files.createTempFile("export", ".csv");
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    private FileChannel channel() throws IOException {
+        return FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    @Benchmark
+    public void showAndBufferedWriter(Written written) throws IOException {
+        try (final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("id,reference,customer,quantity,price,paid,notes\r\n");
+            for (Order order : orders) {
+                writer.write(line.show(order));
+                writer.write("\r\n");
+            }
+        }
+        written.bytes += Files.size(file);
+    }
+
+    @Benchmark
+    public void exporter(Written written) throws IOException {
+        try (final FileChannel channel = channel()) {
+            written.bytes += exporter.export(Arrays.stream(orders), channel).bytes;
+        }
+    }
+
+    @Benchmark
+    public void parallelExporter(Written written) throws IOException {
+        try (final FileChannel channel = channel()) {
+            written.bytes += exporter.exportParallel(Arrays.stream(orders), channel, pool).bytes;
+        }
+    }
+}
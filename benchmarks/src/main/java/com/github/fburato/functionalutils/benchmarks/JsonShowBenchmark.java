@@ -0,0 +1,87 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.utils.JsonShow;
+import com.github.fburato.functionalutils.utils.TypeSafeChainShow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+// Run with -prof gc to compare allocation rates (gc.alloc.rate.norm) next to throughput.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonShowBenchmark {
+
+    private static final int SAMPLES = 64;
+
+    private final TypeSafeChainShow<Order.Customer> customerShow = TypeSafeChainShow.create(Order.Customer.class)
+            .standardChain("name", Order.Customer::getName)
+            .standardChain("email", Order.Customer::getEmail)
+            .standardChain("tier", Order.Customer::getTier);
+    private final JsonShow<Order> jsonShow = JsonShow.create(TypeSafeChainShow.create(Order.class)
+            .standardChain("id", Order::getId)
+            .standardChain("reference", Order::getReference)
+            .chain("customer", Order::getCustomer, customerShow)
+            .standardChain("quantity", Order::getQuantity)
+            .standardChain("price", Order::getPrice)
+            .standardChain("paid", Order::isPaid)
+            .standardChain("notes", Order::getNotes));
+    private final ReflectiveJsonSerializer reflective = new ReflectiveJsonSerializer();
+
+    private Order[] orders;
+    private StringBuilder builder;
+    private ByteBuffer buffer;
+    private int next;
+
+    @Setup
+    public void setup() {
+        orders = new Order[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            orders[i] = Order.sample(i);
+        }
+        builder = new StringBuilder(512);
+        buffer = ByteBuffer.allocateDirect(512);
+    }
+
+    private Order nextOrder() {
+        next = (next + 1) & (SAMPLES - 1);
+        return orders[next];
+    }
+
+    @Benchmark
+    public String reflectiveSerializer() {
+        return reflective.serialize(nextOrder());
+    }
+
+    @Benchmark
+    public String jsonShowString() {
+        return jsonShow.show(nextOrder());
+    }
+
+    @Benchmark
+    public int jsonShowReusedBuilder() {
+        builder.setLength(0);
+        jsonShow.showTo(nextOrder(), builder);
+        return builder.length();
+    }
+
+    @Benchmark
+    public int jsonShowByteBuffer() {
+        buffer.clear();
+        jsonShow.writeTo(nextOrder(), buffer);
+        return buffer.position();
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.utils.MultiQueue;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Scores are millions of offer and poll pairs per second across all threads on a queue holding 65536 orders ordered
+// by quantity, tier and id. Run with -t 1, -t 8, -t 64 and so on to compare how each queue scales.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiQueueBenchmark {
+
+    private static final int ELEMENTS = 65536;
+
+    private final Comparator<Order> comparator = TypeSafeChainComparator.create(Order.class)
+            .chainInt(Order::getQuantity, IntComparator.natural())
+            .chainInt(o -> o.getCustomer().getTier(), IntComparator.natural())
+            .chainLong(Order::getId, LongComparator.natural());
+    private Order[] orders;
+    private PriorityBlockingQueue<Order> priorityBlockingQueue;
+    private MultiQueue<Order> multiQueue;
+    private MultiQueue<Order> strictQueue;
+
+    @Setup
+    public void setup() {
+        orders = new Order[ELEMENTS];
+        priorityBlockingQueue = new PriorityBlockingQueue<>(ELEMENTS, comparator);
+        multiQueue = MultiQueue.create(comparator);
+        strictQueue = MultiQueue.createWithConfig(comparator, MultiQueue.strictConfiguration());
+        for (int i = 0; i < ELEMENTS; i++) {
+            orders[i] = Order.sample(i);
+            priorityBlockingQueue.offer(orders[i]);
+            multiQueue.offer(orders[i]);
+            strictQueue.offer(orders[i]);
+        }
+    }
+
+    private Order next() {
+        return orders[ThreadLocalRandom.current().nextInt(ELEMENTS)];
+    }
+
+    @Benchmark
+    public Order priorityBlockingQueue() {
+        priorityBlockingQueue.offer(next());
+        return priorityBlockingQueue.poll();
+    }
+
+    @Benchmark
+    public Order multiQueue() {
+        multiQueue.offer(next());
+        return multiQueue.poll();
+    }
+
+    @Benchmark
+    public Order strict() {
+        strictQueue.offer(next());
+        return strictQueue.poll();
+    }
+}
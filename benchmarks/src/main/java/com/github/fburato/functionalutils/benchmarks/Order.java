@@ -0,0 +1,81 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+public final class Order {
+
+    public static final class Customer {
+        private final String name;
+        private final String email;
+        private final int tier;
+
+        public Customer(String name, String email, int tier) {
+            this.name = name;
+            this.email = email;
+            this.tier = tier;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public int getTier() {
+            return tier;
+        }
+    }
+
+    private final long id;
+    private final String reference;
+    private final Customer customer;
+    private final int quantity;
+    private final double price;
+    private final boolean paid;
+    private final String notes;
+
+    public Order(long id, String reference, Customer customer, int quantity, double price, boolean paid,
+            String notes) {
+        this.id = id;
+        this.reference = reference;
+        this.customer = customer;
+        this.quantity = quantity;
+        this.price = price;
+        this.paid = paid;
+        this.notes = notes;
+    }
+
+    public static Order sample(int i) {
+        return new Order(1_000_000L + i, "ORD-" + i,
+                new Customer("Customer " + i, "customer" + i + "@example.com", i % 3),
+                i % 17, i * 0.25, i % 2 == 0, i % 5 == 0 ? "leave at \"reception\"\n" : "none");
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public Customer getCustomer() {
+        return customer;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public boolean isPaid() {
+        return paid;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.utils.RangePartitioner;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Scores are milliseconds for the slowest of 16 workers to sort its partition of 524288 orders, three in ten of which
+// share one quantity: with splitters picked from the distinct sampled quantities, or with the range partitioner,
+// which spreads the heavy quantity over the partitions it spans. route is the time to partition all the orders.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RangePartitionerBenchmark {
+
+    private static final int ORDERS = 524288;
+    private static final int PARTITIONS = 16;
+
+    private final Comparator<Order> comparator = TypeSafeChainComparator.create(Order.class)
+            .chainInt(Order::getQuantity, IntComparator.natural())
+            .chainLong(Order::getId, LongComparator.natural());
+    private final Comparator<Order> partitionComparator = TypeSafeChainComparator.create(Order.class)
+            .chainInt(Order::getQuantity, IntComparator.natural());
+    private List<Order> orders;
+    private RangePartitioner<Order> partitioner;
+    private List<Order> largestHandRolled;
+    private List<Order> largestRange;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            final Order sample = Order.sample(i);
+            final int quantity = random.nextInt(10) < 3 ? 0 : 1 + random.nextInt(10_000);
+            orders.add(new Order(sample.getId(), sample.getReference(), sample.getCustomer(), quantity,
+                    sample.getPrice(), sample.isPaid(), sample.getNotes()));
+        }
+        Collections.shuffle(orders, random);
+        final RangePartitioner.Reservoir<Order> reservoir = RangePartitioner.Reservoir.createWithSeed(4096, 42);
+        orders.forEach(reservoir::add);
+        final RangePartitioner.Sample<Order> sample = reservoir.sample();
+        partitioner = RangePartitioner.createFromSamples(partitionComparator, PARTITIONS, List.of(sample));
+
+        largestHandRolled = largest(handRolled(sample.elements));
+        largestRange = largest(partitioner.route(orders.iterator()));
+    }
+
+    // Equally spaced sampled quantities with duplicates removed, each equal quantity routed to one partition.
+    private List<List<Order>> handRolled(List<Order> sample) {
+        final List<Integer> quantities = new ArrayList<>();
+        sample.forEach(order -> quantities.add(order.getQuantity()));
+        Collections.sort(quantities);
+        final List<Integer> splitters = new ArrayList<>();
+        for (int i = 1; i < PARTITIONS; i++) {
+            final int splitter = quantities.get(i * quantities.size() / PARTITIONS);
+            if (splitters.isEmpty() || splitters.get(splitters.size() - 1) != splitter) {
+                splitters.add(splitter);
+            }
+        }
+        final List<List<Order>> partitions = new ArrayList<>();
+        for (int i = 0; i <= splitters.size(); i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (Order order : orders) {
+            final int index = Collections.binarySearch(splitters, order.getQuantity());
+            partitions.get(index >= 0 ? index : -index - 1).add(order);
+        }
+        return partitions;
+    }
+
+    private static List<Order> largest(List<List<Order>> partitions) {
+        List<Order> largest = partitions.get(0);
+        for (List<Order> partition : partitions) {
+            if (partition.size() > largest.size()) {
+                largest = partition;
+            }
+        }
+        return largest;
+    }
+
+    @Benchmark
+    public List<Order> slowestWorkerHandRolled() {
+        final List<Order> sorted = new ArrayList<>(largestHandRolled);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Order> slowestWorkerRange() {
+        final List<Order> sorted = new ArrayList<>(largestRange);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<List<Order>> route() {
+        return partitioner.route(orders.iterator());
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ReflectiveJsonSerializer {
+
+    private final Map<Class<?>, List<Field>> fieldsByClass = new ConcurrentHashMap<>();
+
+    public String serialize(Object value) {
+        final StringBuilder builder = new StringBuilder();
+        write(value, builder);
+        return builder.toString();
+    }
+
+    private void write(Object value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            builder.append(value);
+        } else if (value instanceof CharSequence || value instanceof Character || value instanceof Enum) {
+            writeString(value.toString(), builder);
+        } else {
+            writeObject(value, builder);
+        }
+    }
+
+    private void writeObject(Object value, StringBuilder builder) {
+        builder.append('{');
+        final List<Field> fields = fieldsByClass.computeIfAbsent(value.getClass(), this::fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            final Field field = fields.get(i);
+            writeString(field.getName(), builder);
+            builder.append(':');
+            try {
+                write(field.get(value), builder);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        builder.append('}');
+    }
+
+    private List<Field> fields(Class<?> clazz) {
+        final List<Field> fields = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static void writeString(String value, StringBuilder builder) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.utils.ReorderBuffer;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Scores are milliseconds to put in order 262144 orders that are each displaced by less than the given window:
+// sorting the whole batch, or streaming them through a reorder buffer of that window.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReorderBufferBenchmark {
+
+    private static final int ORDERS = 262144;
+
+    @Param({ "16", "1024" })
+    public int window;
+
+    private final Comparator<Order> comparator = TypeSafeChainComparator.create(Order.class)
+            .chainLong(Order::getId, LongComparator.natural())
+            .chainInt(Order::getQuantity, IntComparator.natural());
+    private List<Order> orders;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(Order.sample(i));
+        }
+        for (int i = 0; i + window <= ORDERS; i += window) {
+            Collections.shuffle(orders.subList(i, i + window), random);
+        }
+    }
+
+    @Benchmark
+    public List<Order> sortBatch() {
+        final List<Order> sorted = new ArrayList<>(orders);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Order> reorder() {
+        final List<Order> sorted = new ArrayList<>(ORDERS);
+        final Iterator<Order> reordered = ReorderBuffer
+                .createWithWindow(comparator, window, ReorderBuffer.LatePolicy.EMIT).reorder(orders.iterator());
+        reordered.forEachRemaining(sorted::add);
+        return sorted;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.utils.SortMergeJoin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Scores are milliseconds to count the matching pairs of 262144 orders and two shipments per order, both sorted by
+// order id: building a HashMap over the orders and probing it with the shipments, or a streaming sort-merge join.
+// Run with -prof gc to compare the allocation of each.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortMergeJoinBenchmark {
+
+    private static final int ORDERS = 262144;
+
+    private final SortMergeJoin<Order, Order> join = SortMergeJoin.create(Order.class, Order.class)
+            .onLong(Order::getId, Order::getId, LongComparator.natural());
+    private List<Order> orders;
+    private List<Order> shipments;
+
+    @Setup
+    public void setup() {
+        orders = new ArrayList<>(ORDERS);
+        shipments = new ArrayList<>(2 * ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(Order.sample(i));
+            shipments.add(Order.sample(i));
+            shipments.add(Order.sample(i));
+        }
+    }
+
+    @Benchmark
+    public long hashJoin() {
+        final Map<Long, List<Order>> byId = new HashMap<>();
+        for (Order order : orders) {
+            byId.computeIfAbsent(order.getId(), id -> new ArrayList<>(1)).add(order);
+        }
+        long pairs = 0;
+        for (Order shipment : shipments) {
+            final List<Order> matches = byId.get(shipment.getId());
+            if (matches != null) {
+                pairs += matches.size();
+            }
+        }
+        return pairs;
+    }
+
+    @Benchmark
+    public long sortMergeJoin() {
+        return join.inner(orders.iterator(), shipments.iterator())
+                .mapToLong(group -> (long) group.left.size() * group.right.size()).sum();
+    }
+}
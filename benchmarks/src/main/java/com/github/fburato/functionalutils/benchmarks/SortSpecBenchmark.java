@@ -0,0 +1,72 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.utils.SortRegistry;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Scores are nanoseconds to turn a sort query parameter into a comparator: rebuilt from a map of getters on every
+// request, or served by the registry cache. Run with -prof gc to compare allocations.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortSpecBenchmark {
+
+    private static final String[] SPECS = { "reference,-price", "-quantity,id", "paid,-price,reference",
+            "customer,-id" };
+
+    private static final Map<String, Function<Order, Comparable<?>>> GETTERS = Map.of("id", Order::getId,
+            "reference", Order::getReference, "customer", o -> o.getCustomer().getName(), "quantity",
+            Order::getQuantity, "price", Order::getPrice, "paid", Order::isPaid);
+
+    private final SortRegistry<Order> registry = SortRegistry.create(Order.class)
+            .registerLong("id", Order::getId, LongComparator.natural())
+            .register("reference", Order::getReference)
+            .register("customer", o -> o.getCustomer().getName())
+            .registerInt("quantity", Order::getQuantity, IntComparator.natural())
+            .registerDouble("price", Order::getPrice, DoubleComparator.natural())
+            .register("paid", Order::isPaid);
+
+    private int request;
+
+    private String next() {
+        request = (request + 1) & (SPECS.length - 1);
+        return SPECS[request];
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Benchmark
+    public Comparator<Order> rebuilt() {
+        TypeSafeChainComparator<Order> comparator = TypeSafeChainComparator.create(Order.class);
+        for (String term : next().split(",")) {
+            final boolean descending = term.startsWith("-");
+            final Function getter = GETTERS.get(descending ? term.substring(1) : term);
+            final Comparator<Comparable> natural = Comparator.nullsLast(Comparator.naturalOrder());
+            comparator = comparator.chain(getter, descending ? natural.reversed() : natural);
+        }
+        return comparator;
+    }
+
+    @Benchmark
+    public Comparator<Order> registry() {
+        return registry.comparator(next());
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.utils.SortedGrouping;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Scores are milliseconds to sum the prices of 262144 orders sorted by customer id bucket and id, per bucket of
+// four orders: with Collectors.groupingBy into a map, or with the sorted grouping over the first step.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortedGroupingBenchmark {
+
+    private static final int ORDERS = 262144;
+
+    private final TypeSafeChainComparator<Order> comparator = TypeSafeChainComparator.create(Order.class)
+            .chainLong(o -> o.getId() / 4, LongComparator.natural())
+            .chainInt(Order::getQuantity, IntComparator.natural());
+    private final SortedGrouping<Order> grouping = SortedGrouping.create(comparator, 1);
+    private List<Order> orders;
+
+    @Setup
+    public void setup() {
+        orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(Order.sample(i));
+        }
+        orders.sort(comparator);
+    }
+
+    @Benchmark
+    public Map<Long, Double> groupingBy() {
+        return orders.stream()
+                .collect(Collectors.groupingBy(o -> o.getId() / 4, Collectors.summingDouble(Order::getPrice)));
+    }
+
+    @Benchmark
+    public double sortedGrouping() {
+        return grouping.group(orders.stream(), Collectors.summingDouble(Order::getPrice))
+                .mapToDouble(Double::doubleValue).max().orElse(0);
+    }
+}
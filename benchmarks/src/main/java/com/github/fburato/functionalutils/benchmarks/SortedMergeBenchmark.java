@@ -0,0 +1,72 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.utils.SortedMerge;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Scores are microseconds to produce the merged list of 65536 orders split over the given number of sorted shards:
+// concatenating and sorting again, or merging through the loser tree.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortedMergeBenchmark {
+
+    private static final int ELEMENTS = 65536;
+
+    @Param({ "4", "64" })
+    public int shards;
+
+    private final Comparator<Order> comparator = TypeSafeChainComparator.create(Order.class)
+            .chain(Order::getQuantity, Comparator.<Integer> naturalOrder())
+            .chain(Order::getId, Comparator.<Long> naturalOrder());
+    private List<List<Order>> inputs;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        inputs = new ArrayList<>();
+        for (int s = 0; s < shards; s++) {
+            inputs.add(new ArrayList<>());
+        }
+        for (int i = 0; i < ELEMENTS; i++) {
+            inputs.get(random.nextInt(shards)).add(Order.sample(i));
+        }
+        inputs.forEach(input -> input.sort(comparator));
+    }
+
+    @Benchmark
+    public List<Order> resort() {
+        final List<Order> all = new ArrayList<>(ELEMENTS);
+        inputs.forEach(all::addAll);
+        all.sort(comparator);
+        return all;
+    }
+
+    @Benchmark
+    public List<Order> merge() {
+        final List<Iterator<Order>> iterators = new ArrayList<>(shards);
+        inputs.forEach(input -> iterators.add(input.iterator()));
+        return SortedMerge.create(comparator).merge(iterators).collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.fburato.functionalutils.benchmarks;
+
+import com.github.fburato.functionalutils.processor.DeriveComparator;
+
+@DeriveComparator(fields = { "f0", "f1", "f2", "f3", "f4", "f5", "f6", "f7", "f8", "f9", "f10", "f11", "f12", "f13",
+        "f14", "f15" })
+public final class Wide {
+
+    public static final int FIELDS = 16;
+
+    private final Integer[] values;
+
+    public Wide(Integer[] values) {
+        this.values = values;
+    }
+
+    public Integer getF0() {
+        return values[0];
+    }
+
+    public Integer getF1() {
+        return values[1];
+    }
+
+    public Integer getF2() {
+        return values[2];
+    }
+
+    public Integer getF3() {
+        return values[3];
+    }
+
+    public Integer getF4() {
+        return values[4];
+    }
+
+    public Integer getF5() {
+        return values[5];
+    }
+
+    public Integer getF6() {
+        return values[6];
+    }
+
+    public Integer getF7() {
+        return values[7];
+    }
+
+    public Integer getF8() {
+        return values[8];
+    }
+
+    public Integer getF9() {
+        return values[9];
+    }
+
+    public Integer getF10() {
+        return values[10];
+    }
+
+    public Integer getF11() {
+        return values[11];
+    }
+
+    public Integer getF12() {
+        return values[12];
+    }
+
+    public Integer getF13() {
+        return values[13];
+    }
+
+    public Integer getF14() {
+        return values[14];
+    }
+
+    public Integer getF15() {
+        return values[15];
+    }
+}
@@ -2,7 +2,76 @@ package com.github.fburato.functionalutils.api;
 
 import java.util.Comparator;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public interface ChainableComparator<T> extends Comparator<T> {
     <S> ChainableComparator<T> chain(Function<T, S> fieldGetter, Comparator<S> sComparator);
+
+    default ChainableComparator<T> chainInt(ToIntFunction<T> fieldGetter, IntComparator comparator) {
+        return chain(fieldGetter::applyAsInt, comparator);
+    }
+
+    default ChainableComparator<T> chainLong(ToLongFunction<T> fieldGetter, LongComparator comparator) {
+        return chain(fieldGetter::applyAsLong, comparator);
+    }
+
+    default ChainableComparator<T> chainDouble(ToDoubleFunction<T> fieldGetter, DoubleComparator comparator) {
+        return chain(fieldGetter::applyAsDouble, comparator);
+    }
+
+    default Comparator<T> unrolled() {
+        return this;
+    }
+
+    default Stage<T> stage() {
+        return new ChainingStage<>(this);
+    }
+
+    interface Stage<T> {
+        <S> Stage<T> chain(Function<T, S> fieldGetter, Comparator<S> sComparator);
+
+        default Stage<T> chainInt(ToIntFunction<T> fieldGetter, IntComparator comparator) {
+            return chain(fieldGetter::applyAsInt, comparator);
+        }
+
+        default Stage<T> chainLong(ToLongFunction<T> fieldGetter, LongComparator comparator) {
+            return chain(fieldGetter::applyAsLong, comparator);
+        }
+
+        default Stage<T> chainDouble(ToDoubleFunction<T> fieldGetter, DoubleComparator comparator) {
+            return chain(fieldGetter::applyAsDouble, comparator);
+        }
+
+        ChainableComparator<T> freeze();
+    }
+
+    final class ChainingStage<T> implements Stage<T> {
+        private ChainableComparator<T> current;
+
+        private ChainingStage(ChainableComparator<T> current) {
+            this.current = current;
+        }
+
+        @Override
+        public <S> Stage<T> chain(Function<T, S> fieldGetter, Comparator<S> sComparator) {
+            current = frozenCheck().chain(fieldGetter, sComparator);
+            return this;
+        }
+
+        @Override
+        public ChainableComparator<T> freeze() {
+            final ChainableComparator<T> result = frozenCheck();
+            current = null;
+            return result;
+        }
+
+        private ChainableComparator<T> frozenCheck() {
+            if (current == null) {
+                throw new IllegalStateException("Stage has already been frozen");
+            }
+            return current;
+        }
+    }
 }
@@ -1,9 +1,82 @@
 package com.github.fburato.functionalutils.api;
 
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public interface ChainableShow<T> extends Show<T> {
     <S> ChainableShow<T> chain(Function<T, S> fieldGetter, Show<S> sShow);
 
     <S> ChainableShow<T> standardChain(Function<T, S> fieldGetter);
+
+    default ChainableShow<T> chainInt(ToIntFunction<T> fieldGetter, IntShow show) {
+        return chain(fieldGetter::applyAsInt, show);
+    }
+
+    default ChainableShow<T> chainLong(ToLongFunction<T> fieldGetter, LongShow show) {
+        return chain(fieldGetter::applyAsLong, show);
+    }
+
+    default ChainableShow<T> chainDouble(ToDoubleFunction<T> fieldGetter, DoubleShow show) {
+        return chain(fieldGetter::applyAsDouble, show);
+    }
+
+    default Stage<T> stage() {
+        return new ChainingStage<>(this);
+    }
+
+    interface Stage<T> {
+        <S> Stage<T> chain(Function<T, S> fieldGetter, Show<S> sShow);
+
+        <S> Stage<T> standardChain(Function<T, S> fieldGetter);
+
+        default Stage<T> chainInt(ToIntFunction<T> fieldGetter, IntShow show) {
+            return chain(fieldGetter::applyAsInt, show);
+        }
+
+        default Stage<T> chainLong(ToLongFunction<T> fieldGetter, LongShow show) {
+            return chain(fieldGetter::applyAsLong, show);
+        }
+
+        default Stage<T> chainDouble(ToDoubleFunction<T> fieldGetter, DoubleShow show) {
+            return chain(fieldGetter::applyAsDouble, show);
+        }
+
+        ChainableShow<T> freeze();
+    }
+
+    final class ChainingStage<T> implements Stage<T> {
+        private ChainableShow<T> current;
+
+        private ChainingStage(ChainableShow<T> current) {
+            this.current = current;
+        }
+
+        @Override
+        public <S> Stage<T> chain(Function<T, S> fieldGetter, Show<S> sShow) {
+            current = frozenCheck().chain(fieldGetter, sShow);
+            return this;
+        }
+
+        @Override
+        public <S> Stage<T> standardChain(Function<T, S> fieldGetter) {
+            current = frozenCheck().standardChain(fieldGetter);
+            return this;
+        }
+
+        @Override
+        public ChainableShow<T> freeze() {
+            final ChainableShow<T> result = frozenCheck();
+            current = null;
+            return result;
+        }
+
+        private ChainableShow<T> frozenCheck() {
+            if (current == null) {
+                throw new IllegalStateException("Stage has already been frozen");
+            }
+            return current;
+        }
+    }
 }
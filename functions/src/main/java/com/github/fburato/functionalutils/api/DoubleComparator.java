@@ -0,0 +1,19 @@
+package com.github.fburato.functionalutils.api;
+
+import java.util.Comparator;
+
+@FunctionalInterface
+public interface DoubleComparator extends Comparator<Double> {
+    DoubleComparator NATURAL = Double::compare;
+
+    int compareDouble(double value1, double value2);
+
+    @Override
+    default int compare(Double value1, Double value2) {
+        return compareDouble(value1, value2);
+    }
+
+    static DoubleComparator natural() {
+        return NATURAL;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.fburato.functionalutils.api;
+
+@FunctionalInterface
+public interface DoubleShow extends Show<Double> {
+    String showDouble(double value);
+
+    default void showDoubleTo(double value, StringBuilder builder) {
+        builder.append(showDouble(value));
+    }
+
+    @Override
+    default String show(Double value) {
+        return value == null ? "null" : showDouble(value);
+    }
+
+    @Override
+    default void showTo(Double value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+        } else {
+            showDoubleTo(value, builder);
+        }
+    }
+
+    static DoubleShow standard() {
+        return StandardShows.DOUBLE;
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.fburato.functionalutils.api;
+
+import java.util.Comparator;
+
+@FunctionalInterface
+public interface IntComparator extends Comparator<Integer> {
+    IntComparator NATURAL = Integer::compare;
+
+    int compareInt(int value1, int value2);
+
+    @Override
+    default int compare(Integer value1, Integer value2) {
+        return compareInt(value1, value2);
+    }
+
+    static IntComparator natural() {
+        return NATURAL;
+    }
+}
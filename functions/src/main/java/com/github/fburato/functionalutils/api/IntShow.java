@@ -0,0 +1,28 @@
+package com.github.fburato.functionalutils.api;
+
+@FunctionalInterface
+public interface IntShow extends Show<Integer> {
+    String showInt(int value);
+
+    default void showIntTo(int value, StringBuilder builder) {
+        builder.append(showInt(value));
+    }
+
+    @Override
+    default String show(Integer value) {
+        return value == null ? "null" : showInt(value);
+    }
+
+    @Override
+    default void showTo(Integer value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+        } else {
+            showIntTo(value, builder);
+        }
+    }
+
+    static IntShow standard() {
+        return StandardShows.INT;
+    }
+}
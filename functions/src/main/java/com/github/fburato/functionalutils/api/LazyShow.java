@@ -0,0 +1,46 @@
+package com.github.fburato.functionalutils.api;
+
+public final class LazyShow<T> implements CharSequence {
+    private final Show<T> show;
+    private final T value;
+    private String rendered;
+
+    LazyShow(Show<T> show, T value) {
+        this.show = show;
+        this.value = value;
+    }
+
+    public void formatTo(StringBuilder builder) {
+        final String cached = rendered;
+        if (cached != null) {
+            builder.append(cached);
+        } else {
+            show.showTo(value, builder);
+        }
+    }
+
+    @Override
+    public int length() {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        String cached = rendered;
+        if (cached == null) {
+            cached = show.show(value);
+            rendered = cached;
+        }
+        return cached;
+    }
+}
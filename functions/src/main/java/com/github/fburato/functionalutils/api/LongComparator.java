@@ -0,0 +1,19 @@
+package com.github.fburato.functionalutils.api;
+
+import java.util.Comparator;
+
+@FunctionalInterface
+public interface LongComparator extends Comparator<Long> {
+    LongComparator NATURAL = Long::compare;
+
+    int compareLong(long value1, long value2);
+
+    @Override
+    default int compare(Long value1, Long value2) {
+        return compareLong(value1, value2);
+    }
+
+    static LongComparator natural() {
+        return NATURAL;
+    }
+}
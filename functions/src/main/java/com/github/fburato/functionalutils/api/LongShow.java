@@ -0,0 +1,28 @@
+package com.github.fburato.functionalutils.api;
+
+@FunctionalInterface
+public interface LongShow extends Show<Long> {
+    String showLong(long value);
+
+    default void showLongTo(long value, StringBuilder builder) {
+        builder.append(showLong(value));
+    }
+
+    @Override
+    default String show(Long value) {
+        return value == null ? "null" : showLong(value);
+    }
+
+    @Override
+    default void showTo(Long value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+        } else {
+            showLongTo(value, builder);
+        }
+    }
+
+    static LongShow standard() {
+        return StandardShows.LONG;
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.fburato.functionalutils.api;
+
+import java.util.Comparator;
+
+final class PrimitiveSlots {
+
+    private PrimitiveSlots() {
+    }
+
+    static IntComparator intComparator(Comparator<?> comparator, int slot) {
+        return bound(IntComparator.class, comparator, "comparator", slot);
+    }
+
+    static LongComparator longComparator(Comparator<?> comparator, int slot) {
+        return bound(LongComparator.class, comparator, "comparator", slot);
+    }
+
+    static DoubleComparator doubleComparator(Comparator<?> comparator, int slot) {
+        return bound(DoubleComparator.class, comparator, "comparator", slot);
+    }
+
+    static IntShow intShow(Show<?> show, int slot) {
+        return bound(IntShow.class, show, "show", slot);
+    }
+
+    static LongShow longShow(Show<?> show, int slot) {
+        return bound(LongShow.class, show, "show", slot);
+    }
+
+    static DoubleShow doubleShow(Show<?> show, int slot) {
+        return bound(DoubleShow.class, show, "show", slot);
+    }
+
+    private static <S> S bound(Class<S> expected, Object bound, String kind, int slot) {
+        if (!expected.isInstance(bound)) {
+            throw new IllegalStateException(String.format("The %s bound to slot %d is not a %s", kind, slot,
+                    expected.getSimpleName()));
+        }
+        return expected.cast(bound);
+    }
+}
@@ -3,4 +3,12 @@ package com.github.fburato.functionalutils.api;
 @FunctionalInterface
 public interface Show<T> {
     String show(T t);
+
+    default void showTo(T t, StringBuilder builder) {
+        builder.append(show(t));
+    }
+
+    default LazyShow<T> lazy(T t) {
+        return new LazyShow<>(this, t);
+    }
 }
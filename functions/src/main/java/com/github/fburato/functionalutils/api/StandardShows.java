@@ -0,0 +1,43 @@
+package com.github.fburato.functionalutils.api;
+
+final class StandardShows {
+
+    static final IntShow INT = new IntShow() {
+        @Override
+        public String showInt(int value) {
+            return Integer.toString(value);
+        }
+
+        @Override
+        public void showIntTo(int value, StringBuilder builder) {
+            builder.append(value);
+        }
+    };
+
+    static final LongShow LONG = new LongShow() {
+        @Override
+        public String showLong(long value) {
+            return Long.toString(value);
+        }
+
+        @Override
+        public void showLongTo(long value, StringBuilder builder) {
+            builder.append(value);
+        }
+    };
+
+    static final DoubleShow DOUBLE = new DoubleShow() {
+        @Override
+        public String showDouble(double value) {
+            return Double.toString(value);
+        }
+
+        @Override
+        public void showDoubleTo(double value, StringBuilder builder) {
+            builder.append(value);
+        }
+    };
+
+    private StandardShows() {
+    }
+}
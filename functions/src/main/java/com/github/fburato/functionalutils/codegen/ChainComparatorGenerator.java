@@ -40,11 +40,15 @@ public class ChainComparatorGenerator implements CodeGenerator {
             fields();
             constructor();
             compareMethod();
+            unrolledMethod();
             basicChainMethod();
             if (!isTerminal) {
                 addComparatorMethod();
             }
             chainMethods();
+            primitiveChainMethods();
+            stageMethod();
+            stagedClass();
             footer();
         }
 
@@ -86,6 +90,10 @@ public class ChainComparatorGenerator implements CodeGenerator {
             writer.println("public int compare(T t1, T t2) { return this.chainableComparator.compare(t1, t2); }");
         }
 
+        private void unrolledMethod() {
+            writer.println("public Comparator<T> unrolled() { return this.chainableComparator.unrolled(); }");
+        }
+
         private void basicChainMethod() {
             writer.println(
                     String.format("public <S> %s<T,%s> chain(Function<T,S> fieldGetter, Comparator<S> comparator){",
@@ -131,6 +139,86 @@ public class ChainComparatorGenerator implements CodeGenerator {
             writer.println("}");
         }
 
+        private void primitiveChainMethods() {
+            for (Primitive primitive : Primitive.values()) {
+                IntStream.rangeClosed(1, index).forEach(i -> primitiveChainMethod(primitive, i));
+            }
+        }
+
+        private void primitiveChainMethod(Primitive primitive, int chainMethodIndex) {
+            writer.println(String.format("public %s<T,%s> chain%s(%s<T> fieldGetter){",
+                    className,
+                    typeDeclaration,
+                    primitive.prefix,
+                    primitive.functionName(chainMethodIndex)));
+            writer.println(String.format(
+                    "return new %s<>(this.chainableComparator.chain%s(fieldGetter, PrimitiveSlots.%sComparator(comparator%d, %d)), %s);",
+                    className,
+                    primitive.prefix,
+                    primitive.prefix.toLowerCase(),
+                    chainMethodIndex,
+                    chainMethodIndex,
+                    comparatorFields()));
+            writer.println("}");
+        }
+
+        private String comparatorFields() {
+            return IntStream.rangeClosed(1, index).mapToObj(i -> String.format("this.comparator%d", i))
+                    .collect(Collectors.joining(", "));
+        }
+
+        private void stageMethod() {
+            writer.println(String.format("public Staged<T,%s> stage(){", typeDeclaration));
+            writer.println(String.format("return new Staged<>(this.chainableComparator.stage(), %s);",
+                    comparatorFields()));
+            writer.println("}");
+        }
+
+        private void stagedClass() {
+            writer.println(String.format("public static final class Staged<T,%s> {", typeDeclaration));
+            writer.println("private final ChainableComparator.Stage<T> stage;");
+            writer.println(IntStream.rangeClosed(1, index)
+                    .mapToObj(i -> String.format("private final Comparator<T%d> comparator%d;", i, i))
+                    .collect(Collectors.joining("\n")));
+            writer.println(String.format("private Staged(ChainableComparator.Stage<T> stage, %s){",
+                    IntStream.rangeClosed(1, index)
+                            .mapToObj(i -> String.format("Comparator<T%d> comparator%d", i, i))
+                            .collect(Collectors.joining(", "))));
+            writer.println("this.stage = stage;");
+            writer.println(IntStream.rangeClosed(1, index)
+                    .mapToObj(i -> String.format("this.comparator%d = comparator%d;", i, i))
+                    .collect(Collectors.joining("\n")));
+            writer.println("}");
+            writer.println(String.format(
+                    "public <S> Staged<T,%s> chain(Function<T,S> fieldGetter, Comparator<S> comparator){",
+                    typeDeclaration));
+            writer.println("this.stage.chain(fieldGetter, comparator);");
+            writer.println("return this;");
+            writer.println("}");
+            IntStream.rangeClosed(1, index).forEach(i -> {
+                writer.println(String.format("public Staged<T,%s> chain(Function%d<T,T%d> fieldGetter){",
+                        typeDeclaration, i, i));
+                writer.println(String.format("this.stage.chain(fieldGetter.asFunction(), comparator%d);", i));
+                writer.println("return this;");
+                writer.println("}");
+            });
+            for (Primitive primitive : Primitive.values()) {
+                IntStream.rangeClosed(1, index).forEach(i -> {
+                    writer.println(String.format("public Staged<T,%s> chain%s(%s<T> fieldGetter){",
+                            typeDeclaration, primitive.prefix, primitive.functionName(i)));
+                    writer.println(String.format(
+                            "this.stage.chain%s(fieldGetter, PrimitiveSlots.%sComparator(comparator%d, %d));",
+                            primitive.prefix, primitive.prefix.toLowerCase(), i, i));
+                    writer.println("return this;");
+                    writer.println("}");
+                });
+            }
+            writer.println(String.format("public %s<T,%s> freeze(){", className, typeDeclaration));
+            writer.println(String.format("return new %s<>(this.stage.freeze(), %s);", className, comparatorFields()));
+            writer.println("}");
+            writer.println("}");
+        }
+
         private void footer() {
             writer.println("}");
         }
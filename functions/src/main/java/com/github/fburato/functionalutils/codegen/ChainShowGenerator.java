@@ -40,12 +40,16 @@ public class ChainShowGenerator implements CodeGenerator {
             fields();
             constructor();
             showMethod();
+            showToMethod();
             basicChainMethod();
             standardChainMethod();
             if (!isTerminal) {
                 addComparatorMethod();
             }
             chainMethods();
+            primitiveChainMethods();
+            stageMethod();
+            stagedClass();
             footer();
         }
 
@@ -83,6 +87,12 @@ public class ChainShowGenerator implements CodeGenerator {
             writer.println("public String show(T t) { return this.chainableShow.show(t); }");
         }
 
+        private void showToMethod() {
+            writer.println("@Override");
+            writer.println(
+                    "public void showTo(T t, StringBuilder builder) { this.chainableShow.showTo(t, builder); }");
+        }
+
         private void basicChainMethod() {
             writer.println(String.format("public <S> %s<T,%s> chain(Function<T,S> fieldGetter, Show<S> show){",
                     className, typeDeclaration));
@@ -137,6 +147,88 @@ public class ChainShowGenerator implements CodeGenerator {
             writer.println("}");
         }
 
+        private void primitiveChainMethods() {
+            for (Primitive primitive : Primitive.values()) {
+                IntStream.rangeClosed(1, index).forEach(i -> primitiveChainMethod(primitive, i));
+            }
+        }
+
+        private void primitiveChainMethod(Primitive primitive, int chainMethodIndex) {
+            writer.println(String.format("public %s<T,%s> chain%s(%s<T> fieldGetter){",
+                    className,
+                    typeDeclaration,
+                    primitive.prefix,
+                    primitive.functionName(chainMethodIndex)));
+            writer.println(String.format(
+                    "return new %s<>(this.chainableShow.chain%s(fieldGetter, PrimitiveSlots.%sShow(show%d, %d)), %s);",
+                    className,
+                    primitive.prefix,
+                    primitive.prefix.toLowerCase(),
+                    chainMethodIndex,
+                    chainMethodIndex,
+                    showFields()));
+            writer.println("}");
+        }
+
+        private String showFields() {
+            return IntStream.rangeClosed(1, index).mapToObj(i -> String.format("this.show%d", i))
+                    .collect(Collectors.joining(", "));
+        }
+
+        private void stageMethod() {
+            writer.println(String.format("public Staged<T,%s> stage(){", typeDeclaration));
+            writer.println(String.format("return new Staged<>(this.chainableShow.stage(), %s);", showFields()));
+            writer.println("}");
+        }
+
+        private void stagedClass() {
+            writer.println(String.format("public static final class Staged<T,%s> {", typeDeclaration));
+            writer.println("private final ChainableShow.Stage<T> stage;");
+            writer.println(IntStream.rangeClosed(1, index)
+                    .mapToObj(i -> String.format("private final Show<T%d> show%d;", i, i))
+                    .collect(Collectors.joining("\n")));
+            writer.println(String.format("private Staged(ChainableShow.Stage<T> stage, %s){",
+                    IntStream.rangeClosed(1, index)
+                            .mapToObj(i -> String.format("Show<T%d> show%d", i, i))
+                            .collect(Collectors.joining(", "))));
+            writer.println("this.stage = stage;");
+            writer.println(IntStream.rangeClosed(1, index)
+                    .mapToObj(i -> String.format("this.show%d = show%d;", i, i))
+                    .collect(Collectors.joining("\n")));
+            writer.println("}");
+            writer.println(String.format("public <S> Staged<T,%s> chain(Function<T,S> fieldGetter, Show<S> show){",
+                    typeDeclaration));
+            writer.println("this.stage.chain(fieldGetter, show);");
+            writer.println("return this;");
+            writer.println("}");
+            writer.println(String.format("public <S> Staged<T,%s> standardChain(Function<T,S> fieldGetter){",
+                    typeDeclaration));
+            writer.println("this.stage.standardChain(fieldGetter);");
+            writer.println("return this;");
+            writer.println("}");
+            IntStream.rangeClosed(1, index).forEach(i -> {
+                writer.println(String.format("public Staged<T,%s> chain(Function%d<T,T%d> fieldGetter){",
+                        typeDeclaration, i, i));
+                writer.println(String.format("this.stage.chain(fieldGetter.asFunction(), show%d);", i));
+                writer.println("return this;");
+                writer.println("}");
+            });
+            for (Primitive primitive : Primitive.values()) {
+                IntStream.rangeClosed(1, index).forEach(i -> {
+                    writer.println(String.format("public Staged<T,%s> chain%s(%s<T> fieldGetter){",
+                            typeDeclaration, primitive.prefix, primitive.functionName(i)));
+                    writer.println(String.format("this.stage.chain%s(fieldGetter, PrimitiveSlots.%sShow(show%d, %d));",
+                            primitive.prefix, primitive.prefix.toLowerCase(), i, i));
+                    writer.println("return this;");
+                    writer.println("}");
+                });
+            }
+            writer.println(String.format("public %s<T,%s> freeze(){", className, typeDeclaration));
+            writer.println(String.format("return new %s<>(this.stage.freeze(), %s);", className, showFields()));
+            writer.println("}");
+            writer.println("}");
+        }
+
         private void footer() {
             writer.println("}");
         }
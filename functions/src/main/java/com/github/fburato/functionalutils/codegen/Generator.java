@@ -19,9 +19,16 @@ public class Generator {
             final String chainComparatorFile = fileName(baseDirectory, "ChainComparator", i);
             final String chainShowFile = fileName(baseDirectory, "ChainShow", i);
             generateFile(functionFile, new FunctionGenerator(i));
+            for (Primitive primitive : Primitive.values()) {
+                generateFile(fileName(baseDirectory, primitive.prefix + "Function", i),
+                        new PrimitiveFunctionGenerator(primitive, i));
+            }
             generateFile(chainComparatorFile, new ChainComparatorGenerator(i, i == types));
             generateFile(chainShowFile, new ChainShowGenerator(i, i == types));
+            generateFile(fileName(baseDirectory, "UnrolledComparator", i), new UnrolledComparatorGenerator(i));
         });
+        generateFile(baseDirectory.getAbsolutePath() + File.separator + "UnrolledComparators.java",
+                new UnrolledComparatorsGenerator(types));
     }
 
     private static String fileName(File basePath, String baseName, int suffix) {
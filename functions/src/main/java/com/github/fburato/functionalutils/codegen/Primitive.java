@@ -0,0 +1,15 @@
+package com.github.fburato.functionalutils.codegen;
+
+public enum Primitive {
+    INT("Int"), LONG("Long"), DOUBLE("Double");
+
+    final String prefix;
+
+    Primitive(String prefix) {
+        this.prefix = prefix;
+    }
+
+    String functionName(int index) {
+        return prefix + "Function" + index;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.fburato.functionalutils.codegen;
+
+import java.io.PrintWriter;
+
+public class PrimitiveFunctionGenerator implements CodeGenerator {
+
+    private final Primitive primitive;
+    private final int suffix;
+
+    public PrimitiveFunctionGenerator(Primitive primitive, int suffix) {
+        this.primitive = primitive;
+        this.suffix = suffix;
+    }
+
+    @Override
+    public void generate(PrintWriter printWriter) {
+        printHeader(printWriter);
+        printInterfaceDeclaration(printWriter);
+        printFooter(printWriter);
+    }
+
+    private void printHeader(PrintWriter printWriter) {
+        printWriter.println("package com.github.fburato.functionalutils.api;");
+        printWriter.println(String.format("import java.util.function.To%sFunction;", primitive.prefix));
+    }
+
+    private void printInterfaceDeclaration(PrintWriter printWriter) {
+        printWriter.println("@FunctionalInterface");
+        printWriter.println(String.format("public interface %s <T> extends To%sFunction<T> {",
+                primitive.functionName(suffix), primitive.prefix));
+    }
+
+    private void printFooter(PrintWriter printWriter) {
+        printWriter.println("}");
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.fburato.functionalutils.codegen;
+
+import java.io.PrintWriter;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class UnrolledComparatorGenerator implements CodeGenerator {
+
+    private final String CLASS_NAME = "UnrolledComparator%d";
+
+    private final int index;
+
+    public UnrolledComparatorGenerator(int index) {
+        this.index = index;
+    }
+
+    @Override
+    public void generate(PrintWriter printWriter) {
+        final var internal = new InternalGenerator(printWriter);
+        internal.generate();
+    }
+
+    private class InternalGenerator {
+        private final PrintWriter writer;
+        private final String className;
+        private final String typeDeclaration;
+
+        private InternalGenerator(PrintWriter writer) {
+            this.writer = writer;
+            this.className = String.format(CLASS_NAME, index);
+            this.typeDeclaration = IntStream.rangeClosed(1, index).mapToObj(i -> "S" + i)
+                    .collect(Collectors.joining(","));
+        }
+
+        private void generate() {
+            header();
+            classDeclaration();
+            fields();
+            constructor();
+            compareMethod();
+            footer();
+        }
+
+        private void header() {
+            writer.println("package com.github.fburato.functionalutils.api;");
+            writer.println("import java.util.Comparator;");
+            writer.println("import java.util.function.Function;");
+        }
+
+        private void classDeclaration() {
+            writer.println(String.format("public final class %s<T,%s> implements Comparator<T> {",
+                    className,
+                    typeDeclaration));
+        }
+
+        private void fields() {
+            writer.println(IntStream.rangeClosed(1, index)
+                    .mapToObj(i -> String.format(
+                            "private final Function<T,S%d> getter%d;\nprivate final Comparator<S%d> comparator%d;",
+                            i, i, i, i))
+                    .collect(Collectors.joining("\n")));
+        }
+
+        private void constructor() {
+            final String parameterList = IntStream.rangeClosed(1, index)
+                    .mapToObj(i -> String.format("Function<T,S%d> getter%d, Comparator<S%d> comparator%d", i, i, i, i))
+                    .collect(Collectors.joining(", "));
+            writer.println(String.format("public %s(%s){", className, parameterList));
+            writer.println(IntStream.rangeClosed(1, index)
+                    .mapToObj(i -> String.format("this.getter%d = getter%d;\nthis.comparator%d = comparator%d;", i, i,
+                            i, i))
+                    .collect(Collectors.joining("\n")));
+            writer.println("}");
+        }
+
+        private void compareMethod() {
+            writer.println("@Override");
+            writer.println("public int compare(T t1, T t2) {");
+            IntStream.range(1, index).forEach(i -> {
+                writer.println(String.format("final int result%d = this.comparator%d.compare(this.getter%d.apply(t1), "
+                        + "this.getter%d.apply(t2));", i, i, i, i));
+                writer.println(String.format("if (result%d != 0) { return result%d; }", i, i));
+            });
+            writer.println(String.format(
+                    "return this.comparator%d.compare(this.getter%d.apply(t1), this.getter%d.apply(t2));",
+                    index, index, index));
+            writer.println("}");
+        }
+
+        private void footer() {
+            writer.println("}");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.fburato.functionalutils.codegen;
+
+import java.io.PrintWriter;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class UnrolledComparatorsGenerator implements CodeGenerator {
+
+    private final int maximumArity;
+
+    public UnrolledComparatorsGenerator(int maximumArity) {
+        this.maximumArity = maximumArity;
+    }
+
+    @Override
+    public void generate(PrintWriter writer) {
+        writer.println("package com.github.fburato.functionalutils.api;");
+        writer.println("import java.util.Comparator;");
+        writer.println("import java.util.List;");
+        writer.println("import java.util.function.Function;");
+        writer.println("public final class UnrolledComparators {");
+        writer.println(String.format("public static final int MAXIMUM_ARITY = %d;", maximumArity));
+        writer.println("private UnrolledComparators() {}");
+        writer.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+        writer.println("public static <T> Comparator<T> of(List<? extends Function<T,?>> getters, "
+                + "List<? extends Comparator<?>> comparators) {");
+        writer.println("if (getters.size() != comparators.size()) {");
+        writer.println("throw new IllegalArgumentException(String.format("
+                + "\"%d getters do not match %d comparators\", getters.size(), comparators.size()));");
+        writer.println("}");
+        writer.println("switch (getters.size()) {");
+        writer.println("case 0: return (t1, t2) -> 0;");
+        IntStream.rangeClosed(1, maximumArity).forEach(i -> writer.println(String.format(
+                "case %d: return new UnrolledComparator%d<>(%s);", i, i,
+                IntStream.range(0, i)
+                        .mapToObj(j -> String.format("(Function) getters.get(%d), (Comparator) comparators.get(%d)",
+                                j, j))
+                        .collect(Collectors.joining(", ")))));
+        writer.println("default: throw new IllegalArgumentException(String.format("
+                + "\"cannot unroll %d steps, the maximum is %d\", getters.size(), MAXIMUM_ARITY));");
+        writer.println("}");
+        writer.println("}");
+        writer.println("}");
+    }
+}
@@ -26,6 +26,11 @@ public class ChainComparatorGeneratorTest {
             for (int i = 1; i <= n; i++) {
                 compiler.addSource(String.format("com.github.fburato.functionalutils.api.Function%d", i),
                         generateFunctionSource(i));
+                for (Primitive primitive : Primitive.values()) {
+                    compiler.addSource(
+                            String.format("com.github.fburato.functionalutils.api.%s", primitive.functionName(i)),
+                            generatePrimitiveFunctionSource(primitive, i));
+                }
                 compiler.addSource(String.format("com.github.fburato.functionalutils.api.ChainComparator%d", i),
                         generateChainComparatorSource(i, i == n));
             }
@@ -50,6 +55,14 @@ public class ChainComparatorGeneratorTest {
         return stringWriter.toString();
     }
 
+    private String generatePrimitiveFunctionSource(Primitive primitive, int index) {
+        final StringWriter stringWriter = new StringWriter();
+        final PrintWriter writer = new PrintWriter(stringWriter);
+        final PrimitiveFunctionGenerator generator = new PrimitiveFunctionGenerator(primitive, index);
+        generator.generate(writer);
+        return stringWriter.toString();
+    }
+
     private String generateFunctionSource(int index) {
         final StringWriter stringWriter = new StringWriter();
         final PrintWriter writer = new PrintWriter(stringWriter);
@@ -122,6 +135,16 @@ public class ChainComparatorGeneratorTest {
         }));
     }
 
+    @Test
+    @DisplayName("define unrolled")
+    void unrolledExists() {
+        compileNComparators(2).values().forEach(c -> rethrow(() -> {
+            final var unrolled = c.getDeclaredMethod("unrolled");
+            assertThat(Modifier.isPublic(unrolled.getModifiers())).isTrue();
+            assertThat(unrolled.getReturnType()).isEqualTo(Comparator.class);
+        }));
+    }
+
     @Test
     @DisplayName("define constructor with many comparator arguments and one chainableComparator")
     void constructor() {
@@ -196,6 +219,39 @@ public class ChainComparatorGeneratorTest {
         });
     }
 
+    @Test
+    @DisplayName("define a staged builder freezing into the chain")
+    void stagedBuilder() {
+        compileNComparators(3).forEach((name, c) -> rethrow(() -> {
+            final var index = extractIndex(name);
+            final var staged = c.getMethod("stage").getReturnType();
+            assertThat(staged.getEnclosingClass()).isEqualTo(c);
+            assertThat(Modifier.isStatic(staged.getModifiers())).isTrue();
+            assertThat(staged.getMethod("freeze").getReturnType()).isEqualTo(c);
+            assertThat(staged.getMethod("chain", Function.class, Comparator.class).getReturnType()).isEqualTo(staged);
+            assertThat(Arrays.stream(staged.getMethods())
+                    .filter(m -> m.getName().equals("chain") && m.getParameterCount() == 1))
+                            .hasSize(index)
+                            .allSatisfy(m -> assertThat(m.getReturnType()).isEqualTo(staged));
+        }));
+    }
+
+    @Test
+    @DisplayName("generate primitive chain methods for every slot")
+    void primitiveChainMethods() {
+        compileNComparators(3).forEach((name, c) -> {
+            final var index = extractIndex(name);
+            for (Primitive primitive : Primitive.values()) {
+                final var methods = Arrays.stream(c.getMethods())
+                        .filter(m -> m.getName().equals("chain" + primitive.prefix)).collect(Collectors.toList());
+                assertThat(methods).hasSize(index).allSatisfy(m -> {
+                    assertThat(m.getReturnType()).isEqualTo(c);
+                    assertThat(m.getParameterTypes()[0].getSimpleName()).startsWith(primitive.prefix + "Function");
+                });
+            }
+        });
+    }
+
     @FunctionalInterface
     private interface RunnableWithException<E extends Throwable> {
         void run() throws E;
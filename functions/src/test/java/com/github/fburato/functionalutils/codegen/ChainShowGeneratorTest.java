@@ -25,6 +25,11 @@ public class ChainShowGeneratorTest {
             for (int i = 1; i <= n; i++) {
                 compiler.addSource(String.format("com.github.fburato.functionalutils.api.Function%d", i),
                         generateFunctionSource(i));
+                for (Primitive primitive : Primitive.values()) {
+                    compiler.addSource(
+                            String.format("com.github.fburato.functionalutils.api.%s", primitive.functionName(i)),
+                            generatePrimitiveFunctionSource(primitive, i));
+                }
                 compiler.addSource(String.format("com.github.fburato.functionalutils.api.ChainShow%d", i),
                         generateChainShowSource(i, i == n));
             }
@@ -49,6 +54,14 @@ public class ChainShowGeneratorTest {
         return stringWriter.toString();
     }
 
+    private String generatePrimitiveFunctionSource(Primitive primitive, int index) {
+        final StringWriter stringWriter = new StringWriter();
+        final PrintWriter writer = new PrintWriter(stringWriter);
+        final PrimitiveFunctionGenerator generator = new PrimitiveFunctionGenerator(primitive, index);
+        generator.generate(writer);
+        return stringWriter.toString();
+    }
+
     private String generateFunctionSource(int index) {
         final StringWriter stringWriter = new StringWriter();
         final PrintWriter writer = new PrintWriter(stringWriter);
@@ -120,6 +133,16 @@ public class ChainShowGeneratorTest {
         }));
     }
 
+    @Test
+    @DisplayName("define showTo")
+    void showToExists() {
+        compileNShow(2).values().forEach(c -> rethrow(() -> {
+            final var showToMethod = c.getDeclaredMethod("showTo", Object.class, StringBuilder.class);
+            assertThat(Modifier.isPublic(showToMethod.getModifiers())).isTrue();
+            assertThat(showToMethod.getReturnType()).isEqualTo(void.class);
+        }));
+    }
+
     @Test
     @DisplayName("define constructor with many show arguments and one chainableShow")
     void constructor() {
@@ -204,6 +227,40 @@ public class ChainShowGeneratorTest {
         });
     }
 
+    @Test
+    @DisplayName("define a staged builder freezing into the chain")
+    void stagedBuilder() {
+        compileNShow(3).forEach((name, c) -> rethrow(() -> {
+            final var index = extractIndex(name);
+            final var staged = c.getMethod("stage").getReturnType();
+            assertThat(staged.getEnclosingClass()).isEqualTo(c);
+            assertThat(Modifier.isStatic(staged.getModifiers())).isTrue();
+            assertThat(staged.getMethod("freeze").getReturnType()).isEqualTo(c);
+            assertThat(staged.getMethod("chain", Function.class, Show.class).getReturnType()).isEqualTo(staged);
+            assertThat(staged.getMethod("standardChain", Function.class).getReturnType()).isEqualTo(staged);
+            assertThat(Arrays.stream(staged.getMethods())
+                    .filter(m -> m.getName().equals("chain") && m.getParameterCount() == 1))
+                            .hasSize(index)
+                            .allSatisfy(m -> assertThat(m.getReturnType()).isEqualTo(staged));
+        }));
+    }
+
+    @Test
+    @DisplayName("generate primitive chain methods for every slot")
+    void primitiveChainMethods() {
+        compileNShow(3).forEach((name, c) -> {
+            final var index = extractIndex(name);
+            for (Primitive primitive : Primitive.values()) {
+                final var methods = Arrays.stream(c.getMethods())
+                        .filter(m -> m.getName().equals("chain" + primitive.prefix)).collect(Collectors.toList());
+                assertThat(methods).hasSize(index).allSatisfy(m -> {
+                    assertThat(m.getReturnType()).isEqualTo(c);
+                    assertThat(m.getParameterTypes()[0].getSimpleName()).startsWith(primitive.prefix + "Function");
+                });
+            }
+        });
+    }
+
     @FunctionalInterface
     private interface RunnableWithException<E extends Throwable> {
         void run() throws E;
@@ -52,4 +52,27 @@ public class GeneratorTest {
                 .isDirectoryContaining(f -> f.getName().equals("ChainShow2.java"))
                 .isDirectoryContaining(f -> f.getName().equals("ChainShow3.java"));
     }
+
+    @Test
+    @DisplayName("generate UnrolledComparator files in destination directory")
+    void testUnrolledComparator() throws IOException {
+        var tempDir = Files.createTempDirectory("destination");
+        Generator.main(new String[] { tempDir.toAbsolutePath().toString(), "3" });
+        assertThat(getGenerationDirectory(tempDir)).exists()
+                .isDirectoryContaining(f -> f.getName().equals("UnrolledComparator1.java"))
+                .isDirectoryContaining(f -> f.getName().equals("UnrolledComparator2.java"))
+                .isDirectoryContaining(f -> f.getName().equals("UnrolledComparator3.java"))
+                .isDirectoryContaining(f -> f.getName().equals("UnrolledComparators.java"));
+    }
+
+    @Test
+    @DisplayName("generate primitive Function files in destination directory")
+    void testPrimitiveFunction() throws IOException {
+        var tempDir = Files.createTempDirectory("destination");
+        Generator.main(new String[] { tempDir.toAbsolutePath().toString(), "2" });
+        assertThat(getGenerationDirectory(tempDir)).exists()
+                .isDirectoryContaining(f -> f.getName().equals("IntFunction1.java"))
+                .isDirectoryContaining(f -> f.getName().equals("LongFunction2.java"))
+                .isDirectoryContaining(f -> f.getName().equals("DoubleFunction2.java"));
+    }
 }
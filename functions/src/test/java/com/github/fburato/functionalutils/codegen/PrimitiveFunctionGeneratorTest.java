@@ -0,0 +1,48 @@
+package com.github.fburato.functionalutils.codegen;
+
+import com.github.fburato.functionalutils.codegen.compiler.InMemoryJavaCompiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrimitiveFunctionGenerator should")
+public class PrimitiveFunctionGeneratorTest {
+
+    private final InMemoryJavaCompiler compiler = InMemoryJavaCompiler.newInstance();
+
+    private Class<?> compile(Primitive primitive, int suffix) throws Exception {
+        final StringWriter stringWriter = new StringWriter();
+        final PrintWriter writer = new PrintWriter(stringWriter);
+        final PrimitiveFunctionGenerator testee = new PrimitiveFunctionGenerator(primitive, suffix);
+        testee.generate(writer);
+        return compiler.compile(
+                String.format("com.github.fburato.functionalutils.api.%s", primitive.functionName(suffix)),
+                stringWriter.toString());
+    }
+
+    @Test
+    @DisplayName("produce functional interfaces named after the primitive and the suffix")
+    void name() throws Exception {
+        final var compiled = compile(Primitive.LONG, 12);
+
+        assertThat(compiled.isInterface()).isTrue();
+        assertThat(compiled.getSimpleName()).isEqualTo("LongFunction12");
+        assertThat(compiled).hasAnnotations(FunctionalInterface.class);
+        assertThat(compiled.getDeclaredMethods()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("produce extensions of the primitive returning functions")
+    void extendPrimitiveFunctions() throws Exception {
+        assertThat(compile(Primitive.INT, 1).getInterfaces()).containsExactly(ToIntFunction.class);
+        assertThat(compile(Primitive.LONG, 1).getInterfaces()).containsExactly(ToLongFunction.class);
+        assertThat(compile(Primitive.DOUBLE, 1).getInterfaces()).containsExactly(ToDoubleFunction.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.fburato.functionalutils.codegen;
+
+import com.github.fburato.functionalutils.codegen.compiler.InMemoryJavaCompiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UnrolledComparatorGenerator compiled comparators should")
+public class UnrolledComparatorGeneratorTest {
+
+    // The generated api classes are on the test classpath and would shadow the compiled ones, so the sources are
+    // compiled into a package of their own.
+    private static final String API = "com.github.fburato.functionalutils.unrolledtest.";
+
+    private final InMemoryJavaCompiler compiler = InMemoryJavaCompiler.newInstance();
+
+    private Map<String, Class<?>> compileNComparators(int n) {
+        try {
+            for (int i = 1; i <= n; i++) {
+                compiler.addSource(API + "UnrolledComparator" + i, generateSource(new UnrolledComparatorGenerator(i)));
+            }
+            compiler.addSource(API + "UnrolledComparators", generateSource(new UnrolledComparatorsGenerator(n)));
+            return compiler.compileAll();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String generateSource(CodeGenerator generator) {
+        final StringWriter stringWriter = new StringWriter();
+        generator.generate(new PrintWriter(stringWriter));
+        return stringWriter.toString().replace("package com.github.fburato.functionalutils.api;",
+                "package com.github.fburato.functionalutils.unrolledtest;");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Comparator<int[]> unrolled(Class<?> factory, List<Function<int[], ?>> getters,
+            List<Comparator<?>> comparators) throws Throwable {
+        try {
+            return (Comparator<int[]>) factory.getMethod("of", List.class, List.class).invoke(null, getters,
+                    comparators);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    @DisplayName("store getters and comparators in final fields")
+    void fields() {
+        final var comparators = compileNComparators(4);
+        IntStream.rangeClosed(1, 4).forEach(n -> {
+            final var clazz = comparators.get(API + "UnrolledComparator" + n);
+            assertThat(clazz.getInterfaces()).containsExactly(Comparator.class);
+            assertThat(clazz.getDeclaredFields()).hasSize(2 * n)
+                    .allSatisfy(f -> assertThat(Modifier.isFinal(f.getModifiers())).isTrue());
+        });
+    }
+
+    @Test
+    @DisplayName("compare in step order")
+    void compare() throws Throwable {
+        final var factory = compileNComparators(3).get(API + "UnrolledComparators");
+        final Comparator<Integer> natural = Comparator.naturalOrder();
+        final List<Function<int[], ?>> getters = List.of(a -> a[0], a -> a[1], a -> a[2]);
+        final Comparator<int[]> testee = unrolled(factory, getters, List.of(natural, natural.reversed(), natural));
+
+        assertThat(testee.compare(new int[] { 1, 5, 5 }, new int[] { 2, 0, 0 })).isLessThan(0);
+        assertThat(testee.compare(new int[] { 1, 5, 5 }, new int[] { 1, 6, 0 })).isGreaterThan(0);
+        assertThat(testee.compare(new int[] { 1, 5, 5 }, new int[] { 1, 5, 6 })).isLessThan(0);
+        assertThat(testee.compare(new int[] { 1, 5, 5 }, new int[] { 1, 5, 5 })).isEqualTo(0);
+        assertThat(unrolled(factory, List.of(), List.of()).compare(new int[] { 1 }, new int[] { 2 })).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("reject more steps than the maximum arity and mismatched steps")
+    void reject() {
+        final var factory = compileNComparators(2).get(API + "UnrolledComparators");
+        final Comparator<Integer> natural = Comparator.naturalOrder();
+        final List<Function<int[], ?>> getters = List.of(a -> a[0], a -> a[1], a -> a[2]);
+
+        assertThatThrownBy(() -> unrolled(factory, getters, List.of(natural, natural, natural)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> unrolled(factory, getters, List.of(natural)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
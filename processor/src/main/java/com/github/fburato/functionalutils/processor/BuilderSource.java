@@ -0,0 +1,117 @@
+package com.github.fburato.functionalutils.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+final class BuilderSource implements SourceGenerator {
+
+    private final DerivedType type;
+    private final List<VariableElement> constructorParameters;
+    private final List<ExecutableElement> setters;
+    private final String className;
+
+    BuilderSource(DerivedType type, Elements elements) {
+        this.type = type;
+        this.className = type.generatedName("Builder");
+        final ExecutableElement constructor = ElementFilter.constructorsIn(type.element.getEnclosedElements())
+                .stream()
+                .filter(c -> !c.getModifiers().contains(Modifier.PRIVATE))
+                .max(Comparator.comparingInt(c -> c.getParameters().size()))
+                .orElseThrow(() -> new DerivationException(
+                        String.format("Cannot derive builder for %s: no accessible constructor", type.qualifiedName)));
+        this.constructorParameters = List.copyOf(constructor.getParameters());
+        final List<String> names = new ArrayList<>();
+        constructorParameters.forEach(p -> names.add(p.getSimpleName().toString()));
+        final List<ExecutableElement> result = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type.element))) {
+            final String name = method.getSimpleName().toString();
+            if (name.length() > 3 && name.startsWith("set") && method.getParameters().size() == 1
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && !names.contains(propertyName(method))) {
+                names.add(propertyName(method));
+                result.add(method);
+            }
+        }
+        this.setters = List.copyOf(result);
+    }
+
+    private static String propertyName(ExecutableElement setter) {
+        final String name = setter.getSimpleName().toString();
+        return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+    }
+
+    @Override
+    public String className() {
+        return className;
+    }
+
+    @Override
+    public void generate(PrintWriter writer) {
+        header(writer);
+        writer.println(String.format("public final class %s extends Builder<%s, %s> {", className,
+                type.qualifiedName, className));
+        fields(writer);
+        constructor(writer);
+        makeValueMethod(writer);
+        baseBuilderMethod(writer);
+        writer.println("}");
+    }
+
+    private void header(PrintWriter writer) {
+        if (!type.packageName.isEmpty()) {
+            writer.println(String.format("package %s;", type.packageName));
+            writer.println();
+        }
+        writer.println("import com.github.fburato.functionalutils.utils.Builder;");
+        writer.println("import javax.annotation.processing.Generated;");
+        writer.println();
+        writer.println(String.format("@Generated(\"%s\")", DeriveProcessor.class.getName()));
+    }
+
+    private void fields(PrintWriter writer) {
+        for (VariableElement parameter : constructorParameters) {
+            writer.println(String.format("    public %s %s;", parameter.asType(), parameter.getSimpleName()));
+        }
+        for (ExecutableElement setter : setters) {
+            writer.println(String.format("    public %s %s;", setter.getParameters().get(0).asType(),
+                    propertyName(setter)));
+        }
+    }
+
+    private void constructor(PrintWriter writer) {
+        writer.println();
+        writer.println(String.format("    private %s() {", className));
+        writer.println(String.format("        super(%s::new);", className));
+        writer.println("    }");
+    }
+
+    private void makeValueMethod(PrintWriter writer) {
+        writer.println();
+        writer.println("    @Override");
+        writer.println(String.format("    protected %s makeValue() {", type.qualifiedName));
+        writer.println(String.format("        final %s result = new %s(%s);", type.qualifiedName, type.qualifiedName,
+                constructorParameters.stream().map(p -> p.getSimpleName().toString())
+                        .collect(Collectors.joining(", "))));
+        for (ExecutableElement setter : setters) {
+            writer.println(String.format("        result.%s(%s);", setter.getSimpleName(), propertyName(setter)));
+        }
+        writer.println("        return result;");
+        writer.println("    }");
+    }
+
+    private void baseBuilderMethod(PrintWriter writer) {
+        writer.println();
+        writer.println(String.format("    public static %s baseBuilder() {", className));
+        writer.println(String.format("        return new %s();", className));
+        writer.println("    }");
+    }
+}
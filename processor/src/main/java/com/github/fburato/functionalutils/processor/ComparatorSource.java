@@ -0,0 +1,144 @@
+package com.github.fburato.functionalutils.processor;
+
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.PrintWriter;
+import java.util.List;
+
+final class ComparatorSource implements SourceGenerator {
+
+    private final DerivedType type;
+    private final List<Property> properties;
+    private final boolean nullSafe;
+    private final String className;
+
+    ComparatorSource(DerivedType type, List<Property> properties, boolean nullSafe, Types types, Elements elements) {
+        this.type = type;
+        this.properties = List.copyOf(properties);
+        this.nullSafe = nullSafe;
+        this.className = type.generatedName("Comparator");
+        for (Property property : properties) {
+            if (!property.type.getKind().isPrimitive() && !comparable(property.type, types, elements)) {
+                throw new DerivationException(String.format("Cannot derive comparator for %s: %s of type %s is not "
+                        + "comparable", type.qualifiedName, property.name, property.type));
+            }
+        }
+    }
+
+    private static boolean comparable(TypeMirror type, Types types, Elements elements) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final DeclaredType comparable = types.getDeclaredType(elements.getTypeElement("java.lang.Comparable"),
+                types.getWildcardType(null, type));
+        return types.isAssignable(type, comparable);
+    }
+
+    @Override
+    public String className() {
+        return className;
+    }
+
+    @Override
+    public void generate(PrintWriter writer) {
+        header(writer);
+        writer.println(String.format("public final class %s implements ChainableComparator<%s> {", className,
+                type.qualifiedName));
+        compareMethod(writer);
+        chainMethod(writer);
+        writer.println("}");
+    }
+
+    private void header(PrintWriter writer) {
+        if (!type.packageName.isEmpty()) {
+            writer.println(String.format("package %s;", type.packageName));
+            writer.println();
+        }
+        writer.println("import com.github.fburato.functionalutils.api.ChainableComparator;");
+        writer.println("import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;");
+        writer.println("import java.util.Comparator;");
+        writer.println("import java.util.function.Function;");
+        writer.println("import javax.annotation.processing.Generated;");
+        writer.println();
+        writer.println(String.format("@Generated(\"%s\")", DeriveProcessor.class.getName()));
+    }
+
+    private void compareMethod(PrintWriter writer) {
+        writer.println();
+        writer.println("    @Override");
+        writer.println(String.format("    public int compare(%s o1, %s o2) {", type.qualifiedName, type.qualifiedName));
+        if (!properties.isEmpty()) {
+            writer.println("        int result;");
+        }
+        for (int i = 0; i < properties.size(); i++) {
+            final Property property = properties.get(i);
+            if (property.type.getKind().isPrimitive()) {
+                writer.println(String.format("        result = %s.compare(%s, %s);", boxed(property.type.getKind()),
+                        property.read("o1"), property.read("o2")));
+                returnIfDifferent(writer, "        ");
+            } else if (nullSafe) {
+                writer.println(String.format("        final %s left%d = %s;", property.type, i, property.read("o1")));
+                writer.println(String.format("        final %s right%d = %s;", property.type, i, property.read("o2")));
+                writer.println(String.format("        if (left%d != right%d) {", i, i));
+                writer.println(String.format("            if (left%d == null) {", i));
+                writer.println("                return -1;");
+                writer.println("            }");
+                writer.println(String.format("            if (right%d == null) {", i));
+                writer.println("                return 1;");
+                writer.println("            }");
+                writer.println(String.format("            result = left%d.compareTo(right%d);", i, i));
+                returnIfDifferent(writer, "            ");
+                writer.println("        }");
+            } else {
+                writer.println(String.format("        result = %s.compareTo(%s);", property.read("o1"),
+                        property.read("o2")));
+                returnIfDifferent(writer, "        ");
+            }
+        }
+        writer.println("        return 0;");
+        writer.println("    }");
+    }
+
+    private static void returnIfDifferent(PrintWriter writer, String indent) {
+        writer.println(indent + "if (result != 0) {");
+        writer.println(indent + "    return result;");
+        writer.println(indent + "}");
+    }
+
+    private static String boxed(TypeKind kind) {
+        switch (kind) {
+        case BOOLEAN:
+            return "Boolean";
+        case BYTE:
+            return "Byte";
+        case SHORT:
+            return "Short";
+        case CHAR:
+            return "Character";
+        case INT:
+            return "Integer";
+        case LONG:
+            return "Long";
+        case FLOAT:
+            return "Float";
+        default:
+            return "Double";
+        }
+    }
+
+    private void chainMethod(PrintWriter writer) {
+        writer.println();
+        writer.println("    @Override");
+        writer.println(String.format(
+                "    public <S> ChainableComparator<%s> chain(Function<%s, S> fieldGetter, Comparator<S> comparator) {",
+                type.qualifiedName, type.qualifiedName));
+        writer.println(String.format(
+                "        return TypeSafeChainComparator.%s(%s.class).chain(Function.identity(), this).chain(fieldGetter, "
+                        + "comparator);",
+                nullSafe ? "createNullSafe" : "create", type.qualifiedName));
+        writer.println("    }");
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.fburato.functionalutils.processor;
+
+final class DerivationException extends RuntimeException {
+    DerivationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.fburato.functionalutils.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface DeriveComparator {
+    String[] fields();
+
+    boolean nullSafe() default false;
+}
@@ -0,0 +1,73 @@
+package com.github.fburato.functionalutils.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@SupportedAnnotationTypes({ "com.github.fburato.functionalutils.processor.DeriveComparator",
+        "com.github.fburato.functionalutils.processor.DeriveShow",
+        "com.github.fburato.functionalutils.processor.DeriveBuilder" })
+public final class DeriveProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        derive(roundEnv.getElementsAnnotatedWith(DeriveComparator.class), type -> {
+            final DeriveComparator annotation = type.element.getAnnotation(DeriveComparator.class);
+            return new ComparatorSource(type, properties(type, annotation.fields()), annotation.nullSafe(),
+                    processingEnv.getTypeUtils(), processingEnv.getElementUtils());
+        });
+        derive(roundEnv.getElementsAnnotatedWith(DeriveShow.class), type -> {
+            final String[] fields = type.element.getAnnotation(DeriveShow.class).fields();
+            return new ShowSource(type, fields.length == 0 ? type.declaredProperties() : properties(type, fields));
+        });
+        derive(roundEnv.getElementsAnnotatedWith(DeriveBuilder.class),
+                type -> new BuilderSource(type, processingEnv.getElementUtils()));
+        return true;
+    }
+
+    private static List<Property> properties(DerivedType type, String[] fields) {
+        final List<Property> result = new ArrayList<>(fields.length);
+        for (String field : fields) {
+            result.add(type.property(field));
+        }
+        return result;
+    }
+
+    private void derive(Set<? extends Element> elements, Function<DerivedType, SourceGenerator> generatorFactory) {
+        for (Element element : elements) {
+            try {
+                final DerivedType type = DerivedType.of(element, processingEnv.getElementUtils());
+                write(type, generatorFactory.apply(type));
+            } catch (DerivationException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+            }
+        }
+    }
+
+    private void write(DerivedType type, SourceGenerator generator) {
+        final String name = type.packageName.isEmpty() ? generator.className()
+                : type.packageName + "." + generator.className();
+        try (PrintWriter writer = new PrintWriter(
+                processingEnv.getFiler().createSourceFile(name, type.element).openWriter())) {
+            generator.generate(writer);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("Cannot write %s: %s", name, e.getMessage()), type.element);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.fburato.functionalutils.processor;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+final class DerivedType {
+    final TypeElement element;
+    final String packageName;
+    final String qualifiedName;
+    final String simpleName;
+    private final String flatName;
+    private final List<? extends Element> members;
+
+    private DerivedType(TypeElement element, String packageName, String flatName, List<? extends Element> members) {
+        this.element = element;
+        this.packageName = packageName;
+        this.qualifiedName = element.getQualifiedName().toString();
+        this.simpleName = element.getSimpleName().toString();
+        this.flatName = flatName;
+        this.members = members;
+    }
+
+    static DerivedType of(Element element, Elements elements) {
+        if (element.getKind() != ElementKind.CLASS) {
+            throw new DerivationException(String.format("Cannot derive for %s: only classes are supported", element));
+        }
+        final TypeElement type = (TypeElement) element;
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new DerivationException(String.format("Cannot derive for %s: generic classes are not supported",
+                    type.getQualifiedName()));
+        }
+        String flatName = type.getSimpleName().toString();
+        Element current = type;
+        while (current.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+            if (current.getModifiers().contains(Modifier.PRIVATE) || (current.getKind() == ElementKind.CLASS
+                    && ((TypeElement) current).getNestingKind() == NestingKind.MEMBER
+                    && !current.getModifiers().contains(Modifier.STATIC))) {
+                throw new DerivationException(String.format(
+                        "Cannot derive for %s: nested classes must be static and not private",
+                        type.getQualifiedName()));
+            }
+            current = current.getEnclosingElement();
+            flatName = current.getSimpleName() + "_" + flatName;
+        }
+        return new DerivedType(type, elements.getPackageOf(type).getQualifiedName().toString(), flatName,
+                elements.getAllMembers(type));
+    }
+
+    String generatedName(String suffix) {
+        return flatName + suffix;
+    }
+
+    Property property(String name) {
+        return getter(name).or(() -> field(name))
+                .orElseThrow(() -> new DerivationException(String.format(
+                        "Cannot derive for %s: no accessible getter or field for %s", qualifiedName, name)));
+    }
+
+    List<Property> declaredProperties() {
+        final List<Property> result = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                final String name = field.getSimpleName().toString();
+                getter(name).or(() -> field(name)).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+
+    private Optional<Property> getter(String name) {
+        final String capitalised = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            final String methodName = method.getSimpleName().toString();
+            if ((methodName.equals("get" + capitalised) || methodName.equals("is" + capitalised))
+                    && method.getParameters().isEmpty()
+                    && method.getReturnType().getKind() != TypeKind.VOID
+                    && accessible(method)) {
+                return Optional.of(new Property(name, methodName + "()", method.getReturnType()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Property> field(String name) {
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            if (field.getSimpleName().contentEquals(name) && accessible(field)) {
+                return Optional.of(new Property(name, name, field.asType()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean accessible(Element member) {
+        return !member.getModifiers().contains(Modifier.PRIVATE) && !member.getModifiers().contains(Modifier.STATIC);
+    }
+}
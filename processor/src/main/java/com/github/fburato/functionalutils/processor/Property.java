@@ -0,0 +1,19 @@
+package com.github.fburato.functionalutils.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+final class Property {
+    final String name;
+    final String accessor;
+    final TypeMirror type;
+
+    Property(String name, String accessor, TypeMirror type) {
+        this.name = name;
+        this.accessor = accessor;
+        this.type = type;
+    }
+
+    String read(String variable) {
+        return variable + "." + accessor;
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.fburato.functionalutils.processor;
+
+import javax.lang.model.type.TypeKind;
+import java.io.PrintWriter;
+import java.util.List;
+
+final class ShowSource implements SourceGenerator {
+
+    private final DerivedType type;
+    private final List<Property> properties;
+    private final String className;
+
+    ShowSource(DerivedType type, List<Property> properties) {
+        this.type = type;
+        this.properties = List.copyOf(properties);
+        this.className = type.generatedName("Show");
+    }
+
+    @Override
+    public String className() {
+        return className;
+    }
+
+    @Override
+    public void generate(PrintWriter writer) {
+        header(writer);
+        writer.println(String.format("public final class %s implements ChainableShow<%s> {", className,
+                type.qualifiedName));
+        showMethod(writer);
+        showToMethod(writer);
+        chainMethods(writer);
+        fieldsMethod(writer);
+        writer.println("}");
+    }
+
+    private void header(PrintWriter writer) {
+        if (!type.packageName.isEmpty()) {
+            writer.println(String.format("package %s;", type.packageName));
+            writer.println();
+        }
+        writer.println("import com.github.fburato.functionalutils.api.ChainableShow;");
+        writer.println("import com.github.fburato.functionalutils.api.Show;");
+        writer.println("import com.github.fburato.functionalutils.utils.TypeSafeChainShow;");
+        writer.println("import java.util.function.Function;");
+        writer.println("import javax.annotation.processing.Generated;");
+        writer.println();
+        writer.println(String.format("@Generated(\"%s\")", DeriveProcessor.class.getName()));
+    }
+
+    private void showMethod(PrintWriter writer) {
+        writer.println();
+        writer.println("    @Override");
+        writer.println(String.format("    public String show(%s t) {", type.qualifiedName));
+        writer.println("        final StringBuilder builder = new StringBuilder();");
+        writer.println("        showTo(t, builder);");
+        writer.println("        return builder.toString();");
+        writer.println("    }");
+    }
+
+    private void showToMethod(PrintWriter writer) {
+        writer.println();
+        writer.println("    @Override");
+        writer.println(String.format("    public void showTo(%s t, StringBuilder builder) {", type.qualifiedName));
+        writer.println(String.format("        builder.append(\"%s(\");", type.simpleName));
+        for (int i = 0; i < properties.size(); i++) {
+            if (i > 0) {
+                writer.println("        builder.append(',');");
+            }
+            final Property property = properties.get(i);
+            writer.println(String.format("        builder.append(%s%s);",
+                    property.type.getKind() == TypeKind.ARRAY ? "(Object) " : "", property.read("t")));
+        }
+        writer.println("        builder.append(')');");
+        writer.println("    }");
+    }
+
+    private void chainMethods(PrintWriter writer) {
+        writer.println();
+        writer.println("    @Override");
+        writer.println(
+                String.format("    public <S> ChainableShow<%s> chain(Function<%s, S> fieldGetter, Show<S> show) {",
+                        type.qualifiedName, type.qualifiedName));
+        writer.println("        return fields().chain(fieldGetter, show);");
+        writer.println("    }");
+        writer.println();
+        writer.println("    @Override");
+        writer.println(String.format("    public <S> ChainableShow<%s> standardChain(Function<%s, S> fieldGetter) {",
+                type.qualifiedName, type.qualifiedName));
+        writer.println("        return fields().standardChain(fieldGetter);");
+        writer.println("    }");
+    }
+
+    private void fieldsMethod(PrintWriter writer) {
+        writer.println();
+        writer.println(String.format("    private TypeSafeChainShow<%s> fields() {", type.qualifiedName));
+        writer.print(String.format("        return TypeSafeChainShow.create(%s.class)", type.qualifiedName));
+        for (Property property : properties) {
+            writer.println();
+            writer.print(String.format("                .standardChain(\"%s\", t -> t.%s)", property.name,
+                    property.accessor));
+        }
+        writer.println(";");
+        writer.println("    }");
+    }
+}
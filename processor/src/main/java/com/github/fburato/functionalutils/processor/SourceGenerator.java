@@ -0,0 +1,9 @@
+package com.github.fburato.functionalutils.processor;
+
+import java.io.PrintWriter;
+
+interface SourceGenerator {
+    String className();
+
+    void generate(PrintWriter printWriter);
+}
@@ -0,0 +1,74 @@
+package com.github.fburato.functionalutils.processor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+final class Compilation {
+    final boolean success;
+    final List<String> errors;
+    final ClassLoader classLoader;
+    private final Path generated;
+
+    private Compilation(boolean success, List<String> errors, ClassLoader classLoader, Path generated) {
+        this.success = success;
+        this.errors = errors;
+        this.classLoader = classLoader;
+        this.generated = generated;
+    }
+
+    static Compilation compile(Map<String, String> sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final Path classes = Files.createTempDirectory("classes");
+        final Path generated = Files.createTempDirectory("generated");
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final List<JavaFileObject> units = sources.entrySet().stream()
+                .map(entry -> new Source(entry.getKey(), entry.getValue())).collect(Collectors.toList());
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s",
+                        generated.toString()),
+                null, units);
+        task.setProcessors(List.of(new DeriveProcessor()));
+        final boolean success = task.call();
+        final List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR).map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+        final ClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                Compilation.class.getClassLoader());
+        return new Compilation(success, errors, classLoader, generated);
+    }
+
+    Class<?> load(String className) throws ClassNotFoundException {
+        return classLoader.loadClass(className);
+    }
+
+    String generatedSource(String className) throws IOException {
+        return Files.readString(generated.resolve(className.replace('.', '/') + ".java"));
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String contents;
+
+        private Source(String className, String contents) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.contents = contents;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return contents;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.github.fburato.functionalutils.processor;
+
+import com.github.fburato.functionalutils.api.ChainableComparator;
+import com.github.fburato.functionalutils.api.ChainableShow;
+import com.github.fburato.functionalutils.utils.Builder;
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeriveProcessor")
+class DeriveProcessorTest {
+
+    static final String PERSON = String.join("\n",
+            "package sample;",
+            "import com.github.fburato.functionalutils.processor.*;",
+            "@DeriveComparator(fields = { \"surname\", \"age\", \"active\" }, nullSafe = true)",
+            "@DeriveShow",
+            "@DeriveBuilder",
+            "public class Person {",
+            "    private static final int IGNORED = 0;",
+            "    private final String surname;",
+            "    private final int age;",
+            "    public double score;",
+            "    private boolean active;",
+            "    public Person(String surname, int age) {",
+            "        this.surname = surname;",
+            "        this.age = age;",
+            "    }",
+            "    public String getSurname() { return surname; }",
+            "    public int getAge() { return age; }",
+            "    public boolean isActive() { return active; }",
+            "    public void setActive(boolean active) { this.active = active; }",
+            "}");
+
+    static final String OUTER = String.join("\n",
+            "package sample;",
+            "import com.github.fburato.functionalutils.processor.*;",
+            "public class Outer {",
+            "    @DeriveShow(fields = { \"values\", \"id\" })",
+            "    @DeriveComparator(fields = { \"id\" })",
+            "    public static class Inner {",
+            "        public long id;",
+            "        public char[] values;",
+            "    }",
+            "}");
+
+    static Compilation compilation;
+
+    @BeforeAll
+    static void compile() throws Exception {
+        compilation = Compilation.compile(Map.of("sample.Person", PERSON, "sample.Outer", OUTER));
+        assertThat(compilation.errors).isEmpty();
+        assertThat(compilation.success).isTrue();
+    }
+
+    static Object person(String surname, int age, boolean active) throws Exception {
+        final Class<?> clazz = compilation.load("sample.Person");
+        final Object person = clazz.getConstructor(String.class, int.class).newInstance(surname, age);
+        clazz.getMethod("setActive", boolean.class).invoke(person, active);
+        return person;
+    }
+
+    static Object read(Object target, String getter) {
+        try {
+            return target.getClass().getMethod(getter).invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T instance(String className) throws Exception {
+        return (T) compilation.load(className).getConstructor().newInstance();
+    }
+
+    @Nested
+    @DisplayName("DeriveComparator")
+    class ComparatorTest {
+
+        @Test
+        @DisplayName("should compare like the equivalent null safe chain")
+        void testSameResults() throws Exception {
+            final ChainableComparator<Object> testee = instance("sample.PersonComparator");
+            final Comparator<Object> expected = TypeSafeChainComparator.createNullSafe(Object.class)
+                    .chain(o -> (String) read(o, "getSurname"), String::compareTo)
+                    .chain(o -> (Integer) read(o, "getAge"), Integer::compareTo)
+                    .chain(o -> (Boolean) read(o, "isActive"), Boolean::compareTo);
+            final List<Object> people = new ArrayList<>();
+            for (String surname : new String[] { null, "Doe", "Smith" }) {
+                for (int age = 40; age <= 42; age++) {
+                    people.add(person(surname, age, true));
+                    people.add(person(surname, age, false));
+                }
+            }
+
+            for (Object first : people) {
+                for (Object second : people) {
+                    assertThat(Integer.signum(testee.compare(first, second)))
+                            .isEqualTo(Integer.signum(expected.compare(first, second)));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should read fields directly without lambdas")
+        void testDirectCalls() throws Exception {
+            final String source = compilation.generatedSource("sample.PersonComparator");
+            final String compare = source.substring(source.indexOf("public int compare"),
+                    source.indexOf("public <S> ChainableComparator"));
+
+            assertThat(compare).contains("Integer.compare(o1.getAge(), o2.getAge())")
+                    .contains("left0.compareTo(right0)")
+                    .doesNotContain("->", "::");
+        }
+
+        @Test
+        @DisplayName("should fall back to a chain comparator when chained")
+        void testChain() throws Exception {
+            final ChainableComparator<Object> testee = instance("sample.PersonComparator");
+            final Comparator<Object> chained = testee.chain(o -> ((Number) read(o, "getAge")).intValue() % 2,
+                    Comparator.<Integer> reverseOrder());
+
+            assertThat(chained.compare(person("Doe", 40, true), person("Doe", 40, true))).isEqualTo(0);
+            assertThat(chained.compare(person("Doe", 40, true), person("Smith", 40, true))).isLessThan(0);
+        }
+
+        @Test
+        @DisplayName("should support public fields of nested classes")
+        void testNested() throws Exception {
+            final Comparator<Object> testee = instance("sample.Outer_InnerComparator");
+            final Class<?> inner = compilation.load("sample.Outer$Inner");
+            final Object first = inner.getConstructor().newInstance();
+            final Object second = inner.getConstructor().newInstance();
+            inner.getField("id").set(second, 3L);
+
+            assertThat(testee.compare(first, second)).isLessThan(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("DeriveShow")
+    class ShowTest {
+
+        @Test
+        @DisplayName("should render declared fields in declaration order")
+        void testShow() throws Exception {
+            final ChainableShow<Object> testee = instance("sample.PersonShow");
+            final Object person = person("Smith", 42, true);
+            person.getClass().getField("score").set(person, 1.5);
+
+            assertThat(testee.show(person)).isEqualTo("Person(Smith,42,1.5,true)");
+            assertThat(testee.show(person(null, 1, false))).isEqualTo("Person(null,1,0.0,false)");
+        }
+
+        @Test
+        @DisplayName("should fall back to a chain show when chained")
+        void testChain() throws Exception {
+            final ChainableShow<Object> testee = instance("sample.PersonShow");
+
+            assertThat(testee.standardChain(o -> "extra").show(person("Doe", 1, false)))
+                    .isEqualTo("Person(Doe,1,0.0,false,extra)");
+        }
+
+        @Test
+        @DisplayName("should render selected fields and arrays like the standard show")
+        void testSelected() throws Exception {
+            final ChainableShow<Object> testee = instance("sample.Outer_InnerShow");
+            final Object inner = compilation.load("sample.Outer$Inner").getConstructor().newInstance();
+
+            assertThat(testee.show(inner)).isEqualTo("Inner(null,0)");
+        }
+    }
+
+    @Nested
+    @DisplayName("DeriveBuilder")
+    class BuilderTest {
+
+        @Test
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @DisplayName("should build with constructor arguments and setters")
+        void testBuild() throws Exception {
+            final Builder base = (Builder) compilation.load("sample.PersonBuilder").getMethod("baseBuilder")
+                    .invoke(null);
+            final Builder named = base.with(b -> set(b, "surname", "Doe"));
+
+            final Object built = named.with(b -> {
+                set(b, "age", 7);
+                set(b, "active", true);
+            }).build();
+
+            assertThat(read(built, "getSurname")).isEqualTo("Doe");
+            assertThat(read(built, "getAge")).isEqualTo(7);
+            assertThat(read(built, "isActive")).isEqualTo(true);
+            assertThat(read(named.build(), "getAge")).isEqualTo(0);
+            assertThat(read(base.build(), "getSurname")).isNull();
+        }
+
+        private void set(Object builder, String field, Object value) {
+            try {
+                builder.getClass().getField(field).set(builder, value);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("should report errors")
+    class ErrorTest {
+
+        private List<String> errors(String body) throws Exception {
+            final var result = Compilation.compile(Map.of("sample.Broken", String.join("\n",
+                    "package sample;",
+                    "import com.github.fburato.functionalutils.processor.*;",
+                    body)));
+            assertThat(result.success).isFalse();
+            return result.errors;
+        }
+
+        @Test
+        @DisplayName("for unknown fields")
+        void testUnknown() throws Exception {
+            assertThat(errors("@DeriveComparator(fields = \"missing\") public class Broken {}"))
+                    .anySatisfy(e -> assertThat(e).contains("no accessible getter or field for missing"));
+        }
+
+        @Test
+        @DisplayName("for fields which are not comparable")
+        void testNotComparable() throws Exception {
+            assertThat(errors("@DeriveComparator(fields = \"value\") public class Broken { public Object value; }"))
+                    .anySatisfy(e -> assertThat(e).contains("value of type java.lang.Object is not comparable"));
+        }
+
+        @Test
+        @DisplayName("for generic classes")
+        void testGeneric() throws Exception {
+            assertThat(errors("@DeriveShow public class Broken<T> { public T value; }"))
+                    .anySatisfy(e -> assertThat(e).contains("generic classes are not supported"));
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+public final class Accessor<T, S> implements Function<T, S> {
+
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandle IS_NULL;
+
+    static {
+        try {
+            IS_NULL = MethodHandles.lookup().findStatic(Accessor.class, "isNull",
+                    MethodType.methodType(boolean.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final class Binding {
+        private final MethodHandles.Lookup lookup;
+        private final Class<?> owner;
+        private final MethodHandle getter;
+
+        private Binding(MethodHandles.Lookup lookup, Class<?> owner, MethodHandle getter) {
+            this.lookup = lookup;
+            this.owner = owner;
+            this.getter = getter;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <F> F bind(Class<F> functionalInterface, String method, Class<?> erasedReturn,
+                Class<?> instantiatedReturn) {
+            try {
+                return (F) LambdaMetafactory
+                        .metafactory(lookup, method, MethodType.methodType(functionalInterface),
+                                MethodType.methodType(erasedReturn, Object.class), getter,
+                                MethodType.methodType(instantiatedReturn, owner))
+                        .getTarget().invoke();
+            } catch (LambdaConversionException | ReflectiveOperationException e) {
+                return null;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private final String path;
+    private final Class<?> type;
+    private final MethodHandle handle;
+    private final Binding binding;
+    private final Function<Object, Object> function;
+
+    private Accessor(String path, Class<?> type, MethodHandle handle, Binding binding,
+            Function<Object, Object> function) {
+        this.path = path;
+        this.type = type;
+        this.handle = handle;
+        this.binding = binding;
+        this.function = function;
+    }
+
+    private static Accessor<Object, Object> create(String path, Class<?> type, MethodHandle handle,
+            Binding binding) {
+        final Function<Object, Object> bound = binding == null ? null
+                : binding.bind(Function.class, "apply", Object.class, wrap(type));
+        return new Accessor<>(path, type, handle, bound == null ? null : binding,
+                bound == null ? invoking(handle.asType(OBJECT_GETTER)) : bound);
+    }
+
+    public static <T, S> Accessor<T, S> resolve(MethodHandles.Lookup lookup, Class<T> owner, String path,
+            Class<S> type) {
+        final String[] segments = path.split("\\.", -1);
+        Accessor<T, Object> result = null;
+        Class<?> current = owner;
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Invalid path '%s'", path));
+            }
+            if (current.isPrimitive()) {
+                throw new IllegalArgumentException(String.format("Cannot resolve '%s' of primitive %s in path '%s'",
+                        segment, current, path));
+            }
+            final Accessor<Object, Object> next = segment(lookup, current, segment);
+            result = result == null ? cast(next) : result.then(next);
+            current = next.type;
+        }
+        return checked(result, type);
+    }
+
+    public static <T, S> Accessor<T, S> of(String name, MethodHandle getter, Class<S> type) {
+        if (getter.type().parameterCount() != 1 || getter.type().parameterType(0).isPrimitive()
+                || getter.type().returnType() == void.class) {
+            throw new IllegalArgumentException(String.format("%s is not a getter", getter));
+        }
+        return checked(create(name, getter.type().returnType(), getter, null), type);
+    }
+
+    public static <T, S> Accessor<T, S> of(String name, VarHandle field, Class<S> type) {
+        if (field.coordinateTypes().size() != 1) {
+            throw new IllegalArgumentException(String.format("%s is not an instance field handle", field));
+        }
+        return of(name, field.toMethodHandle(VarHandle.AccessMode.GET), type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> Accessor<T, S> cast(Accessor<?, ?> accessor) {
+        return (Accessor<T, S>) accessor;
+    }
+
+    private static <T, S> Accessor<T, S> checked(Accessor<?, ?> accessor, Class<S> type) {
+        if (!wrap(type).isAssignableFrom(wrap(accessor.type))) {
+            throw new IllegalArgumentException(String.format("'%s' is of type %s, not %s", accessor.path,
+                    accessor.type.getName(), type.getName()));
+        }
+        return cast(accessor);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static Accessor<Object, Object> segment(MethodHandles.Lookup lookup, Class<?> owner, String name) {
+        final String capitalised = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String candidate : new String[] { "get" + capitalised, "is" + capitalised, name }) {
+            final Method method = method(owner, candidate);
+            if (method != null) {
+                try {
+                    final MethodHandle getter = lookup.unreflect(method);
+                    final boolean bindable = !Modifier.isPrivate(method.getModifiers())
+                            || method.getDeclaringClass() == lookup.lookupClass();
+                    return create(name, method.getReturnType(), getter,
+                            bindable ? new Binding(lookup, owner, getter) : null);
+                } catch (IllegalAccessException e) {
+                    throw inaccessible(owner, name, e);
+                }
+            }
+        }
+        final Field field = field(owner, name);
+        if (field == null) {
+            throw new IllegalArgumentException(String.format("No getter or field '%s' in %s", name, owner.getName()));
+        }
+        try {
+            return create(name, field.getType(), lookup.unreflectGetter(field), null);
+        } catch (IllegalAccessException e) {
+            throw inaccessible(owner, name, e);
+        }
+    }
+
+    private static IllegalArgumentException inaccessible(Class<?> owner, String name, IllegalAccessException e) {
+        return new IllegalArgumentException(String.format("'%s' of %s is not accessible from the lookup", name,
+                owner.getName()), e);
+    }
+
+    private static Method method(Class<?> owner, String name) {
+        for (Class<?> c = owner; c != null; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (isGetter(method, name)) {
+                    return method;
+                }
+            }
+        }
+        for (Method method : owner.getMethods()) {
+            if (isGetter(method, name)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isGetter(Method method, String name) {
+        return method.getName().equals(name) && method.getParameterCount() == 0 && !method.isBridge()
+                && method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static Field field(Class<?> owner, String name) {
+        for (Class<?> c = owner; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isNull(Object value) {
+        return value == null;
+    }
+
+    private static Function<Object, Object> invoking(MethodHandle erased) {
+        return t -> {
+            try {
+                return erased.invokeExact(t);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    public <R> Accessor<T, R> then(Accessor<S, R> next) {
+        final MethodHandle nullSafe = MethodHandles.guardWithTest(IS_NULL,
+                MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class),
+                next.handle.asType(OBJECT_GETTER));
+        final Function<Object, Object> first = function;
+        final Function<Object, Object> second = next.function;
+        return new Accessor<>(path + "." + next.path, wrap(next.type),
+                MethodHandles.filterReturnValue(handle.asType(OBJECT_GETTER), nullSafe), null, t -> {
+                    final Object value = first.apply(t);
+                    return value == null ? null : second.apply(value);
+                });
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public MethodHandle handle() {
+        return handle;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public S apply(T t) {
+        return (S) function.apply(t);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ToIntFunction<T> asInt() {
+        final MethodHandle primitive = primitive(int.class);
+        final ToIntFunction<T> bound = binding == null ? null
+                : binding.bind(ToIntFunction.class, "applyAsInt", int.class, int.class);
+        return bound != null ? bound : t -> {
+            try {
+                return (int) primitive.invokeExact((Object) t);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public ToLongFunction<T> asLong() {
+        final MethodHandle primitive = primitive(long.class);
+        final ToLongFunction<T> bound = binding == null ? null
+                : binding.bind(ToLongFunction.class, "applyAsLong", long.class, long.class);
+        return bound != null ? bound : t -> {
+            try {
+                return (long) primitive.invokeExact((Object) t);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public ToDoubleFunction<T> asDouble() {
+        final MethodHandle primitive = primitive(double.class);
+        final ToDoubleFunction<T> bound = binding == null ? null
+                : binding.bind(ToDoubleFunction.class, "applyAsDouble", double.class, double.class);
+        return bound != null ? bound : t -> {
+            try {
+                return (double) primitive.invokeExact((Object) t);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private MethodHandle primitive(Class<?> primitive) {
+        if (type != primitive) {
+            throw new IllegalStateException(String.format("'%s' is of type %s, not %s", path, type.getName(),
+                    primitive.getName()));
+        }
+        return handle.asType(MethodType.methodType(primitive, Object.class));
+    }
+}
@@ -0,0 +1,226 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+final class BinaryShowCodec {
+
+    static final int OVERFLOW = -1;
+
+    private static final byte NULL = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte FLOAT = 4;
+    private static final byte SHORT = 5;
+    private static final byte BYTE = 6;
+    private static final byte CHAR = 7;
+    private static final byte BOOLEAN = 8;
+    private static final byte STRING = 9;
+    private static final byte TEXT = 10;
+    private static final byte NESTED = 11;
+
+    private final StringBuilder scratch = new StringBuilder();
+
+    <T> int encode(TypeSafeChainShow<T> show, T t, ByteBuffer buffer, int offset, int limit) {
+        final List<TypeSafeChainShow.Step<T, ?>> steps = show.steps();
+        int current = offset;
+        for (int i = 0; i < steps.size() && current != OVERFLOW; i++) {
+            current = encodeStep(steps.get(i), t, buffer, current, limit);
+        }
+        return current;
+    }
+
+    private <T, S> int encodeStep(TypeSafeChainShow.Step<T, S> step, T t, ByteBuffer buffer, int offset, int limit) {
+        final S value = step.fieldGetter.apply(t);
+        if (value == null) {
+            return putTag(NULL, buffer, offset, limit);
+        } else if (step.show instanceof TypeSafeChainShow) {
+            @SuppressWarnings("unchecked")
+            final TypeSafeChainShow<S> nested = (TypeSafeChainShow<S>) step.show;
+            final int next = putTag(NESTED, buffer, offset, limit);
+            return next == OVERFLOW ? OVERFLOW : encode(nested, value, buffer, next, limit);
+        } else if (value instanceof String) {
+            final int next = putTag(STRING, buffer, offset, limit);
+            return next == OVERFLOW ? OVERFLOW : putChars((String) value, buffer, next, limit);
+        } else if (value instanceof Integer) {
+            if (!fits(offset, Integer.BYTES, limit)) {
+                return OVERFLOW;
+            }
+            buffer.put(offset, INT).putInt(offset + 1, (Integer) value);
+            return offset + 1 + Integer.BYTES;
+        } else if (value instanceof Long) {
+            if (!fits(offset, Long.BYTES, limit)) {
+                return OVERFLOW;
+            }
+            buffer.put(offset, LONG).putLong(offset + 1, (Long) value);
+            return offset + 1 + Long.BYTES;
+        } else if (value instanceof Double) {
+            if (!fits(offset, Double.BYTES, limit)) {
+                return OVERFLOW;
+            }
+            buffer.put(offset, DOUBLE).putDouble(offset + 1, (Double) value);
+            return offset + 1 + Double.BYTES;
+        } else if (value instanceof Float) {
+            if (!fits(offset, Float.BYTES, limit)) {
+                return OVERFLOW;
+            }
+            buffer.put(offset, FLOAT).putFloat(offset + 1, (Float) value);
+            return offset + 1 + Float.BYTES;
+        } else if (value instanceof Short) {
+            if (!fits(offset, Short.BYTES, limit)) {
+                return OVERFLOW;
+            }
+            buffer.put(offset, SHORT).putShort(offset + 1, (Short) value);
+            return offset + 1 + Short.BYTES;
+        } else if (value instanceof Byte) {
+            if (!fits(offset, Byte.BYTES, limit)) {
+                return OVERFLOW;
+            }
+            buffer.put(offset, BYTE).put(offset + 1, (Byte) value);
+            return offset + 1 + Byte.BYTES;
+        } else if (value instanceof Character) {
+            if (!fits(offset, Character.BYTES, limit)) {
+                return OVERFLOW;
+            }
+            buffer.put(offset, CHAR).putChar(offset + 1, (Character) value);
+            return offset + 1 + Character.BYTES;
+        } else if (value instanceof Boolean) {
+            if (!fits(offset, Byte.BYTES, limit)) {
+                return OVERFLOW;
+            }
+            buffer.put(offset, BOOLEAN).put(offset + 1, (byte) ((Boolean) value ? 1 : 0));
+            return offset + 1 + Byte.BYTES;
+        } else {
+            scratch.setLength(0);
+            step.show.showTo(value, scratch);
+            final int next = putTag(TEXT, buffer, offset, limit);
+            return next == OVERFLOW ? OVERFLOW : putChars(scratch, buffer, next, limit);
+        }
+    }
+
+    private static boolean fits(int offset, int size, int limit) {
+        return offset + 1 + size <= limit;
+    }
+
+    private static int putTag(byte tag, ByteBuffer buffer, int offset, int limit) {
+        if (offset + 1 > limit) {
+            return OVERFLOW;
+        }
+        buffer.put(offset, tag);
+        return offset + 1;
+    }
+
+    private static int putChars(CharSequence chars, ByteBuffer buffer, int offset, int limit) {
+        final int length = chars.length();
+        int current = offset + Integer.BYTES;
+        if (current + length > limit) {
+            return OVERFLOW;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                if (current + 1 > limit) {
+                    return OVERFLOW;
+                }
+                buffer.put(current++, (byte) c);
+            } else if (c <= 0x07FF) {
+                if (current + 2 > limit) {
+                    return OVERFLOW;
+                }
+                buffer.put(current++, (byte) (0xC0 | (c >> 6)));
+                buffer.put(current++, (byte) (0x80 | (c & 0x3F)));
+            } else {
+                if (current + 3 > limit) {
+                    return OVERFLOW;
+                }
+                buffer.put(current++, (byte) (0xE0 | (c >> 12)));
+                buffer.put(current++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put(current++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        buffer.putInt(offset, current - offset - Integer.BYTES);
+        return current;
+    }
+
+    static <T> int decode(TypeSafeChainShow<T> show, ByteBuffer buffer, int offset, StringBuilder builder) {
+        final List<TypeSafeChainShow.Step<T, ?>> steps = show.steps();
+        int current = offset;
+        show.open(builder);
+        for (int i = 0; i < steps.size(); i++) {
+            show.separate(i, builder);
+            current = decodeStep(steps.get(i), buffer, current, builder);
+        }
+        show.close(builder);
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> int decodeStep(TypeSafeChainShow.Step<T, S> step, ByteBuffer buffer, int offset,
+            StringBuilder builder) {
+        final Show<Object> show = (Show<Object>) step.show;
+        final byte tag = buffer.get(offset);
+        final int current = offset + 1;
+        switch (tag) {
+        case NULL:
+            show.showTo(null, builder);
+            return current;
+        case NESTED:
+            return decode((TypeSafeChainShow<Object>) step.show, buffer, current, builder);
+        case STRING:
+            final StringBuilder value = new StringBuilder();
+            final int next = getChars(buffer, current, value);
+            show.showTo(value.toString(), builder);
+            return next;
+        case TEXT:
+            return getChars(buffer, current, builder);
+        case INT:
+            show.showTo(buffer.getInt(current), builder);
+            return current + Integer.BYTES;
+        case LONG:
+            show.showTo(buffer.getLong(current), builder);
+            return current + Long.BYTES;
+        case DOUBLE:
+            show.showTo(buffer.getDouble(current), builder);
+            return current + Double.BYTES;
+        case FLOAT:
+            show.showTo(buffer.getFloat(current), builder);
+            return current + Float.BYTES;
+        case SHORT:
+            show.showTo(buffer.getShort(current), builder);
+            return current + Short.BYTES;
+        case BYTE:
+            show.showTo(buffer.get(current), builder);
+            return current + Byte.BYTES;
+        case CHAR:
+            show.showTo(buffer.getChar(current), builder);
+            return current + Character.BYTES;
+        case BOOLEAN:
+            show.showTo(buffer.get(current) != 0, builder);
+            return current + Byte.BYTES;
+        default:
+            throw new IllegalStateException(String.format("unknown field tag %d at offset %d", tag, offset));
+        }
+    }
+
+    private static int getChars(ByteBuffer buffer, int offset, StringBuilder builder) {
+        final int end = offset + Integer.BYTES + buffer.getInt(offset);
+        int current = offset + Integer.BYTES;
+        while (current < end) {
+            final int first = buffer.get(current++) & 0xFF;
+            if (first < 0x80) {
+                builder.append((char) first);
+            } else if (first < 0xE0) {
+                final int second = buffer.get(current++) & 0x3F;
+                builder.append((char) (((first & 0x1F) << 6) | second));
+            } else {
+                final int second = buffer.get(current++) & 0x3F;
+                final int third = buffer.get(current++) & 0x3F;
+                builder.append((char) (((first & 0x0F) << 12) | (second << 6) | third));
+            }
+        }
+        return end;
+    }
+}
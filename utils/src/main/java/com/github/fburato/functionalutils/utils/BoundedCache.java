@@ -0,0 +1,209 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+final class BoundedCache<K, V> implements Cache<K, V> {
+
+    private static final int WINDOW_PERCENTAGE = 1;
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        volatile boolean referenced;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    static final class FrequencySketch {
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+                0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int MAXIMUM_COUNT = 15;
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            final int size = Integer.highestOneBit(Math.max(16, maximumSize - 1)) << 1;
+            this.table = new long[size];
+            this.sampleSize = 10 * Math.max(16, maximumSize);
+        }
+
+        // Updates are not atomic: racing increments can be lost, which only makes the estimate coarser.
+        void increment(Object key) {
+            final int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                final long h = slot(hash, i);
+                final int index = (int) h & (table.length - 1);
+                final int shift = (int) (h >>> 60) << 2;
+                if (((table[index] >>> shift) & MAXIMUM_COUNT) < MAXIMUM_COUNT) {
+                    table[index] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            final int hash = spread(key.hashCode());
+            int frequency = MAXIMUM_COUNT;
+            for (int i = 0; i < SEEDS.length; i++) {
+                final long h = slot(hash, i);
+                final int index = (int) h & (table.length - 1);
+                final int shift = (int) (h >>> 60) << 2;
+                frequency = Math.min(frequency, (int) ((table[index] >>> shift) & MAXIMUM_COUNT));
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions = additions / 2;
+        }
+
+        private static int spread(int hash) {
+            final int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+
+        private static long slot(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return h;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Node<K, V>> window = new ArrayDeque<>();
+    private final ArrayDeque<Node<K, V>> main = new ArrayDeque<>();
+    private final int maximumSize;
+    private final int windowSize;
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    BoundedCache(int maximumSize, EvictionPolicy policy) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        if (policy == EvictionPolicy.TINY_LFU) {
+            this.windowSize = Math.max(1, maximumSize * WINDOW_PERCENTAGE / 100);
+            this.sketch = new FrequencySketch(maximumSize);
+        } else {
+            this.windowSize = 0;
+            this.sketch = null;
+        }
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        final Node<K, V> node = map.get(key);
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        if (node != null) {
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+            hits.increment();
+            return node.value;
+        }
+        misses.increment();
+        final V value = loader.apply(key);
+        lock.lock();
+        try {
+            final Node<K, V> existing = map.get(key);
+            if (existing != null) {
+                return existing.value;
+            }
+            final Node<K, V> added = new Node<>(key, value);
+            map.put(key, added);
+            if (sketch == null) {
+                main.addLast(added);
+                while (main.size() > maximumSize) {
+                    evict(victim(main));
+                }
+            } else {
+                admit(added);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    private void admit(Node<K, V> added) {
+        window.addLast(added);
+        if (window.size() <= windowSize) {
+            return;
+        }
+        final Node<K, V> candidate = victim(window);
+        if (main.size() < maximumSize - windowSize) {
+            main.addLast(candidate);
+        } else if (main.isEmpty()) {
+            evict(candidate);
+        } else {
+            final Node<K, V> victim = victim(main);
+            if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+                main.addLast(candidate);
+            } else {
+                main.addFirst(victim);
+                evict(candidate);
+            }
+        }
+    }
+
+    private Node<K, V> victim(ArrayDeque<Node<K, V>> queue) {
+        for (int i = 2 * queue.size(); i > 0; i--) {
+            final Node<K, V> node = queue.pollFirst();
+            if (!node.referenced) {
+                return node;
+            }
+            node.referenced = false;
+            queue.addLast(node);
+        }
+        return queue.pollFirst();
+    }
+
+    private void evict(Node<K, V> node) {
+        map.remove(node.key, node);
+        evictions.increment();
+    }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long size() {
+        return map.size();
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.util.function.Function;
+
+interface Cache<K, V> {
+    V get(K key, Function<? super K, ? extends V> loader);
+
+    long hits();
+
+    long misses();
+
+    long evictions();
+
+    long size();
+}
@@ -0,0 +1,76 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+
+import java.util.function.Function;
+
+public final class CachingShow<T> implements Show<T> {
+
+    public static final class Statistics {
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final long size;
+
+        public Statistics(long hits, long misses, long evictions, long size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public double hitRate() {
+            final long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, evictions=%d, size=%d, hitRate=%.3f", hits, misses, evictions,
+                    size, hitRate());
+        }
+    }
+
+    private final Show<T> show;
+    private final Cache<T, String> cache;
+    private final Function<T, String> loader;
+
+    private CachingShow(Show<T> show, Cache<T, String> cache) {
+        this.show = show;
+        this.cache = cache;
+        this.loader = show::show;
+    }
+
+    public static <S> CachingShow<S> identity(Show<S> show) {
+        return new CachingShow<>(show, new WeakIdentityCache<>());
+    }
+
+    public static <S> CachingShow<S> bounded(Show<S> show, int maximumSize) {
+        return bounded(show, maximumSize, EvictionPolicy.TINY_LFU);
+    }
+
+    public static <S> CachingShow<S> bounded(Show<S> show, int maximumSize, EvictionPolicy policy) {
+        return new CachingShow<>(show, new BoundedCache<>(maximumSize, policy));
+    }
+
+    @Override
+    public String show(T t) {
+        if (t == null) {
+            return show.show(null);
+        }
+        return cache.get(t, loader);
+    }
+
+    @Override
+    public void showTo(T t, StringBuilder builder) {
+        if (t == null) {
+            show.showTo(null, builder);
+        } else {
+            builder.append(cache.get(t, loader));
+        }
+    }
+
+    public Statistics statistics() {
+        return new Statistics(cache.hits(), cache.misses(), cache.evictions(), cache.size());
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.ComparatorDecorator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+public final class ChainDiff<T> {
+
+    private static final class EqualsStep<T, S> extends TypeSafeChainComparator.Step<T, S> {
+        private final TypeSafeChainComparator.Step<T, S> step;
+
+        EqualsStep(TypeSafeChainComparator.Step<T, S> step) {
+            super(step.fieldGetter, step.comparator);
+            this.step = step;
+        }
+
+        @Override
+        boolean differs(T o1, T o2) {
+            return step.equalsDiffers(o1, o2);
+        }
+    }
+
+    private final List<TypeSafeChainComparator.Step<T, ?>> steps;
+
+    private ChainDiff(List<TypeSafeChainComparator.Step<T, ?>> steps) {
+        this.steps = List.copyOf(steps);
+    }
+
+    public static <S> ChainDiff<S> create(TypeSafeChainComparator<S> comparator) {
+        return new ChainDiff<>(comparator.steps());
+    }
+
+    public static <S> ChainDiff<S> createWithDecorator(TypeSafeChainComparator<S> comparator,
+            ComparatorDecorator decorator) {
+        final List<TypeSafeChainComparator.Step<S, ?>> decorated = new ArrayList<>(comparator.steps().size());
+        for (TypeSafeChainComparator.Step<S, ?> step : comparator.steps()) {
+            decorated.add(step.decorate(decorator));
+        }
+        return new ChainDiff<>(decorated);
+    }
+
+    public static <S> ChainDiff<S> createWithEquals(TypeSafeChainComparator<S> comparator) {
+        final List<TypeSafeChainComparator.Step<S, ?>> equals = new ArrayList<>(comparator.steps().size());
+        for (TypeSafeChainComparator.Step<S, ?> step : comparator.steps()) {
+            equals.add(new EqualsStep<>(step));
+        }
+        return new ChainDiff<>(equals);
+    }
+
+    public int size() {
+        return steps.size();
+    }
+
+    public long diff(T first, T second) {
+        if (steps.size() > Long.SIZE) {
+            throw new IllegalStateException(
+                    String.format("A diff of %d steps does not fit a long, use a BitSet", steps.size()));
+        }
+        long mask = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i).differs(first, second)) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    public BitSet diff(T first, T second, BitSet into) {
+        into.clear();
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i).differs(first, second)) {
+                into.set(i);
+            }
+        }
+        return into;
+    }
+
+    public boolean anyDifferent(T first, T second) {
+        return firstDifferent(first, second) >= 0;
+    }
+
+    public int firstDifferent(T first, T second) {
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i).differs(first, second)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
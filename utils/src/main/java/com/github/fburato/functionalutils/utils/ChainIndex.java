@@ -0,0 +1,439 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.utils.TypeSafeChainComparator.Probe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class ChainIndex<T> {
+
+    public static final class Configuration {
+        public final int nodeCapacity;
+
+        public Configuration(int nodeCapacity) {
+            if (nodeCapacity < 4) {
+                throw new IllegalArgumentException(String.format("Invalid node capacity %d", nodeCapacity));
+            }
+            this.nodeCapacity = nodeCapacity;
+        }
+    }
+
+    public static Configuration standardConfiguration() {
+        return new Configuration(64);
+    }
+
+    // Leaves are chained in order. An inner node with n children has separators 1..n-1, separator j being a lower
+    // bound of child j and an upper bound of child j - 1; separators are not tightened when elements are removed.
+    private static final class Leaf {
+        final Object[] entries;
+        int size;
+        Leaf previous;
+        Leaf next;
+
+        Leaf(int capacity) {
+            entries = new Object[capacity + 1];
+        }
+    }
+
+    private static final class Inner {
+        final Object[] separators;
+        final Object[] children;
+        int size;
+
+        Inner(int capacity) {
+            separators = new Object[capacity + 1];
+            children = new Object[capacity + 1];
+        }
+    }
+
+    private static final class Split {
+        final Object separator;
+        final Object right;
+
+        Split(Object separator, Object right) {
+            this.separator = separator;
+            this.right = right;
+        }
+    }
+
+    private final TypeSafeChainComparator<T> comparator;
+    private final int capacity;
+    private Object root;
+    private Leaf first;
+    private long size;
+
+    private ChainIndex(TypeSafeChainComparator<T> comparator, Configuration configuration) {
+        this.comparator = comparator;
+        this.capacity = configuration.nodeCapacity;
+        this.first = new Leaf(capacity);
+        this.root = first;
+    }
+
+    public static <S> ChainIndex<S> create(TypeSafeChainComparator<S> comparator) {
+        return new ChainIndex<>(comparator, standardConfiguration());
+    }
+
+    public static <S> ChainIndex<S> createWithConfig(TypeSafeChainComparator<S> comparator,
+            Configuration configuration) {
+        return new ChainIndex<>(comparator, configuration);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(T element) {
+        final Split split = insert(root, element);
+        if (split != null) {
+            final Inner newRoot = new Inner(capacity);
+            newRoot.children[0] = root;
+            newRoot.children[1] = split.right;
+            newRoot.separators[1] = split.separator;
+            newRoot.size = 2;
+            root = newRoot;
+        }
+        size++;
+    }
+
+    public void addAll(Collection<? extends T> elements) {
+        if (size > 0) {
+            elements.forEach(this::add);
+            return;
+        }
+        final List<T> sorted = new ArrayList<>(elements);
+        sorted.sort(comparator);
+        bulkLoad(sorted);
+    }
+
+    public boolean remove(T element) {
+        final Probe<T> probe = e -> comparator.compare(e, element);
+        final Object[] position = descend(probe, false);
+        Leaf leaf = (Leaf) position[0];
+        int start = (Integer) position[1];
+        while (leaf != null) {
+            for (int i = start; i < leaf.size; i++) {
+                final int value = probe.compare(element(leaf, i));
+                if (value > 0) {
+                    return false;
+                } else if (value == 0 && element.equals(leaf.entries[i])) {
+                    System.arraycopy(leaf.entries, i + 1, leaf.entries, i, leaf.size - i - 1);
+                    leaf.entries[--leaf.size] = null;
+                    size--;
+                    if (leaf.size == 0 && root != leaf) {
+                        unlink(leaf);
+                        if (removeLeaf((Inner) root, leaf, element) == EMPTIED) {
+                            clear();
+                        }
+                        while (root instanceof Inner && ((Inner) root).size == 1) {
+                            root = ((Inner) root).children[0];
+                        }
+                    }
+                    return true;
+                }
+            }
+            leaf = leaf.next;
+            start = 0;
+        }
+        return false;
+    }
+
+    public Stream<T> stream() {
+        return stream(first, 0, null, 0);
+    }
+
+    public Stream<T> prefix(Object... values) {
+        final Probe<T> probe = comparator.keyProbe(values);
+        return between(probe, probe, true);
+    }
+
+    public Stream<T> range(List<?> fromInclusive, List<?> toExclusive) {
+        return between(comparator.keyProbe(fromInclusive.toArray()),
+                comparator.keyProbe(toExclusive.toArray()), false);
+    }
+
+    public Stream<T> prefixRange(List<?> prefix, Object fromInclusive, Object toExclusive) {
+        final List<Object> from = new ArrayList<>(prefix);
+        from.add(fromInclusive);
+        final List<Object> to = new ArrayList<>(prefix);
+        to.add(toExclusive);
+        return range(from, to);
+    }
+
+    private Stream<T> between(Probe<T> lower, Probe<T> upper, boolean inclusive) {
+        final Object[] start = locate(lower, false);
+        final Leaf leaf = (Leaf) start[0];
+        final int index = (Integer) start[1];
+        if (leaf == null) {
+            return Stream.empty();
+        }
+        final int value = upper.compare(element(leaf, index));
+        if (value > 0 || (!inclusive && value == 0)) {
+            return Stream.empty();
+        }
+        final Object[] end = locate(upper, inclusive);
+        return stream(leaf, index, (Leaf) end[0], (Integer) end[1]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(Leaf leaf, int index) {
+        return (T) leaf.entries[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private int count(Object[] sorted, int from, int to, Probe<T> probe, boolean inclusive) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int value = probe.compare((T) sorted[middle]);
+            if (value < 0 || (inclusive && value == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low - from;
+    }
+
+    // Returns the leaf and index of the first element not comparing below the probe (or not at or below it when
+    // inclusive); the index can be past the end of the leaf.
+    private Object[] descend(Probe<T> probe, boolean inclusive) {
+        Object node = root;
+        while (node instanceof Inner) {
+            final Inner inner = (Inner) node;
+            node = inner.children[count(inner.separators, 1, inner.size, probe, inclusive)];
+        }
+        final Leaf leaf = (Leaf) node;
+        return new Object[] { leaf, count(leaf.entries, 0, leaf.size, probe, inclusive) };
+    }
+
+    private Object[] locate(Probe<T> probe, boolean inclusive) {
+        final Object[] position = descend(probe, inclusive);
+        Leaf leaf = (Leaf) position[0];
+        int index = (Integer) position[1];
+        while (leaf != null && index >= leaf.size) {
+            leaf = leaf.next;
+            index = 0;
+        }
+        return new Object[] { leaf, index };
+    }
+
+    private Split insert(Object node, T element) {
+        final Probe<T> probe = e -> comparator.compare(e, element);
+        if (node instanceof Leaf) {
+            final Leaf leaf = (Leaf) node;
+            final int index = count(leaf.entries, 0, leaf.size, probe, true);
+            System.arraycopy(leaf.entries, index, leaf.entries, index + 1, leaf.size - index);
+            leaf.entries[index] = element;
+            if (++leaf.size <= capacity) {
+                return null;
+            }
+            final Leaf right = new Leaf(capacity);
+            final int middle = leaf.size / 2;
+            right.size = leaf.size - middle;
+            System.arraycopy(leaf.entries, middle, right.entries, 0, right.size);
+            Arrays.fill(leaf.entries, middle, leaf.size, null);
+            leaf.size = middle;
+            right.next = leaf.next;
+            right.previous = leaf;
+            if (leaf.next != null) {
+                leaf.next.previous = right;
+            }
+            leaf.next = right;
+            return new Split(right.entries[0], right);
+        }
+        final Inner inner = (Inner) node;
+        final int child = count(inner.separators, 1, inner.size, probe, true);
+        final Split split = insert(inner.children[child], element);
+        if (split == null) {
+            return null;
+        }
+        System.arraycopy(inner.children, child + 1, inner.children, child + 2, inner.size - child - 1);
+        System.arraycopy(inner.separators, child + 1, inner.separators, child + 2, inner.size - child - 1);
+        inner.children[child + 1] = split.right;
+        inner.separators[child + 1] = split.separator;
+        if (++inner.size <= capacity) {
+            return null;
+        }
+        final Inner right = new Inner(capacity);
+        final int middle = inner.size / 2;
+        right.size = inner.size - middle;
+        System.arraycopy(inner.children, middle, right.children, 0, right.size);
+        System.arraycopy(inner.separators, middle + 1, right.separators, 1, right.size - 1);
+        final Object separator = inner.separators[middle];
+        Arrays.fill(inner.children, middle, inner.size, null);
+        Arrays.fill(inner.separators, middle, inner.size, null);
+        inner.size = middle;
+        return new Split(separator, right);
+    }
+
+    private void unlink(Leaf leaf) {
+        if (leaf.previous != null) {
+            leaf.previous.next = leaf.next;
+        } else {
+            first = leaf.next;
+        }
+        if (leaf.next != null) {
+            leaf.next.previous = leaf.previous;
+        }
+    }
+
+    private static final int NOT_FOUND = -1;
+    private static final int REMOVED = 0;
+    private static final int EMPTIED = 1;
+
+    // Removes the emptied leaf from the children whose bounds admit the element it held.
+    private int removeLeaf(Inner inner, Leaf leaf, T element) {
+        final Probe<T> probe = e -> comparator.compare(e, element);
+        final int from = count(inner.separators, 1, inner.size, probe, false);
+        final int to = count(inner.separators, 1, inner.size, probe, true);
+        for (int child = from; child <= to; child++) {
+            final Object node = inner.children[child];
+            final int result = node == leaf ? EMPTIED
+                    : node instanceof Inner ? removeLeaf((Inner) node, leaf, element) : NOT_FOUND;
+            if (result == REMOVED) {
+                return REMOVED;
+            } else if (result == EMPTIED) {
+                System.arraycopy(inner.children, child + 1, inner.children, child, inner.size - child - 1);
+                final int separator = Math.max(child, 1);
+                if (separator < inner.size - 1) {
+                    System.arraycopy(inner.separators, separator + 1, inner.separators, separator,
+                            inner.size - separator - 1);
+                }
+                inner.size--;
+                inner.children[inner.size] = null;
+                inner.separators[inner.size] = null;
+                return inner.size == 0 ? EMPTIED : REMOVED;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private void clear() {
+        first = new Leaf(capacity);
+        root = first;
+        size = 0;
+    }
+
+    private void bulkLoad(List<T> sorted) {
+        if (sorted.isEmpty()) {
+            return;
+        }
+        List<Object> level = new ArrayList<>();
+        List<Object> minimums = new ArrayList<>();
+        Leaf previous = null;
+        for (int from = 0; from < sorted.size(); from += capacity) {
+            final Leaf leaf = new Leaf(capacity);
+            leaf.size = Math.min(capacity, sorted.size() - from);
+            for (int i = 0; i < leaf.size; i++) {
+                leaf.entries[i] = sorted.get(from + i);
+            }
+            leaf.previous = previous;
+            if (previous == null) {
+                first = leaf;
+            } else {
+                previous.next = leaf;
+            }
+            previous = leaf;
+            level.add(leaf);
+            minimums.add(leaf.entries[0]);
+        }
+        while (level.size() > 1) {
+            final List<Object> parents = new ArrayList<>();
+            final List<Object> parentMinimums = new ArrayList<>();
+            for (int from = 0; from < level.size(); from += capacity) {
+                final Inner inner = new Inner(capacity);
+                inner.size = Math.min(capacity, level.size() - from);
+                for (int i = 0; i < inner.size; i++) {
+                    inner.children[i] = level.get(from + i);
+                    if (i > 0) {
+                        inner.separators[i] = minimums.get(from + i);
+                    }
+                }
+                parents.add(inner);
+                parentMinimums.add(minimums.get(from));
+            }
+            level = parents;
+            minimums = parentMinimums;
+        }
+        root = level.get(0);
+        size = sorted.size();
+    }
+
+    private Stream<T> stream(Leaf leaf, int index, Leaf endLeaf, int endIndex) {
+        return StreamSupport.stream(new Cursor(leaf, index, endLeaf, endIndex), false);
+    }
+
+    private final class Cursor implements Spliterator<T> {
+        private Leaf leaf;
+        private int index;
+        private final Leaf endLeaf;
+        private final int endIndex;
+
+        Cursor(Leaf leaf, int index, Leaf endLeaf, int endIndex) {
+            this.leaf = leaf;
+            this.index = index;
+            this.endLeaf = endLeaf;
+            this.endIndex = endIndex;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (leaf != null && index >= leaf.size) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            if (leaf == null || (leaf == endLeaf && index >= endIndex)) {
+                return false;
+            }
+            action.accept(element(leaf, index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (leaf != null) {
+                final int end = leaf == endLeaf ? endIndex : leaf.size;
+                for (; index < end; index++) {
+                    action.accept(element(leaf, index));
+                }
+                if (leaf == endLeaf) {
+                    return;
+                }
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return comparator;
+        }
+    }
+}
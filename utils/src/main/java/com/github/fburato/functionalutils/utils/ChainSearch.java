@@ -0,0 +1,209 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class ChainSearch<T> {
+
+    private final TypeSafeChainComparator<T> comparator;
+
+    private ChainSearch(TypeSafeChainComparator<T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public static <S> ChainSearch<S> create(TypeSafeChainComparator<S> comparator) {
+        return new ChainSearch<>(comparator);
+    }
+
+    public int lowerBound(List<T> list, Object... key) {
+        return lower(list, comparator.keyProbe(key));
+    }
+
+    public int lowerBound(List<T> list, int key) {
+        return lower(list, comparator.intProbe(key));
+    }
+
+    public int lowerBound(List<T> list, long key) {
+        return lower(list, comparator.longProbe(key));
+    }
+
+    public int lowerBound(List<T> list, double key) {
+        return lower(list, comparator.doubleProbe(key));
+    }
+
+    public int lowerBound(T[] array, Object... key) {
+        return lower(array, comparator.keyProbe(key));
+    }
+
+    public int lowerBound(T[] array, int key) {
+        return lower(array, comparator.intProbe(key));
+    }
+
+    public int lowerBound(T[] array, long key) {
+        return lower(array, comparator.longProbe(key));
+    }
+
+    public int lowerBound(T[] array, double key) {
+        return lower(array, comparator.doubleProbe(key));
+    }
+
+    public int upperBound(List<T> list, Object... key) {
+        return upper(list, comparator.keyProbe(key));
+    }
+
+    public int upperBound(List<T> list, int key) {
+        return upper(list, comparator.intProbe(key));
+    }
+
+    public int upperBound(List<T> list, long key) {
+        return upper(list, comparator.longProbe(key));
+    }
+
+    public int upperBound(List<T> list, double key) {
+        return upper(list, comparator.doubleProbe(key));
+    }
+
+    public int upperBound(T[] array, Object... key) {
+        return upper(array, comparator.keyProbe(key));
+    }
+
+    public int upperBound(T[] array, int key) {
+        return upper(array, comparator.intProbe(key));
+    }
+
+    public int upperBound(T[] array, long key) {
+        return upper(array, comparator.longProbe(key));
+    }
+
+    public int upperBound(T[] array, double key) {
+        return upper(array, comparator.doubleProbe(key));
+    }
+
+    public int binarySearch(List<T> list, Object... key) {
+        return search(list, comparator.keyProbe(key));
+    }
+
+    public int binarySearch(List<T> list, int key) {
+        return search(list, comparator.intProbe(key));
+    }
+
+    public int binarySearch(List<T> list, long key) {
+        return search(list, comparator.longProbe(key));
+    }
+
+    public int binarySearch(List<T> list, double key) {
+        return search(list, comparator.doubleProbe(key));
+    }
+
+    public int binarySearch(T[] array, Object... key) {
+        return search(array, comparator.keyProbe(key));
+    }
+
+    public int binarySearch(T[] array, int key) {
+        return search(array, comparator.intProbe(key));
+    }
+
+    public int binarySearch(T[] array, long key) {
+        return search(array, comparator.longProbe(key));
+    }
+
+    public int binarySearch(T[] array, double key) {
+        return search(array, comparator.doubleProbe(key));
+    }
+
+    public List<T> equalRange(List<T> list, Object... key) {
+        return range(list, comparator.keyProbe(key));
+    }
+
+    public List<T> equalRange(List<T> list, int key) {
+        return range(list, comparator.intProbe(key));
+    }
+
+    public List<T> equalRange(List<T> list, long key) {
+        return range(list, comparator.longProbe(key));
+    }
+
+    public List<T> equalRange(List<T> list, double key) {
+        return range(list, comparator.doubleProbe(key));
+    }
+
+    public List<T> equalRange(T[] array, Object... key) {
+        return range(array, comparator.keyProbe(key));
+    }
+
+    public List<T> equalRange(T[] array, int key) {
+        return range(array, comparator.intProbe(key));
+    }
+
+    public List<T> equalRange(T[] array, long key) {
+        return range(array, comparator.longProbe(key));
+    }
+
+    public List<T> equalRange(T[] array, double key) {
+        return range(array, comparator.doubleProbe(key));
+    }
+
+    private int lower(List<T> list, TypeSafeChainComparator.Probe<T> probe) {
+        return bound(list, probe, false);
+    }
+
+    private int lower(T[] array, TypeSafeChainComparator.Probe<T> probe) {
+        return bound(array, probe, false);
+    }
+
+    private int upper(List<T> list, TypeSafeChainComparator.Probe<T> probe) {
+        return bound(list, probe, true);
+    }
+
+    private int upper(T[] array, TypeSafeChainComparator.Probe<T> probe) {
+        return bound(array, probe, true);
+    }
+
+    private int search(List<T> list, TypeSafeChainComparator.Probe<T> probe) {
+        final int index = bound(list, probe, false);
+        return index < list.size() && probe.compare(list.get(index)) == 0 ? index : -index - 1;
+    }
+
+    private int search(T[] array, TypeSafeChainComparator.Probe<T> probe) {
+        final int index = bound(array, probe, false);
+        return index < array.length && probe.compare(array[index]) == 0 ? index : -index - 1;
+    }
+
+    private List<T> range(List<T> list, TypeSafeChainComparator.Probe<T> probe) {
+        return list.subList(bound(list, probe, false), bound(list, probe, true));
+    }
+
+    private List<T> range(T[] array, TypeSafeChainComparator.Probe<T> probe) {
+        return Arrays.asList(array).subList(bound(array, probe, false), bound(array, probe, true));
+    }
+
+    private int bound(List<T> list, TypeSafeChainComparator.Probe<T> probe, boolean upper) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int value = probe.compare(list.get(middle));
+            if (value < 0 || (upper && value == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int bound(T[] array, TypeSafeChainComparator.Probe<T> probe, boolean upper) {
+        int low = 0;
+        int high = array.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int value = probe.compare(array[middle]);
+            if (value < 0 || (upper && value == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
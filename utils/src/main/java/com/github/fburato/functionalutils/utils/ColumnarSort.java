@@ -0,0 +1,533 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+public final class ColumnarSort {
+
+    public enum Direction {
+        ASCENDING, DESCENDING
+    }
+
+    public enum Nulls {
+        FIRST, LAST
+    }
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int RADIX_SORT_THRESHOLD = 4096;
+    private static final int RADIX_BITS = 11;
+
+    // Columns compare rows by index; a set bit in the null mask marks a null row, which sorts by the null ordering
+    // regardless of direction.
+    private abstract static class Column {
+        final BitSet nulls;
+        final boolean descending;
+        final boolean nullsFirst;
+
+        Column(BitSet nulls, Direction direction, Nulls nullOrder) {
+            this.nulls = nulls;
+            this.descending = direction == Direction.DESCENDING;
+            this.nullsFirst = nullOrder == Nulls.FIRST;
+        }
+
+        final int compare(int row1, int row2) {
+            if (nulls != null) {
+                final boolean null1 = nulls.get(row1);
+                final boolean null2 = nulls.get(row2);
+                if (null1 || null2) {
+                    if (null1 == null2) {
+                        return 0;
+                    }
+                    return null1 == nullsFirst ? -1 : 1;
+                }
+            }
+            return descending ? compareValues(row2, row1) : compareValues(row1, row2);
+        }
+
+        abstract int compareValues(int row1, int row2);
+
+        abstract void permute(int[] permutation);
+
+        final void permuteNulls(int[] permutation) {
+            if (nulls != null) {
+                final BitSet copy = (BitSet) nulls.clone();
+                for (int i = 0; i < permutation.length; i++) {
+                    nulls.set(i, copy.get(permutation[i]));
+                }
+            }
+        }
+    }
+
+    private abstract static class PackableColumn extends Column {
+        PackableColumn(BitSet nulls, Direction direction, Nulls nullOrder) {
+            super(nulls, direction, nullOrder);
+        }
+
+        abstract boolean isNatural();
+
+        abstract long value(int row);
+
+        final long[] bounds(int rows) {
+            if (!isNatural()) {
+                return null;
+            }
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int row = 0; row < rows; row++) {
+                if (nulls == null || !nulls.get(row)) {
+                    final long current = value(row);
+                    min = Math.min(min, current);
+                    max = Math.max(max, current);
+                }
+            }
+            return new long[] { min, max };
+        }
+
+        final void pack(long[] packed, int rows, long minimum, long maximum, int bits) {
+            final boolean nullable = nulls != null;
+            final long nullKey = nullsFirst ? 0 : maximum - minimum + 1;
+            final long shift = nullable && nullsFirst ? 1 : 0;
+            for (int row = 0; row < rows; row++) {
+                final long key;
+                if (nullable && nulls.get(row)) {
+                    key = nullKey;
+                } else {
+                    key = (descending ? maximum - value(row) : value(row) - minimum) + shift;
+                }
+                packed[row] = (packed[row] << bits) | key;
+            }
+        }
+    }
+
+    private static final class IntColumn extends PackableColumn {
+        private final int[] values;
+        private final IntComparator comparator;
+
+        IntColumn(int[] values, IntComparator comparator, BitSet nulls, Direction direction, Nulls nullOrder) {
+            super(nulls, direction, nullOrder);
+            this.values = values;
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            return comparator.compareInt(values[row1], values[row2]);
+        }
+
+        @Override
+        boolean isNatural() {
+            return comparator == IntComparator.NATURAL;
+        }
+
+        @Override
+        long value(int row) {
+            return values[row];
+        }
+
+        @Override
+        void permute(int[] permutation) {
+            ColumnarSort.permute(permutation, values);
+            permuteNulls(permutation);
+        }
+    }
+
+    private static final class LongColumn extends PackableColumn {
+        private final long[] values;
+        private final LongComparator comparator;
+
+        LongColumn(long[] values, LongComparator comparator, BitSet nulls, Direction direction, Nulls nullOrder) {
+            super(nulls, direction, nullOrder);
+            this.values = values;
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            return comparator.compareLong(values[row1], values[row2]);
+        }
+
+        @Override
+        boolean isNatural() {
+            return comparator == LongComparator.NATURAL;
+        }
+
+        @Override
+        long value(int row) {
+            return values[row];
+        }
+
+        @Override
+        void permute(int[] permutation) {
+            ColumnarSort.permute(permutation, values);
+            permuteNulls(permutation);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        private final double[] values;
+        private final DoubleComparator comparator;
+
+        DoubleColumn(double[] values, DoubleComparator comparator, BitSet nulls, Direction direction,
+                Nulls nullOrder) {
+            super(nulls, direction, nullOrder);
+            this.values = values;
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            return comparator.compareDouble(values[row1], values[row2]);
+        }
+
+        @Override
+        void permute(int[] permutation) {
+            ColumnarSort.permute(permutation, values);
+            permuteNulls(permutation);
+        }
+    }
+
+    private static final class ObjectColumn<S> extends Column {
+        private final S[] values;
+        private final Comparator<? super S> comparator;
+
+        ObjectColumn(S[] values, Comparator<? super S> comparator, Direction direction, Nulls nullOrder) {
+            super(null, direction, nullOrder);
+            this.values = values;
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compareValues(int row1, int row2) {
+            final S value1 = values[row1];
+            final S value2 = values[row2];
+            if (value1 == null || value2 == null) {
+                if (value1 == value2) {
+                    return 0;
+                }
+                // Undo the direction so that nulls keep their place when descending
+                final int nullOrder = (value1 == null) == nullsFirst ? -1 : 1;
+                return descending ? -nullOrder : nullOrder;
+            }
+            return comparator.compare(value1, value2);
+        }
+
+        @Override
+        void permute(int[] permutation) {
+            ColumnarSort.permute(permutation, values);
+        }
+    }
+
+    private final int rows;
+    private final Column[] columns;
+
+    private ColumnarSort(int rows, Column[] columns) {
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    public static ColumnarSort create(int rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException(String.format("Invalid number of rows %d", rows));
+        }
+        return new ColumnarSort(rows, new Column[0]);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public ColumnarSort chainInt(int[] column, IntComparator comparator) {
+        return chainInt(column, comparator, Direction.ASCENDING);
+    }
+
+    public ColumnarSort chainInt(int[] column, IntComparator comparator, Direction direction) {
+        return chainInt(column, null, comparator, direction, Nulls.LAST);
+    }
+
+    public ColumnarSort chainInt(int[] column, BitSet nulls, IntComparator comparator, Direction direction,
+            Nulls nullOrder) {
+        checkLength(column.length);
+        return append(new IntColumn(column, comparator, nulls, direction, nullOrder));
+    }
+
+    public ColumnarSort chainLong(long[] column, LongComparator comparator) {
+        return chainLong(column, comparator, Direction.ASCENDING);
+    }
+
+    public ColumnarSort chainLong(long[] column, LongComparator comparator, Direction direction) {
+        return chainLong(column, null, comparator, direction, Nulls.LAST);
+    }
+
+    public ColumnarSort chainLong(long[] column, BitSet nulls, LongComparator comparator, Direction direction,
+            Nulls nullOrder) {
+        checkLength(column.length);
+        return append(new LongColumn(column, comparator, nulls, direction, nullOrder));
+    }
+
+    public ColumnarSort chainDouble(double[] column, DoubleComparator comparator) {
+        return chainDouble(column, comparator, Direction.ASCENDING);
+    }
+
+    public ColumnarSort chainDouble(double[] column, DoubleComparator comparator, Direction direction) {
+        return chainDouble(column, null, comparator, direction, Nulls.LAST);
+    }
+
+    public ColumnarSort chainDouble(double[] column, BitSet nulls, DoubleComparator comparator, Direction direction,
+            Nulls nullOrder) {
+        checkLength(column.length);
+        return append(new DoubleColumn(column, comparator, nulls, direction, nullOrder));
+    }
+
+    public <S> ColumnarSort chain(S[] column, Comparator<? super S> comparator) {
+        return chain(column, comparator, Direction.ASCENDING, Nulls.LAST);
+    }
+
+    public <S> ColumnarSort chain(S[] column, Comparator<? super S> comparator, Direction direction,
+            Nulls nullOrder) {
+        checkLength(column.length);
+        return append(new ObjectColumn<>(column, comparator, direction, nullOrder));
+    }
+
+    private void checkLength(int length) {
+        if (length != rows) {
+            throw new IllegalArgumentException(
+                    String.format("Column of %d values does not match the %d rows", length, rows));
+        }
+    }
+
+    private ColumnarSort append(Column column) {
+        final List<Column> result = new ArrayList<>(List.of(columns));
+        result.add(column);
+        return new ColumnarSort(rows, result.toArray(new Column[0]));
+    }
+
+    public int compare(int row1, int row2) {
+        return compare(row1, row2, 0, columns.length);
+    }
+
+    private int compare(int row1, int row2, int from, int to) {
+        for (int c = from; c < to; c++) {
+            final int value = columns[c].compare(row1, row2);
+            if (value != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    public int[] sort() {
+        final int[] permutation = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            permutation[i] = i;
+        }
+        if (rows > 1 && !packedSort(permutation)) {
+            mergeSort(permutation.clone(), permutation, 0, rows, 0);
+        }
+        return permutation;
+    }
+
+    // Leading natural int and long columns are normalised to unsigned offsets from their minimum and packed, with
+    // the row index in the low bits, into one long per row, so that a primitive sort orders them stably without
+    // calling any comparator. Runs of equal packed keys are then sorted by the remaining columns.
+    private boolean packedSort(int[] permutation) {
+        final int indexBits = 64 - Long.numberOfLeadingZeros(rows - 1);
+        int available = 63 - indexBits;
+        final long[] packed = new long[rows];
+        int packedColumns = 0;
+        for (Column next : columns) {
+            if (!(next instanceof PackableColumn)) {
+                break;
+            }
+            final PackableColumn column = (PackableColumn) next;
+            final long[] bounds = column.bounds(rows);
+            if (bounds == null) {
+                break;
+            }
+            final long minimum = bounds[0] > bounds[1] ? 0 : bounds[0];
+            final long maximum = bounds[0] > bounds[1] ? 0 : bounds[1];
+            final long span = maximum - minimum;
+            final long largest = span + (column.nulls != null ? 1 : 0);
+            final int bits = 64 - Long.numberOfLeadingZeros(largest);
+            if (span < 0 || largest < 0 || bits > available) {
+                break;
+            }
+            available -= bits;
+            column.pack(packed, rows, minimum, maximum, bits);
+            packedColumns++;
+        }
+        if (packedColumns == 0) {
+            return false;
+        }
+        for (int row = 0; row < rows; row++) {
+            packed[row] = (packed[row] << indexBits) | row;
+        }
+        final int keyBits = 63 - indexBits - available;
+        if (rows < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(packed);
+        } else if (keyBits > 0) {
+            radixSort(packed, indexBits, keyBits);
+        }
+        final long indexMask = (1L << indexBits) - 1;
+        for (int i = 0; i < rows; i++) {
+            permutation[i] = (int) (packed[i] & indexMask);
+        }
+        if (packedColumns < columns.length) {
+            final int[] scratch = permutation.clone();
+            int start = 0;
+            for (int i = 1; i <= rows; i++) {
+                if (i == rows || (packed[start] >>> indexBits) != (packed[i] >>> indexBits)) {
+                    if (i - start > 1) {
+                        mergeSort(scratch, permutation, start, i, packedColumns);
+                    }
+                    start = i;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Least significant digit first radix sort on the key bits only: it is stable and the rows start in index order,
+    // so the index bits never need a pass.
+    private static void radixSort(long[] values, int fromBit, int bits) {
+        long[] source = values;
+        long[] target = new long[values.length];
+        final int[] counts = new int[1 << RADIX_BITS];
+        final int mask = (1 << RADIX_BITS) - 1;
+        for (int shift = fromBit; shift < fromBit + bits; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (long value : source) {
+                counts[(int) (value >>> shift) & mask]++;
+            }
+            int offset = 0;
+            for (int digit = 0; digit < counts.length; digit++) {
+                final int count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+            for (long value : source) {
+                target[counts[(int) (value >>> shift) & mask]++] = value;
+            }
+            final long[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, values.length);
+        }
+    }
+
+    public void apply(int[] permutation) {
+        checkLength(permutation.length);
+        for (Column column : columns) {
+            column.permute(permutation);
+        }
+    }
+
+    public int[] sortAndApply() {
+        final int[] permutation = sort();
+        apply(permutation);
+        return permutation;
+    }
+
+    // Sorts target[from, to) by the columns from the given one, using source as scratch; both hold the same indices
+    // on entry.
+    private void mergeSort(int[] source, int[] target, int from, int to, int column) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                final int row = target[i];
+                int j = i - 1;
+                while (j >= from && compare(target[j], row, column, columns.length) > 0) {
+                    target[j + 1] = target[j];
+                    j--;
+                }
+                target[j + 1] = row;
+            }
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        mergeSort(target, source, from, middle, column);
+        mergeSort(target, source, middle, to, column);
+        if (compare(source[middle - 1], source[middle], column, columns.length) <= 0) {
+            System.arraycopy(source, from, target, from, to - from);
+            return;
+        }
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compare(source[left], source[right], column, columns.length) <= 0)) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+
+    // The permute methods rearrange a column in place so that column[i] becomes the old column[permutation[i]],
+    // following each cycle of the permutation once.
+    public static void permute(int[] permutation, int[] column) {
+        final BitSet visited = new BitSet(permutation.length);
+        for (int start = visited.nextClearBit(0); start < permutation.length; start = visited.nextClearBit(start)) {
+            final int saved = column[start];
+            int current = start;
+            visited.set(current);
+            while (permutation[current] != start) {
+                column[current] = column[permutation[current]];
+                current = permutation[current];
+                visited.set(current);
+            }
+            column[current] = saved;
+        }
+    }
+
+    public static void permute(int[] permutation, long[] column) {
+        final BitSet visited = new BitSet(permutation.length);
+        for (int start = visited.nextClearBit(0); start < permutation.length; start = visited.nextClearBit(start)) {
+            final long saved = column[start];
+            int current = start;
+            visited.set(current);
+            while (permutation[current] != start) {
+                column[current] = column[permutation[current]];
+                current = permutation[current];
+                visited.set(current);
+            }
+            column[current] = saved;
+        }
+    }
+
+    public static void permute(int[] permutation, double[] column) {
+        final BitSet visited = new BitSet(permutation.length);
+        for (int start = visited.nextClearBit(0); start < permutation.length; start = visited.nextClearBit(start)) {
+            final double saved = column[start];
+            int current = start;
+            visited.set(current);
+            while (permutation[current] != start) {
+                column[current] = column[permutation[current]];
+                current = permutation[current];
+                visited.set(current);
+            }
+            column[current] = saved;
+        }
+    }
+
+    public static <S> void permute(int[] permutation, S[] column) {
+        final BitSet visited = new BitSet(permutation.length);
+        for (int start = visited.nextClearBit(0); start < permutation.length; start = visited.nextClearBit(start)) {
+            final S saved = column[start];
+            int current = start;
+            visited.set(current);
+            while (permutation[current] != start) {
+                column[current] = column[permutation[current]];
+                current = permutation[current];
+                visited.set(current);
+            }
+            column[current] = saved;
+        }
+    }
+}
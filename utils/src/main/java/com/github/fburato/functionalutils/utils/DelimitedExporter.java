@@ -0,0 +1,420 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+public final class DelimitedExporter<T> {
+
+    public static final class Configuration {
+        public final char delimiter;
+        public final String recordSeparator;
+        public final boolean header;
+        public final int bufferSize;
+        public final int chunkSize;
+
+        public Configuration(char delimiter, String recordSeparator, boolean header, int bufferSize, int chunkSize) {
+            if (delimiter >= 0x80 || delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+                throw new IllegalArgumentException(String.format("'%s' cannot be used as delimiter", delimiter));
+            }
+            if (bufferSize < MINIMUM_BUFFER_SIZE) {
+                throw new IllegalArgumentException(
+                        String.format("bufferSize must not be smaller than %d", MINIMUM_BUFFER_SIZE));
+            }
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("chunkSize must be positive");
+            }
+            this.delimiter = delimiter;
+            this.recordSeparator = recordSeparator;
+            this.header = header;
+            this.bufferSize = bufferSize;
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static final class Statistics {
+        public final long rows;
+        public final long bytes;
+        public final long nanos;
+
+        public Statistics(long rows, long bytes, long nanos) {
+            this.rows = rows;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        public double rowsPerSecond() {
+            return nanos == 0 ? 0 : rows * 1e9 / nanos;
+        }
+
+        public double megabytesPerSecond() {
+            return nanos == 0 ? 0 : bytes * 1e9 / nanos / (1024 * 1024);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d rows, %d bytes in %d ms (%.0f rows/s, %.2f MB/s)", rows, bytes, nanos / 1_000_000,
+                    rowsPerSecond(), megabytesPerSecond());
+        }
+    }
+
+    private static final int MINIMUM_BUFFER_SIZE = 64;
+    private static final int MAXIMUM_UTF8_BYTES_PER_CHAR = 3;
+    private static final int STAGING_SIZE = 8192;
+
+    public static Configuration csvConfiguration() {
+        return new Configuration(',', "\r\n", true, 1 << 20, 4096);
+    }
+
+    public static Configuration tsvConfiguration() {
+        return new Configuration('\t', "\r\n", true, 1 << 20, 4096);
+    }
+
+    private final TypeSafeChainShow<T> columns;
+    private final Configuration configuration;
+    private final List<String> header;
+    private final boolean[] quotingCharacters = new boolean[0x80];
+
+    private DelimitedExporter(TypeSafeChainShow<T> columns, Configuration configuration) {
+        this.columns = columns;
+        this.configuration = configuration;
+        final List<String> names = new ArrayList<>();
+        if (configuration.header) {
+            final List<TypeSafeChainShow.Step<T, ?>> steps = columns.steps();
+            for (int i = 0; i < steps.size(); i++) {
+                if (steps.get(i).name == null) {
+                    throw new IllegalArgumentException(String.format("column %d has no name", i));
+                }
+                names.add(steps.get(i).name);
+            }
+        }
+        this.header = List.copyOf(names);
+        quotingCharacters[configuration.delimiter] = true;
+        quotingCharacters['"'] = true;
+        quotingCharacters['\r'] = true;
+        quotingCharacters['\n'] = true;
+    }
+
+    public static <S> DelimitedExporter<S> create(TypeSafeChainShow<S> columns) {
+        return new DelimitedExporter<>(columns, csvConfiguration());
+    }
+
+    public static <S> DelimitedExporter<S> createWithConfig(TypeSafeChainShow<S> columns,
+            Configuration configuration) {
+        return new DelimitedExporter<>(columns, configuration);
+    }
+
+    public Statistics export(Stream<? extends T> rows, WritableByteChannel channel) throws IOException {
+        return export(rows.iterator(), channel);
+    }
+
+    public Statistics export(Iterator<? extends T> rows, WritableByteChannel channel) throws IOException {
+        final long start = System.nanoTime();
+        final ChannelSink sink = new ChannelSink(channel, configuration.bufferSize);
+        final Encoder encoder = new Encoder(sink);
+        long count = 0;
+        try {
+            encoder.header();
+            while (rows.hasNext()) {
+                encoder.row(rows.next());
+                count++;
+            }
+            encoder.drain();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        sink.flush();
+        return new Statistics(count, sink.written, System.nanoTime() - start);
+    }
+
+    public Statistics exportParallel(Stream<? extends T> rows, WritableByteChannel channel, ForkJoinPool pool)
+            throws IOException {
+        return exportParallel(rows.iterator(), channel, pool);
+    }
+
+    public Statistics exportParallel(Iterator<? extends T> rows, WritableByteChannel channel, ForkJoinPool pool)
+            throws IOException {
+        final long start = System.nanoTime();
+        final int window = Math.max(2, pool.getParallelism() * 2);
+        final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        final ArrayDeque<ForkJoinTask<List<ByteBuffer>>> pending = new ArrayDeque<>(window);
+        long count = 0;
+        long written = 0;
+        try {
+            if (configuration.header) {
+                pending.add(pool.submit(() -> encodeChunk(null, 0, buffers)));
+            }
+            while (rows.hasNext()) {
+                final Object[] chunk = new Object[configuration.chunkSize];
+                int size = 0;
+                while (size < chunk.length && rows.hasNext()) {
+                    chunk[size++] = rows.next();
+                }
+                count += size;
+                final int chunkRows = size;
+                if (pending.size() == window) {
+                    written += write(pending.poll().join(), channel, buffers);
+                }
+                pending.add(pool.submit(() -> encodeChunk(chunk, chunkRows, buffers)));
+            }
+            while (!pending.isEmpty()) {
+                written += write(pending.poll().join(), channel, buffers);
+            }
+        } finally {
+            for (ForkJoinTask<List<ByteBuffer>> task : pending) {
+                task.cancel(false);
+            }
+        }
+        return new Statistics(count, written, System.nanoTime() - start);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ByteBuffer> encodeChunk(Object[] chunk, int size, ConcurrentLinkedQueue<ByteBuffer> buffers) {
+        final ChunkSink sink = new ChunkSink(buffers, configuration.bufferSize);
+        final Encoder encoder = new Encoder(sink);
+        if (chunk == null) {
+            encoder.header();
+        } else {
+            for (int i = 0; i < size; i++) {
+                encoder.row((T) chunk[i]);
+            }
+        }
+        encoder.drain();
+        return sink.complete();
+    }
+
+    private long write(List<ByteBuffer> encoded, WritableByteChannel channel,
+            ConcurrentLinkedQueue<ByteBuffer> buffers) throws IOException {
+        long written = 0;
+        for (ByteBuffer buffer : encoded) {
+            buffer.flip();
+            written += writeFully(buffer, channel);
+            if (buffer.capacity() == configuration.bufferSize) {
+                buffers.add(buffer.clear());
+            }
+        }
+        return written;
+    }
+
+    private static long writeFully(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        final int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return length;
+    }
+
+    private abstract static class Sink {
+        final int bufferSize;
+        ByteBuffer buffer;
+
+        Sink(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        ByteBuffer ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                spill();
+                if (bytes > bufferSize) {
+                    oversized(bytes);
+                }
+            }
+            return buffer;
+        }
+
+        abstract void spill();
+
+        abstract void oversized(int bytes);
+    }
+
+    private static final class ChannelSink extends Sink {
+        private final WritableByteChannel channel;
+        private final ByteBuffer reused;
+        long written;
+
+        ChannelSink(WritableByteChannel channel, int bufferSize) {
+            super(bufferSize);
+            this.channel = channel;
+            this.reused = ByteBuffer.allocateDirect(bufferSize);
+            this.buffer = reused;
+        }
+
+        @Override
+        void spill() {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        void oversized(int bytes) {
+            buffer = ByteBuffer.allocate(bytes);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            written += writeFully(buffer, channel);
+            buffer = reused.clear();
+        }
+    }
+
+    private static final class ChunkSink extends Sink {
+        private final ConcurrentLinkedQueue<ByteBuffer> buffers;
+        private final List<ByteBuffer> encoded = new ArrayList<>();
+
+        ChunkSink(ConcurrentLinkedQueue<ByteBuffer> buffers, int bufferSize) {
+            super(bufferSize);
+            this.buffers = buffers;
+            this.buffer = take();
+        }
+
+        private ByteBuffer take() {
+            final ByteBuffer pooled = buffers.poll();
+            return pooled == null ? ByteBuffer.allocateDirect(bufferSize) : pooled;
+        }
+
+        @Override
+        void spill() {
+            encoded.add(buffer);
+            buffer = take();
+        }
+
+        @Override
+        void oversized(int bytes) {
+            buffers.add(buffer);
+            buffer = ByteBuffer.allocate(bytes);
+        }
+
+        List<ByteBuffer> complete() {
+            encoded.add(buffer);
+            return encoded;
+        }
+    }
+
+    private final class Encoder {
+        private final Sink sink;
+        private final StringBuilder scratch = new StringBuilder();
+        private byte[] bytes = new byte[STAGING_SIZE];
+        private int position;
+
+        Encoder(Sink sink) {
+            this.sink = sink;
+        }
+
+        void header() {
+            if (configuration.header) {
+                for (int i = 0; i < header.size(); i++) {
+                    delimit(i);
+                    field(header.get(i));
+                }
+                separate();
+            }
+        }
+
+        void row(T t) {
+            final List<TypeSafeChainShow.Step<T, ?>> steps = columns.steps();
+            for (int i = 0; i < steps.size(); i++) {
+                delimit(i);
+                column(steps.get(i), t);
+            }
+            separate();
+        }
+
+        void drain() {
+            if (position > 0) {
+                sink.ensure(position).put(bytes, 0, position);
+                position = 0;
+            }
+        }
+
+        private void reserve(int length) {
+            if (position + length > bytes.length) {
+                drain();
+                if (length > bytes.length) {
+                    bytes = new byte[length];
+                }
+            }
+        }
+
+        private <S> void column(TypeSafeChainShow.Step<T, S> step, T t) {
+            final S value = step.fieldGetter.apply(t);
+            if (value == null) {
+                return;
+            }
+            if (step.show != Shows.standard()) {
+                scratch.setLength(0);
+                step.show.showTo(value, scratch);
+                field(scratch);
+            } else if (value instanceof CharSequence) {
+                field((CharSequence) value);
+            } else {
+                scratch.setLength(0);
+                scratch.append(value);
+                field(scratch);
+            }
+        }
+
+        private void delimit(int index) {
+            if (index > 0) {
+                reserve(1);
+                bytes[position++] = (byte) configuration.delimiter;
+            }
+        }
+
+        private void separate() {
+            final String separator = configuration.recordSeparator;
+            reserve(separator.length() * MAXIMUM_UTF8_BYTES_PER_CHAR);
+            position = Utf8.encode(separator, 0, separator.length(), bytes, position);
+        }
+
+        private void field(CharSequence chars) {
+            final int length = chars.length();
+            reserve(length * MAXIMUM_UTF8_BYTES_PER_CHAR + 2);
+            final byte[] target = bytes;
+            final boolean[] quoting = quotingCharacters;
+            int current = position;
+            for (int i = 0; i < length; i++) {
+                final char c = chars.charAt(i);
+                if (c < 0x80) {
+                    if (quoting[c]) {
+                        quoted(chars);
+                        return;
+                    }
+                    target[current++] = (byte) c;
+                } else {
+                    final int end = Character.isHighSurrogate(c) && i + 1 < length
+                            && Character.isLowSurrogate(chars.charAt(i + 1)) ? i + 2 : i + 1;
+                    current = Utf8.encode(chars, i, end, target, current);
+                    i = end - 1;
+                }
+            }
+            position = current;
+        }
+
+        private void quoted(CharSequence chars) {
+            final int length = chars.length();
+            bytes[position++] = '"';
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (chars.charAt(i) == '"') {
+                    position = Utf8.encode(chars, start, i + 1, bytes, position);
+                    bytes[position++] = '"';
+                    start = i + 1;
+                }
+            }
+            position = Utf8.encode(chars, start, length, bytes, position);
+            bytes[position++] = '"';
+        }
+    }
+}
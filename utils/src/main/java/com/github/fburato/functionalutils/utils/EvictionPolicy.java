@@ -0,0 +1,5 @@
+package com.github.fburato.functionalutils.utils;
+
+public enum EvictionPolicy {
+    LRU, TINY_LFU
+}
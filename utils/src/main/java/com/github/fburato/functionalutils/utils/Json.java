@@ -0,0 +1,161 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.nio.ByteBuffer;
+
+final class Json {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final boolean[] ESCAPED = new boolean[128];
+
+    static {
+        for (int c = 0; c < 0x20; c++) {
+            ESCAPED[c] = true;
+        }
+        ESCAPED['"'] = true;
+        ESCAPED['\\'] = true;
+    }
+
+    private Json() {
+    }
+
+    static boolean needsEscape(char c) {
+        return c < 128 && ESCAPED[c];
+    }
+
+    static int firstEscape(CharSequence chars, int from) {
+        final int length = chars.length();
+        for (int i = from; i < length; i++) {
+            if (needsEscape(chars.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static String quote(String string) {
+        final StringBuilder builder = new StringBuilder(string.length() + 2).append('"');
+        appendEscaped(string, 0, builder);
+        return builder.append('"').toString();
+    }
+
+    static void appendEscaped(CharSequence chars, int from, StringBuilder builder) {
+        final int length = chars.length();
+        int start = from;
+        int escape = firstEscape(chars, start);
+        while (escape >= 0) {
+            builder.append(chars, start, escape);
+            appendEscape(chars.charAt(escape), builder);
+            start = escape + 1;
+            escape = firstEscape(chars, start);
+        }
+        builder.append(chars, start, length);
+    }
+
+    static void escapeInPlace(StringBuilder builder, int from) {
+        final int escape = firstEscape(builder, from);
+        if (escape >= 0) {
+            final String tail = builder.substring(escape);
+            builder.setLength(escape);
+            appendEscaped(tail, 0, builder);
+        }
+    }
+
+    static void putEscaped(CharSequence chars, ByteBuffer buffer) {
+        final int length = chars.length();
+        int start = 0;
+        int escape = firstEscape(chars, start);
+        while (escape >= 0) {
+            Utf8.encode(chars, start, escape, buffer);
+            putEscape(chars.charAt(escape), buffer);
+            start = escape + 1;
+            escape = firstEscape(chars, start);
+        }
+        Utf8.encode(chars, start, length, buffer);
+    }
+
+    static void putAscii(CharSequence chars, ByteBuffer buffer) {
+        final int length = chars.length();
+        for (int i = 0; i < length; i++) {
+            buffer.put((byte) chars.charAt(i));
+        }
+    }
+
+    static void putLong(long value, ByteBuffer buffer) {
+        if (value == Long.MIN_VALUE) {
+            putAscii(Long.toString(value), buffer);
+            return;
+        }
+        long remaining = value;
+        if (remaining < 0) {
+            buffer.put((byte) '-');
+            remaining = -remaining;
+        }
+        int digits = 1;
+        for (long bound = 10; bound <= remaining && digits < 19; bound *= 10) {
+            digits++;
+        }
+        final int end = buffer.position() + digits;
+        for (int i = end - 1; i >= buffer.position(); i--) {
+            buffer.put(i, (byte) ('0' + remaining % 10));
+            remaining /= 10;
+        }
+        buffer.position(end);
+    }
+
+    private static void appendEscape(char c, StringBuilder builder) {
+        switch (c) {
+        case '"':
+            builder.append("\\\"");
+            break;
+        case '\\':
+            builder.append("\\\\");
+            break;
+        case '\n':
+            builder.append("\\n");
+            break;
+        case '\r':
+            builder.append("\\r");
+            break;
+        case '\t':
+            builder.append("\\t");
+            break;
+        case '\b':
+            builder.append("\\b");
+            break;
+        case '\f':
+            builder.append("\\f");
+            break;
+        default:
+            builder.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+        }
+    }
+
+    private static void putEscape(char c, ByteBuffer buffer) {
+        switch (c) {
+        case '"':
+            buffer.put((byte) '\\').put((byte) '"');
+            break;
+        case '\\':
+            buffer.put((byte) '\\').put((byte) '\\');
+            break;
+        case '\n':
+            buffer.put((byte) '\\').put((byte) 'n');
+            break;
+        case '\r':
+            buffer.put((byte) '\\').put((byte) 'r');
+            break;
+        case '\t':
+            buffer.put((byte) '\\').put((byte) 't');
+            break;
+        case '\b':
+            buffer.put((byte) '\\').put((byte) 'b');
+            break;
+        case '\f':
+            buffer.put((byte) '\\').put((byte) 'f');
+            break;
+        default:
+            buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                    .put((byte) HEX[c >> 4]).put((byte) HEX[c & 0xF]);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleShow;
+import com.github.fburato.functionalutils.api.IntShow;
+import com.github.fburato.functionalutils.api.LongShow;
+import com.github.fburato.functionalutils.api.Show;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public final class JsonShow<T> implements Show<T> {
+
+    private static final String NULL = "null";
+    private static final byte[] NULL_BYTES = NULL.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE_BYTES = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE_BYTES = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final String EMPTY = "{}";
+
+    private static final class Field<T, S> {
+        final String prefix;
+        final byte[] prefixBytes;
+        final Function<T, S> fieldGetter;
+        final Show<S> show;
+        final JsonShow<S> nested;
+        final boolean standard;
+
+        Field(String prefix, Function<T, S> fieldGetter, Show<S> show, JsonShow<S> nested) {
+            this.prefix = prefix;
+            this.prefixBytes = Utf8.bytes(prefix);
+            this.fieldGetter = fieldGetter;
+            this.show = show;
+            this.nested = nested;
+            this.standard = show == Shows.standard() || show == IntShow.standard() || show == LongShow.standard()
+                    || show == DoubleShow.standard();
+        }
+
+        void showTo(T t, StringBuilder builder) {
+            builder.append(prefix);
+            final S value = fieldGetter.apply(t);
+            if (value == null) {
+                builder.append(NULL);
+            } else if (nested != null) {
+                nested.showTo(value, builder);
+            } else if (standard) {
+                appendStandard(value, builder);
+            } else {
+                builder.append('"');
+                final int start = builder.length();
+                show.showTo(value, builder);
+                Json.escapeInPlace(builder, start);
+                builder.append('"');
+            }
+        }
+
+        void writeTo(T t, ByteBuffer buffer) {
+            buffer.put(prefixBytes);
+            final S value = fieldGetter.apply(t);
+            if (value == null) {
+                buffer.put(NULL_BYTES);
+            } else if (nested != null) {
+                nested.writeTo(value, buffer);
+            } else if (standard) {
+                putStandard(value, buffer);
+            } else {
+                putString(show.show(value), buffer);
+            }
+        }
+    }
+
+    private final List<Field<T, ?>> fields;
+
+    private JsonShow(List<Field<T, ?>> fields) {
+        this.fields = List.copyOf(fields);
+    }
+
+    public static <S> JsonShow<S> create(TypeSafeChainShow<S> chainShow) {
+        final List<TypeSafeChainShow.Step<S, ?>> steps = chainShow.steps();
+        final List<String> names = new ArrayList<>(steps.size());
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i).name == null) {
+                throw new IllegalArgumentException(String.format("field %d has no name", i));
+            }
+            names.add(steps.get(i).name);
+        }
+        return create(chainShow, names);
+    }
+
+    public static <S> JsonShow<S> create(TypeSafeChainShow<S> chainShow, List<String> fieldNames) {
+        final List<TypeSafeChainShow.Step<S, ?>> steps = chainShow.steps();
+        if (steps.size() != fieldNames.size()) {
+            throw new IllegalArgumentException(
+                    String.format("expected %d field names but got %d", steps.size(), fieldNames.size()));
+        }
+        final List<Field<S, ?>> fields = new ArrayList<>(steps.size());
+        for (int i = 0; i < steps.size(); i++) {
+            final String name = fieldNames.get(i);
+            if (name == null) {
+                throw new IllegalArgumentException(String.format("field %d has no name", i));
+            }
+            fields.add(field((i == 0 ? "{" : ",") + Json.quote(name) + ":", steps.get(i)));
+        }
+        return new JsonShow<>(fields);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> Field<T, S> field(String prefix, TypeSafeChainShow.Step<T, S> step) {
+        final JsonShow<S> nested;
+        if (step.show instanceof JsonShow) {
+            nested = (JsonShow<S>) step.show;
+        } else if (step.show instanceof TypeSafeChainShow) {
+            nested = create((TypeSafeChainShow<S>) step.show);
+        } else {
+            nested = null;
+        }
+        return new Field<>(prefix, step.fieldGetter, step.show, nested);
+    }
+
+    @Override
+    public String show(T t) {
+        final StringBuilder builder = new StringBuilder();
+        showTo(t, builder);
+        return builder.toString();
+    }
+
+    @Override
+    public void showTo(T t, StringBuilder builder) {
+        if (t == null) {
+            builder.append(NULL);
+        } else if (fields.isEmpty()) {
+            builder.append(EMPTY);
+        } else {
+            for (int i = 0; i < fields.size(); i++) {
+                fields.get(i).showTo(t, builder);
+            }
+            builder.append('}');
+        }
+    }
+
+    public void writeTo(T t, ByteBuffer buffer) {
+        if (t == null) {
+            buffer.put(NULL_BYTES);
+        } else if (fields.isEmpty()) {
+            buffer.put((byte) '{').put((byte) '}');
+        } else {
+            for (int i = 0; i < fields.size(); i++) {
+                fields.get(i).writeTo(t, buffer);
+            }
+            buffer.put((byte) '}');
+        }
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isFinite(Object value) {
+        if (value instanceof Double) {
+            return Double.isFinite((Double) value);
+        }
+        return value instanceof Float && Float.isFinite((Float) value);
+    }
+
+    private static void appendStandard(Object value, StringBuilder builder) {
+        if (isIntegral(value) || isFinite(value) || value instanceof Boolean || value instanceof BigInteger
+                || value instanceof BigDecimal) {
+            builder.append(value);
+        } else if (value instanceof CharSequence) {
+            builder.append('"');
+            Json.appendEscaped((CharSequence) value, 0, builder);
+            builder.append('"');
+        } else {
+            builder.append('"');
+            final int start = builder.length();
+            builder.append(value);
+            Json.escapeInPlace(builder, start);
+            builder.append('"');
+        }
+    }
+
+    private static void putStandard(Object value, ByteBuffer buffer) {
+        if (isIntegral(value)) {
+            Json.putLong(((Number) value).longValue(), buffer);
+        } else if (value instanceof Boolean) {
+            buffer.put((Boolean) value ? TRUE_BYTES : FALSE_BYTES);
+        } else if (isFinite(value) || value instanceof BigInteger || value instanceof BigDecimal) {
+            Json.putAscii(value.toString(), buffer);
+        } else if (value instanceof CharSequence) {
+            putString((CharSequence) value, buffer);
+        } else {
+            putString(value.toString(), buffer);
+        }
+    }
+
+    private static void putString(CharSequence value, ByteBuffer buffer) {
+        buffer.put((byte) '"');
+        Json.putEscaped(value, buffer);
+        buffer.put((byte) '"');
+    }
+}
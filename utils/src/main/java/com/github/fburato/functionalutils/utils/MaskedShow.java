@@ -0,0 +1,49 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class MaskedShow<T> implements Show<T> {
+
+    private final TypeSafeChainShow<T> base;
+    private final Map<ShowMask, TypeSafeChainShow<T>> compiled = new ConcurrentHashMap<>();
+    private volatile TypeSafeChainShow<T> current;
+
+    private MaskedShow(TypeSafeChainShow<T> base, ShowMask mask) {
+        this.base = base;
+        this.current = compile(mask);
+    }
+
+    public static <S> MaskedShow<S> create(TypeSafeChainShow<S> base) {
+        return new MaskedShow<>(base, ShowMask.all());
+    }
+
+    public static <S> MaskedShow<S> create(TypeSafeChainShow<S> base, ShowMask mask) {
+        return new MaskedShow<>(base, mask);
+    }
+
+    public void setMask(ShowMask mask) {
+        current = compile(mask);
+    }
+
+    public TypeSafeChainShow<T> compile(ShowMask mask) {
+        final TypeSafeChainShow<T> cached = compiled.get(mask);
+        return cached != null ? cached : compiled.computeIfAbsent(mask, m -> m.compile(base));
+    }
+
+    public String show(T t, ShowMask mask) {
+        return compile(mask).show(t);
+    }
+
+    @Override
+    public String show(T t) {
+        return current.show(t);
+    }
+
+    @Override
+    public void showTo(T t, StringBuilder builder) {
+        current.showTo(t, builder);
+    }
+}
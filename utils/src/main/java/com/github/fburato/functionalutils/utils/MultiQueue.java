@@ -0,0 +1,153 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class MultiQueue<T> {
+
+    public static final class Configuration {
+        public final int queues;
+
+        public Configuration(int queues) {
+            if (queues < 1) {
+                throw new IllegalArgumentException(String.format("Invalid number of queues %d", queues));
+            }
+            this.queues = queues;
+        }
+    }
+
+    public static Configuration standardConfiguration() {
+        return relaxedConfiguration(2);
+    }
+
+    public static Configuration relaxedConfiguration(int queuesPerProcessor) {
+        if (queuesPerProcessor < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid number of queues per processor %d", queuesPerProcessor));
+        }
+        return new Configuration(queuesPerProcessor * Runtime.getRuntime().availableProcessors());
+    }
+
+    public static Configuration strictConfiguration() {
+        return new Configuration(1);
+    }
+
+    // The head of each queue is published through a volatile field so that pollers can pick the better of two
+    // queues without taking their locks.
+    private static final class Shard<T> {
+        final ReentrantLock lock = new ReentrantLock();
+        final PriorityQueue<T> queue;
+        volatile T head;
+
+        Shard(Comparator<? super T> comparator) {
+            queue = new PriorityQueue<>(comparator);
+        }
+    }
+
+    private final Comparator<? super T> comparator;
+    private final Shard<T>[] shards;
+    private final LongAdder size = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private MultiQueue(Comparator<? super T> comparator, Configuration configuration) {
+        this.comparator = comparator;
+        this.shards = new Shard[configuration.queues];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard<>(comparator);
+        }
+    }
+
+    public static <S> MultiQueue<S> create(Comparator<? super S> comparator) {
+        return new MultiQueue<>(comparator, standardConfiguration());
+    }
+
+    public static <S> MultiQueue<S> createWithConfig(Comparator<? super S> comparator, Configuration configuration) {
+        return new MultiQueue<>(comparator, configuration);
+    }
+
+    public boolean isStrict() {
+        return shards.length == 1;
+    }
+
+    public long size() {
+        return Math.max(0, size.sum());
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void offer(T element) {
+        if (element == null) {
+            throw new NullPointerException("MultiQueue does not accept null elements");
+        }
+        Shard<T> shard = shards[0];
+        if (!isStrict()) {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            do {
+                shard = shards[random.nextInt(shards.length)];
+            } while (!shard.lock.tryLock());
+        } else {
+            shard.lock.lock();
+        }
+        try {
+            shard.queue.add(element);
+            shard.head = shard.queue.peek();
+        } finally {
+            shard.lock.unlock();
+        }
+        size.increment();
+    }
+
+    // Polls the head of the better of two random queues, which is among the smallest O(queues) elements on
+    // average. Falls back to scanning every queue in order before reporting the queue as empty.
+    public T poll() {
+        if (!isStrict()) {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int attempt = 0; attempt < shards.length; attempt++) {
+                final Shard<T> first = shards[random.nextInt(shards.length)];
+                final Shard<T> second = shards[random.nextInt(shards.length)];
+                final T firstHead = first.head;
+                final T secondHead = second.head;
+                if (firstHead == null && secondHead == null) {
+                    continue;
+                }
+                final Shard<T> best = secondHead == null
+                        || (firstHead != null && comparator.compare(firstHead, secondHead) <= 0) ? first : second;
+                if (best.lock.tryLock()) {
+                    final T polled = pollLocked(best);
+                    if (polled != null) {
+                        return polled;
+                    }
+                }
+            }
+        }
+        for (Shard<T> shard : shards) {
+            if (shard.head != null) {
+                shard.lock.lock();
+                final T polled = pollLocked(shard);
+                if (polled != null) {
+                    return polled;
+                }
+            }
+        }
+        return null;
+    }
+
+    private T pollLocked(Shard<T> shard) {
+        final T polled;
+        try {
+            polled = shard.queue.poll();
+            shard.head = shard.queue.peek();
+        } finally {
+            shard.lock.unlock();
+        }
+        if (polled != null) {
+            size.decrement();
+        }
+        return polled;
+    }
+}
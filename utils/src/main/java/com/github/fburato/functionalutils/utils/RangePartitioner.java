@@ -0,0 +1,347 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class RangePartitioner<T> {
+
+    public interface SplitterCodec<T> {
+        int size(T value);
+
+        void encode(T value, ByteBuffer buffer);
+
+        T decode(ByteBuffer buffer);
+
+        static SplitterCodec<Integer> ints() {
+            return new SplitterCodec<>() {
+                @Override
+                public int size(Integer value) {
+                    return Integer.BYTES;
+                }
+
+                @Override
+                public void encode(Integer value, ByteBuffer buffer) {
+                    buffer.putInt(value);
+                }
+
+                @Override
+                public Integer decode(ByteBuffer buffer) {
+                    return buffer.getInt();
+                }
+            };
+        }
+
+        static SplitterCodec<Long> longs() {
+            return new SplitterCodec<>() {
+                @Override
+                public int size(Long value) {
+                    return Long.BYTES;
+                }
+
+                @Override
+                public void encode(Long value, ByteBuffer buffer) {
+                    buffer.putLong(value);
+                }
+
+                @Override
+                public Long decode(ByteBuffer buffer) {
+                    return buffer.getLong();
+                }
+            };
+        }
+
+        static SplitterCodec<Double> doubles() {
+            return new SplitterCodec<>() {
+                @Override
+                public int size(Double value) {
+                    return Double.BYTES;
+                }
+
+                @Override
+                public void encode(Double value, ByteBuffer buffer) {
+                    buffer.putDouble(value);
+                }
+
+                @Override
+                public Double decode(ByteBuffer buffer) {
+                    return buffer.getDouble();
+                }
+            };
+        }
+
+        static SplitterCodec<String> strings() {
+            return new SplitterCodec<>() {
+                @Override
+                public int size(String value) {
+                    return Integer.BYTES + Utf8.bytes(value).length;
+                }
+
+                @Override
+                public void encode(String value, ByteBuffer buffer) {
+                    final byte[] bytes = Utf8.bytes(value);
+                    buffer.putInt(bytes.length).put(bytes);
+                }
+
+                @Override
+                public String decode(ByteBuffer buffer) {
+                    final byte[] bytes = new byte[buffer.getInt()];
+                    buffer.get(bytes);
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+            };
+        }
+    }
+
+    // The elements kept by a reservoir and the number of elements it saw, each kept element standing for
+    // population / elements.size() of them.
+    public static final class Sample<T> {
+        public final List<T> elements;
+        public final long population;
+
+        public Sample(List<T> elements, long population) {
+            if (population < elements.size()) {
+                throw new IllegalArgumentException(String.format("Invalid population %d for a sample of %d elements",
+                        population, elements.size()));
+            }
+            this.elements = elements;
+            this.population = population;
+        }
+    }
+
+    // Keeps a uniform sample of bounded size with Li's algorithm L, which draws random numbers only for the elements
+    // that enter the sample. Each node samples its own input.
+    public static final class Reservoir<T> {
+        private final Object[] elements;
+        private final SplittableRandom random;
+        private long population;
+        private double weight;
+        private long next;
+
+        private Reservoir(int capacity, SplittableRandom random) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException(String.format("Invalid reservoir capacity %d", capacity));
+            }
+            this.elements = new Object[capacity];
+            this.random = random;
+            this.weight = Math.exp(Math.log(uniform()) / capacity);
+            this.next = capacity + skip();
+        }
+
+        public static <S> Reservoir<S> create(int capacity) {
+            return new Reservoir<>(capacity, new SplittableRandom());
+        }
+
+        public static <S> Reservoir<S> createWithSeed(int capacity, long seed) {
+            return new Reservoir<>(capacity, new SplittableRandom(seed));
+        }
+
+        private double uniform() {
+            return 1.0 - random.nextDouble();
+        }
+
+        private long skip() {
+            return (long) Math.floor(Math.log(uniform()) / Math.log(1 - weight)) + 1;
+        }
+
+        public void add(T element) {
+            population++;
+            if (population <= elements.length) {
+                elements[(int) population - 1] = element;
+            } else if (population == next) {
+                elements[random.nextInt(elements.length)] = element;
+                weight *= Math.exp(Math.log(uniform()) / elements.length);
+                next += skip();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        public Sample<T> sample() {
+            final int size = (int) Math.min(population, elements.length);
+            return new Sample<>((List<T>) Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(elements, size))),
+                    population);
+        }
+    }
+
+    private final Comparator<? super T> comparator;
+    private final int partitions;
+    private final Object[] splitters;
+    // For each splitter, the fraction of the elements equal to it that sort before its boundary; elements equal to
+    // splitters are spread over the partitions they span in these proportions.
+    private final double[] fractions;
+
+    private RangePartitioner(Comparator<? super T> comparator, int partitions, Object[] splitters,
+            double[] fractions) {
+        this.comparator = comparator;
+        this.partitions = partitions;
+        this.splitters = splitters;
+        this.fractions = fractions;
+    }
+
+    private static int checkPartitions(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException(String.format("Invalid number of partitions %d", partitions));
+        }
+        return partitions;
+    }
+
+    // Picks the partitions - 1 splitters at equal steps of the sampled weight. A key weighing more than a partition
+    // is always picked, possibly several times, and its elements are spread over all the partitions it spans.
+    public static <S> RangePartitioner<S> createFromSamples(Comparator<? super S> comparator, int partitions,
+            Collection<Sample<S>> samples) {
+        checkPartitions(partitions);
+        final List<S> elements = new ArrayList<>();
+        final List<Double> weights = new ArrayList<>();
+        for (Sample<S> sample : samples) {
+            final double weight = sample.elements.isEmpty() ? 0 : (double) sample.population / sample.elements.size();
+            for (S element : sample.elements) {
+                elements.add(element);
+                weights.add(weight);
+            }
+        }
+        final Integer[] order = new Integer[elements.size()];
+        double total = 0;
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            total += weights.get(i);
+        }
+        if (order.length == 0 || partitions == 1) {
+            return new RangePartitioner<>(comparator, partitions, new Object[0], new double[0]);
+        }
+        Arrays.sort(order, (index1, index2) -> comparator.compare(elements.get(index1), elements.get(index2)));
+        final Object[] splitters = new Object[partitions - 1];
+        final double[] fractions = new double[partitions - 1];
+        int splitter = 0;
+        double start = 0;
+        for (int i = 0; i < order.length && splitter < splitters.length;) {
+            // Weigh the run of keys equal to order[i], which covers [start, end) of the cumulative weight
+            final S key = elements.get(order[i]);
+            double end = start;
+            do {
+                end += weights.get(order[i++]);
+            } while (i < order.length && comparator.compare(key, elements.get(order[i])) == 0);
+            for (double boundary = total * (splitter + 1) / partitions; splitter < splitters.length
+                    && (boundary < end || i == order.length); boundary = total * (splitter + 1) / partitions) {
+                splitters[splitter] = key;
+                fractions[splitter] = end > start ? Math.max(0, Math.min(1, (boundary - start) / (end - start))) : 1;
+                splitter++;
+            }
+            start = end;
+        }
+        return new RangePartitioner<>(comparator, partitions, splitters, fractions);
+    }
+
+    public int partitions() {
+        return partitions;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<T> splitters() {
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(splitters));
+    }
+
+    // Partition p holds the elements after splitter p - 1 and before splitter p; elements equal to one or more
+    // splitters are assigned randomly among the partitions those splitters separate.
+    public int partition(T element) {
+        final int lower = bound(element, false);
+        if (lower == splitters.length || compare(element, lower) != 0) {
+            return lower;
+        }
+        final int upper = bound(element, true);
+        final double position = ThreadLocalRandom.current().nextDouble();
+        int partition = lower;
+        while (partition < upper && fractions[partition] <= position) {
+            partition++;
+        }
+        return partition;
+    }
+
+    public boolean isHeavyHitter(T element) {
+        return bound(element, true) - bound(element, false) > 1;
+    }
+
+    public List<List<T>> route(Iterator<? extends T> elements) {
+        final List<List<T>> result = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            result.add(new ArrayList<>());
+        }
+        while (elements.hasNext()) {
+            final T element = elements.next();
+            result.get(partition(element)).add(element);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(T element, int splitter) {
+        return comparator.compare(element, (T) splitters[splitter]);
+    }
+
+    private int bound(T element, boolean upper) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int value = compare(element, middle);
+            if (value > 0 || (upper && value == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(SplitterCodec<? super T> codec) {
+        int size = 2 * Integer.BYTES + splitters.length * Double.BYTES;
+        for (Object splitter : splitters) {
+            size += codec.size((T) splitter);
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(partitions).putInt(splitters.length);
+        for (int i = 0; i < splitters.length; i++) {
+            codec.encode((T) splitters[i], buffer);
+            buffer.putDouble(fractions[i]);
+        }
+        return buffer.array();
+    }
+
+    public static <S> RangePartitioner<S> decode(Comparator<? super S> comparator, SplitterCodec<? extends S> codec,
+            byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final int partitions = checkPartitions(buffer.getInt());
+        final int count = buffer.getInt();
+        if (count != 0 && count != partitions - 1) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid number of splitters %d for %d partitions", count, partitions));
+        }
+        final Object[] splitters = new Object[count];
+        final double[] fractions = new double[count];
+        for (int i = 0; i < count; i++) {
+            final S splitter = codec.decode(buffer);
+            if (i > 0) {
+                @SuppressWarnings("unchecked")
+                final S previous = (S) splitters[i - 1];
+                if (comparator.compare(previous, splitter) > 0) {
+                    throw new IllegalArgumentException(String.format("Splitter %d is out of order", i));
+                }
+            }
+            splitters[i] = splitter;
+            fractions[i] = buffer.getDouble();
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException(
+                    String.format("%d trailing bytes after the splitters", buffer.remaining()));
+        }
+        return new RangePartitioner<>(comparator, partitions, splitters, fractions);
+    }
+}
@@ -0,0 +1,249 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RecordComparator {
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    // Fields read values with absolute gets at a fixed offset from the start of a record, so comparing never moves
+    // the buffer position or allocates.
+    private abstract static class Field {
+        final int offset;
+
+        Field(int offset) {
+            this.offset = offset;
+        }
+
+        abstract int compare(ByteBuffer buffer1, int record1, ByteBuffer buffer2, int record2);
+    }
+
+    private static final class IntField extends Field {
+        private final IntComparator comparator;
+
+        IntField(int offset, IntComparator comparator) {
+            super(offset);
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compare(ByteBuffer buffer1, int record1, ByteBuffer buffer2, int record2) {
+            return comparator.compareInt(buffer1.getInt(record1 + offset), buffer2.getInt(record2 + offset));
+        }
+    }
+
+    private static final class LongField extends Field {
+        private final LongComparator comparator;
+
+        LongField(int offset, LongComparator comparator) {
+            super(offset);
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compare(ByteBuffer buffer1, int record1, ByteBuffer buffer2, int record2) {
+            return comparator.compareLong(buffer1.getLong(record1 + offset), buffer2.getLong(record2 + offset));
+        }
+    }
+
+    private static final class DoubleField extends Field {
+        private final DoubleComparator comparator;
+
+        DoubleField(int offset, DoubleComparator comparator) {
+            super(offset);
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compare(ByteBuffer buffer1, int record1, ByteBuffer buffer2, int record2) {
+            return comparator.compareDouble(buffer1.getDouble(record1 + offset),
+                    buffer2.getDouble(record2 + offset));
+        }
+    }
+
+    // An int byte length followed by the UTF-8 bytes, compared as unsigned bytes: this is code point order, which
+    // matches String.compareTo except for supplementary characters.
+    private static final class Utf8Field extends Field {
+        private final boolean descending;
+
+        Utf8Field(int offset, boolean descending) {
+            super(offset);
+            this.descending = descending;
+        }
+
+        @Override
+        int compare(ByteBuffer buffer1, int record1, ByteBuffer buffer2, int record2) {
+            final int start1 = record1 + offset + Integer.BYTES;
+            final int start2 = record2 + offset + Integer.BYTES;
+            final int length1 = buffer1.getInt(record1 + offset);
+            final int length2 = buffer2.getInt(record2 + offset);
+            final int length = Math.min(length1, length2);
+            int value = 0;
+            int i = 0;
+            // Compare eight bytes at a time: as big endian words, unsigned order is the order of their bytes
+            for (; i + Long.BYTES <= length && value == 0; i += Long.BYTES) {
+                final long word1 = bigEndian(buffer1, buffer1.getLong(start1 + i));
+                final long word2 = bigEndian(buffer2, buffer2.getLong(start2 + i));
+                value = Long.compareUnsigned(word1, word2);
+            }
+            for (; i < length && value == 0; i++) {
+                value = Integer.compare(buffer1.get(start1 + i) & 0xff, buffer2.get(start2 + i) & 0xff);
+            }
+            if (value == 0) {
+                value = Integer.compare(length1, length2);
+            }
+            return descending ? -Integer.signum(value) : Integer.signum(value);
+        }
+
+        private static long bigEndian(ByteBuffer buffer, long word) {
+            return buffer.order() == ByteOrder.BIG_ENDIAN ? word : Long.reverseBytes(word);
+        }
+    }
+
+    private final Field[] fields;
+
+    private RecordComparator(Field[] fields) {
+        this.fields = fields;
+    }
+
+    public static RecordComparator create() {
+        return new RecordComparator(new Field[0]);
+    }
+
+    public RecordComparator chainInt(int offset, IntComparator comparator) {
+        return append(new IntField(checkOffset(offset), comparator));
+    }
+
+    public RecordComparator chainLong(int offset, LongComparator comparator) {
+        return append(new LongField(checkOffset(offset), comparator));
+    }
+
+    public RecordComparator chainDouble(int offset, DoubleComparator comparator) {
+        return append(new DoubleField(checkOffset(offset), comparator));
+    }
+
+    public RecordComparator chainUtf8(int offset) {
+        return append(new Utf8Field(checkOffset(offset), false));
+    }
+
+    public RecordComparator chainUtf8Descending(int offset) {
+        return append(new Utf8Field(checkOffset(offset), true));
+    }
+
+    private static int checkOffset(int offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException(String.format("Invalid field offset %d", offset));
+        }
+        return offset;
+    }
+
+    private RecordComparator append(Field field) {
+        final List<Field> result = new ArrayList<>(List.of(fields));
+        result.add(field);
+        return new RecordComparator(result.toArray(new Field[0]));
+    }
+
+    public int compare(ByteBuffer buffer, int record1, int record2) {
+        return compare(buffer, record1, buffer, record2);
+    }
+
+    public int compare(ByteBuffer buffer1, int record1, ByteBuffer buffer2, int record2) {
+        for (Field field : fields) {
+            final int value = field.compare(buffer1, record1, buffer2, record2);
+            if (value != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    public void sort(ByteBuffer buffer, int[] records) {
+        if (records.length > 1) {
+            mergeSort(buffer, records.clone(), records, 0, records.length);
+        }
+    }
+
+    private void mergeSort(ByteBuffer buffer, int[] source, int[] target, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                final int record = target[i];
+                int j = i - 1;
+                while (j >= from && compare(buffer, target[j], record) > 0) {
+                    target[j + 1] = target[j];
+                    j--;
+                }
+                target[j + 1] = record;
+            }
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        mergeSort(buffer, target, source, from, middle);
+        mergeSort(buffer, target, source, middle, to);
+        if (compare(buffer, source[middle - 1], source[middle]) <= 0) {
+            System.arraycopy(source, from, target, from, to - from);
+            return;
+        }
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compare(buffer, source[left], source[right]) <= 0)) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+
+    public int[] merge(ByteBuffer buffer, int[] first, int[] second) {
+        final int[] merged = new int[first.length + second.length];
+        int left = 0;
+        int right = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (right >= second.length
+                    || (left < first.length && compare(buffer, first[left], second[right]) <= 0)) {
+                merged[i] = first[left++];
+            } else {
+                merged[i] = second[right++];
+            }
+        }
+        return merged;
+    }
+
+    // The searches compare the sorted records against a key record, which may live in another buffer such as a small
+    // heap buffer holding an encoded probe.
+    public int lowerBound(ByteBuffer buffer, int[] records, ByteBuffer keyBuffer, int keyRecord) {
+        return bound(buffer, records, keyBuffer, keyRecord, false);
+    }
+
+    public int upperBound(ByteBuffer buffer, int[] records, ByteBuffer keyBuffer, int keyRecord) {
+        return bound(buffer, records, keyBuffer, keyRecord, true);
+    }
+
+    public int binarySearch(ByteBuffer buffer, int[] records, ByteBuffer keyBuffer, int keyRecord) {
+        final int index = bound(buffer, records, keyBuffer, keyRecord, false);
+        return index < records.length && compare(buffer, records[index], keyBuffer, keyRecord) == 0 ? index
+                : -index - 1;
+    }
+
+    private int bound(ByteBuffer buffer, int[] records, ByteBuffer keyBuffer, int keyRecord, boolean upper) {
+        int low = 0;
+        int high = records.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final int value = compare(buffer, records[middle], keyBuffer, keyRecord);
+            if (value < 0 || (upper && value == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
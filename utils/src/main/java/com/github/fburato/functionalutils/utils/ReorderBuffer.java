@@ -0,0 +1,222 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+public final class ReorderBuffer<T> {
+
+    public enum LatePolicy {
+        DROP, SIDE_OUTPUT, EMIT
+    }
+
+    public static final class Statistics {
+        public final long received;
+        public final long emitted;
+        public final long late;
+        public final long buffered;
+        public final long maximumBuffered;
+
+        public Statistics(long received, long emitted, long late, long buffered, long maximumBuffered) {
+            this.received = received;
+            this.emitted = emitted;
+            this.late = late;
+            this.buffered = buffered;
+            this.maximumBuffered = maximumBuffered;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("received=%d, emitted=%d, late=%d, buffered=%d, maximumBuffered=%d", received,
+                    emitted, late, buffered, maximumBuffered);
+        }
+    }
+
+    private final Comparator<? super T> comparator;
+    private final int windowSize;
+    private final ToLongFunction<? super T> eventTime;
+    private final long maximumLateness;
+    private final LatePolicy policy;
+    private final Consumer<? super T> sideOutput;
+    private final PriorityQueue<T> buffer;
+    private T lastEmitted;
+    private boolean emittedAny;
+    private long watermark = Long.MIN_VALUE;
+    private long received;
+    private long emitted;
+    private long late;
+    private long maximumBuffered;
+
+    private ReorderBuffer(Comparator<? super T> comparator, int windowSize, ToLongFunction<? super T> eventTime,
+            long maximumLateness, LatePolicy policy, Consumer<? super T> sideOutput) {
+        if (policy == LatePolicy.SIDE_OUTPUT && sideOutput == null) {
+            throw new IllegalArgumentException("The side output late policy requires a side output");
+        }
+        this.comparator = comparator;
+        this.windowSize = windowSize;
+        this.eventTime = eventTime;
+        this.maximumLateness = maximumLateness;
+        this.policy = policy;
+        this.sideOutput = sideOutput;
+        this.buffer = new PriorityQueue<>(comparator);
+    }
+
+    public static <S> ReorderBuffer<S> createWithWindow(Comparator<? super S> comparator, int windowSize,
+            LatePolicy policy) {
+        return new ReorderBuffer<>(comparator, checkWindow(windowSize), null, 0, policy, null);
+    }
+
+    public static <S> ReorderBuffer<S> createWithWindow(Comparator<? super S> comparator, int windowSize,
+            Consumer<? super S> sideOutput) {
+        return new ReorderBuffer<>(comparator, checkWindow(windowSize), null, 0, LatePolicy.SIDE_OUTPUT,
+                sideOutput);
+    }
+
+    // Watermark mode emits every buffered element whose event time is at most the largest event time seen minus the
+    // maximum lateness; the comparator is expected to order by event time first.
+    public static <S> ReorderBuffer<S> createWithWatermark(Comparator<? super S> comparator,
+            ToLongFunction<? super S> eventTime, long maximumLateness, LatePolicy policy) {
+        return new ReorderBuffer<>(comparator, 0, eventTime, checkLateness(maximumLateness), policy, null);
+    }
+
+    public static <S> ReorderBuffer<S> createWithWatermark(Comparator<? super S> comparator,
+            ToLongFunction<? super S> eventTime, long maximumLateness, Consumer<? super S> sideOutput) {
+        return new ReorderBuffer<>(comparator, 0, eventTime, checkLateness(maximumLateness),
+                LatePolicy.SIDE_OUTPUT, sideOutput);
+    }
+
+    private static int checkWindow(int windowSize) {
+        if (windowSize < 0) {
+            throw new IllegalArgumentException(String.format("Invalid window size %d", windowSize));
+        }
+        return windowSize;
+    }
+
+    private static long checkLateness(long maximumLateness) {
+        if (maximumLateness < 0) {
+            throw new IllegalArgumentException(String.format("Invalid maximum lateness %d", maximumLateness));
+        }
+        return maximumLateness;
+    }
+
+    public Statistics statistics() {
+        return new Statistics(received, emitted, late, buffer.size(), maximumBuffered);
+    }
+
+    // Elements ordered before the last emitted one are late, as they can no longer be emitted in order.
+    public void offer(T element, Consumer<? super T> output) {
+        received++;
+        if (emittedAny && comparator.compare(element, lastEmitted) < 0) {
+            late++;
+            if (policy == LatePolicy.SIDE_OUTPUT) {
+                sideOutput.accept(element);
+            } else if (policy == LatePolicy.EMIT) {
+                emitted++;
+                output.accept(element);
+            }
+            return;
+        }
+        buffer.add(element);
+        maximumBuffered = Math.max(maximumBuffered, buffer.size());
+        if (eventTime == null) {
+            while (buffer.size() > windowSize) {
+                emit(output);
+            }
+        } else {
+            final long time = eventTime.applyAsLong(element);
+            if (time - maximumLateness > watermark) {
+                watermark = time - maximumLateness;
+            }
+            while (!buffer.isEmpty() && eventTime.applyAsLong(buffer.peek()) <= watermark) {
+                emit(output);
+            }
+        }
+    }
+
+    public void flush(Consumer<? super T> output) {
+        while (!buffer.isEmpty()) {
+            emit(output);
+        }
+    }
+
+    private void emit(Consumer<? super T> output) {
+        lastEmitted = buffer.poll();
+        emittedAny = true;
+        emitted++;
+        output.accept(lastEmitted);
+    }
+
+    // The wrappers feed this buffer, so each buffer should reorder a single input.
+    public Iterator<T> reorder(Iterator<? extends T> input) {
+        return new ReorderIterator(input);
+    }
+
+    public Flow.Processor<T, T> processor() {
+        return new ReorderProcessor();
+    }
+
+    private final class ReorderIterator implements Iterator<T> {
+        private final Iterator<? extends T> input;
+        private final ArrayDeque<T> pending = new ArrayDeque<>();
+        private boolean flushed;
+
+        ReorderIterator(Iterator<? extends T> input) {
+            this.input = input;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (pending.isEmpty() && input.hasNext()) {
+                offer(input.next(), pending::add);
+            }
+            if (pending.isEmpty() && !flushed) {
+                flushed = true;
+                flush(pending::add);
+            }
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pending.poll();
+        }
+    }
+
+    // Requests one element at a time and publishes the reordered elements; submit blocks while subscribers are
+    // saturated, which propagates back pressure upstream.
+    private final class ReorderProcessor extends SubmissionPublisher<T> implements Flow.Processor<T, T> {
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(T item) {
+            ReorderBuffer.this.offer(item, this::submit);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            ReorderBuffer.this.flush(this::submit);
+            close();
+        }
+    }
+}
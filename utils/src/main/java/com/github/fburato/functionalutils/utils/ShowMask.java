@@ -0,0 +1,182 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public final class ShowMask {
+
+    private static final ShowMask ALL = new ShowMask(null, null, Set.of(), Set.of(), Map.of(), Map.of());
+
+    private final Set<String> includedNames;
+    private final Set<Integer> includedIndices;
+    private final Set<String> excludedNames;
+    private final Set<Integer> excludedIndices;
+    private final Map<String, String> redactedNames;
+    private final Map<Integer, String> redactedIndices;
+
+    private ShowMask(Set<String> includedNames, Set<Integer> includedIndices, Set<String> excludedNames,
+            Set<Integer> excludedIndices, Map<String, String> redactedNames, Map<Integer, String> redactedIndices) {
+        this.includedNames = includedNames;
+        this.includedIndices = includedIndices;
+        this.excludedNames = excludedNames;
+        this.excludedIndices = excludedIndices;
+        this.redactedNames = redactedNames;
+        this.redactedIndices = redactedIndices;
+    }
+
+    public static ShowMask all() {
+        return ALL;
+    }
+
+    public ShowMask include(String... names) {
+        return new ShowMask(union(includedNames == null ? Set.of() : includedNames, named(names)),
+                includedIndices == null ? Set.of() : includedIndices, excludedNames, excludedIndices, redactedNames,
+                redactedIndices);
+    }
+
+    public ShowMask includeIndices(int... indices) {
+        return new ShowMask(includedNames == null ? Set.of() : includedNames,
+                union(includedIndices == null ? Set.of() : includedIndices, boxed(indices)), excludedNames,
+                excludedIndices, redactedNames, redactedIndices);
+    }
+
+    public ShowMask exclude(String... names) {
+        return new ShowMask(includedNames, includedIndices, union(excludedNames, named(names)), excludedIndices,
+                redactedNames, redactedIndices);
+    }
+
+    public ShowMask excludeIndices(int... indices) {
+        return new ShowMask(includedNames, includedIndices, excludedNames, union(excludedIndices, boxed(indices)),
+                redactedNames, redactedIndices);
+    }
+
+    public ShowMask redact(String token, String... names) {
+        final Map<String, String> copy = new HashMap<>(redactedNames);
+        for (String name : names) {
+            copy.put(Objects.requireNonNull(name), token);
+        }
+        return new ShowMask(includedNames, includedIndices, excludedNames, excludedIndices, Map.copyOf(copy),
+                redactedIndices);
+    }
+
+    public ShowMask redactIndices(String token, int... indices) {
+        final Map<Integer, String> copy = new HashMap<>(redactedIndices);
+        for (int index : indices) {
+            copy.put(index, token);
+        }
+        return new ShowMask(includedNames, includedIndices, excludedNames, excludedIndices, redactedNames,
+                Map.copyOf(copy));
+    }
+
+    <T> TypeSafeChainShow<T> compile(TypeSafeChainShow<T> base) {
+        final List<TypeSafeChainShow.Step<T, ?>> steps = base.steps();
+        final Set<String> names = new HashSet<>();
+        for (TypeSafeChainShow.Step<T, ?> step : steps) {
+            if (step.name != null) {
+                names.add(step.name);
+            }
+        }
+        validateNames(names, includedNames);
+        validateNames(names, excludedNames);
+        validateNames(names, redactedNames.keySet());
+        validateIndices(steps.size(), includedIndices);
+        validateIndices(steps.size(), excludedIndices);
+        validateIndices(steps.size(), redactedIndices.keySet());
+        TypeSafeChainShow<T> compiled = base.project();
+        for (int i = 0; i < steps.size(); i++) {
+            final TypeSafeChainShow.Step<T, ?> step = steps.get(i);
+            if (included(i, step.name) && !excluded(i, step.name)) {
+                final String token = token(i, step.name);
+                compiled = compiled.append(token == null ? step : TypeSafeChainShow.redacted(step, token));
+            }
+        }
+        return compiled;
+    }
+
+    private boolean included(int index, String name) {
+        if (includedNames == null) {
+            return true;
+        }
+        return includedIndices.contains(index) || (name != null && includedNames.contains(name));
+    }
+
+    private boolean excluded(int index, String name) {
+        return excludedIndices.contains(index) || (name != null && excludedNames.contains(name));
+    }
+
+    private String token(int index, String name) {
+        final String byIndex = redactedIndices.get(index);
+        if (byIndex != null) {
+            return byIndex;
+        }
+        return name == null ? null : redactedNames.get(name);
+    }
+
+    private static void validateNames(Set<String> names, Set<String> selected) {
+        if (selected != null) {
+            for (String name : selected) {
+                if (!names.contains(name)) {
+                    throw new IllegalArgumentException(String.format("no field named '%s'", name));
+                }
+            }
+        }
+    }
+
+    private static void validateIndices(int size, Set<Integer> selected) {
+        if (selected != null) {
+            for (int index : selected) {
+                if (index < 0 || index >= size) {
+                    throw new IllegalArgumentException(
+                            String.format("field index %d out of range [0, %d)", index, size));
+                }
+            }
+        }
+    }
+
+    private static <S> Set<S> union(Set<S> first, Set<S> second) {
+        final Set<S> union = new HashSet<>(first);
+        union.addAll(second);
+        return Set.copyOf(union);
+    }
+
+    private static Set<String> named(String... names) {
+        return new LinkedHashSet<>(Arrays.asList(names));
+    }
+
+    private static Set<Integer> boxed(int... indices) {
+        final Set<Integer> boxed = new LinkedHashSet<>();
+        for (int index : indices) {
+            boxed.add(index);
+        }
+        return boxed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ShowMask that = (ShowMask) o;
+        return Objects.equals(includedNames, that.includedNames) && Objects.equals(includedIndices,
+                that.includedIndices) && excludedNames.equals(that.excludedNames)
+                && excludedIndices.equals(
+                        that.excludedIndices)
+                && redactedNames.equals(that.redactedNames) && redactedIndices.equals(
+                        that.redactedIndices);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(includedNames, includedIndices, excludedNames, excludedIndices, redactedNames,
+                redactedIndices);
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.nio.ByteBuffer;
+
+public final class ShowRecorder<T> {
+
+    private final TypeSafeChainShow<T> show;
+    private final int templateId;
+    private final ShowRingBuffer ringBuffer;
+    private final BinaryShowCodec codec;
+
+    private ShowRecorder(TypeSafeChainShow<T> show, int templateId, ShowRingBuffer ringBuffer) {
+        this.show = show;
+        this.templateId = templateId;
+        this.ringBuffer = ringBuffer;
+        this.codec = new BinaryShowCodec();
+    }
+
+    public static <S> ShowRecorder<S> create(TypeSafeChainShow<S> show, int templateId, ShowRingBuffer ringBuffer) {
+        if (templateId == ShowRingBuffer.PADDING_TEMPLATE) {
+            throw new IllegalArgumentException(String.format("template id %d is reserved", templateId));
+        }
+        return new ShowRecorder<>(show, templateId, ringBuffer);
+    }
+
+    public boolean record(T t) {
+        final ByteBuffer data = ringBuffer.data();
+        final int capacity = ringBuffer.capacity();
+        final long writePosition = ringBuffer.writePosition();
+        final long free = capacity - (writePosition - ringBuffer.readPosition());
+        final int index = ringBuffer.index(writePosition);
+        final int contiguous = capacity - index;
+        final int length = write(t, data, index, (int) Math.min(contiguous, free));
+        if (length != BinaryShowCodec.OVERFLOW) {
+            ringBuffer.publishWritePosition(writePosition + length);
+            return true;
+        }
+        if (free <= contiguous) {
+            return false;
+        }
+        final int wrappedLength = write(t, data, 0, (int) (free - contiguous));
+        if (wrappedLength == BinaryShowCodec.OVERFLOW) {
+            return false;
+        }
+        data.putInt(index, contiguous).putInt(index + Integer.BYTES, ShowRingBuffer.PADDING_TEMPLATE);
+        ringBuffer.publishWritePosition(writePosition + contiguous + wrappedLength);
+        return true;
+    }
+
+    private int write(T t, ByteBuffer data, int index, int available) {
+        if (available < ShowRingBuffer.RECORD_HEADER_SIZE) {
+            return BinaryShowCodec.OVERFLOW;
+        }
+        final int end = codec.encode(show, t, data, index + ShowRingBuffer.RECORD_HEADER_SIZE, index + available);
+        if (end == BinaryShowCodec.OVERFLOW) {
+            return BinaryShowCodec.OVERFLOW;
+        }
+        final int length = align(end - index);
+        if (length > available) {
+            return BinaryShowCodec.OVERFLOW;
+        }
+        data.putInt(index, length).putInt(index + Integer.BYTES, templateId);
+        return length;
+    }
+
+    private static int align(int length) {
+        return (length + Long.BYTES - 1) & -Long.BYTES;
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public final class ShowReplayer {
+
+    private final ShowRingBuffer ringBuffer;
+    private final Map<Integer, TypeSafeChainShow<?>> templates;
+
+    private ShowReplayer(ShowRingBuffer ringBuffer, Map<Integer, TypeSafeChainShow<?>> templates) {
+        this.ringBuffer = ringBuffer;
+        this.templates = Map.copyOf(templates);
+    }
+
+    public static ShowReplayer create(ShowRingBuffer ringBuffer, Map<Integer, TypeSafeChainShow<?>> templates) {
+        return new ShowReplayer(ringBuffer, templates);
+    }
+
+    public boolean replayNext(StringBuilder builder) {
+        final ByteBuffer data = ringBuffer.data();
+        final long writePosition = ringBuffer.writePosition();
+        long readPosition = ringBuffer.readPosition();
+        while (readPosition != writePosition) {
+            final int index = ringBuffer.index(readPosition);
+            final int length = data.getInt(index);
+            final int templateId = data.getInt(index + Integer.BYTES);
+            readPosition += length;
+            if (templateId != ShowRingBuffer.PADDING_TEMPLATE) {
+                // The record is consumed even when it cannot be decoded, so that a poisoned record is reported once
+                // and the following ones can still be replayed; the position is published only after decoding as
+                // the producer may overwrite the record from then on.
+                final int start = builder.length();
+                boolean decoded = false;
+                try {
+                    BinaryShowCodec.decode(template(templateId), data, index + ShowRingBuffer.RECORD_HEADER_SIZE,
+                            builder);
+                    decoded = true;
+                } finally {
+                    if (!decoded) {
+                        builder.setLength(start);
+                    }
+                    ringBuffer.publishReadPosition(readPosition);
+                }
+                return true;
+            }
+            ringBuffer.publishReadPosition(readPosition);
+        }
+        return false;
+    }
+
+    public int replayAll(Consumer<? super String> consumer) {
+        final StringBuilder builder = new StringBuilder();
+        int replayed = 0;
+        while (replayNext(builder)) {
+            consumer.accept(builder.toString());
+            builder.setLength(0);
+            replayed++;
+        }
+        return replayed;
+    }
+
+    private TypeSafeChainShow<?> template(int templateId) {
+        final TypeSafeChainShow<?> template = templates.get(templateId);
+        if (template == null) {
+            throw new IllegalStateException(String.format("no template registered for id %d", templateId));
+        }
+        return template;
+    }
+}
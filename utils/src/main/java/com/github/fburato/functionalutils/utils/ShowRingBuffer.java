@@ -0,0 +1,108 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class ShowRingBuffer {
+
+    static final int RECORD_HEADER_SIZE = 8;
+    static final int PADDING_TEMPLATE = -1;
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    private static final int HEADER_SIZE = 128;
+    private static final int WRITE_POSITION_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int READ_POSITION_OFFSET = 64;
+    private static final int MINIMUM_CAPACITY = 64;
+
+    private final ByteBuffer header;
+    private final ByteBuffer data;
+    private final int capacity;
+
+    private ShowRingBuffer(ByteBuffer buffer, int capacity) {
+        this.header = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.data = buffer.duplicate().position(HEADER_SIZE).slice().order(ByteOrder.LITTLE_ENDIAN);
+        this.capacity = capacity;
+    }
+
+    public static ShowRingBuffer allocate(int capacity) {
+        validateCapacity(capacity);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER_SIZE + capacity + Long.BYTES)
+                .alignedSlice(Long.BYTES);
+        return initialise(buffer, capacity);
+    }
+
+    public static ShowRingBuffer create(Path path, int capacity) throws IOException {
+        validateCapacity(capacity);
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return initialise(channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + capacity), capacity);
+        }
+    }
+
+    public static ShowRingBuffer open(Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            final int capacity = buffer.order(ByteOrder.LITTLE_ENDIAN).getInt(CAPACITY_OFFSET);
+            if (capacity + (long) HEADER_SIZE != channel.size()) {
+                throw new IOException(String.format("%s is not a show ring buffer", path));
+            }
+            return new ShowRingBuffer(buffer, capacity);
+        }
+    }
+
+    private static void validateCapacity(int capacity) {
+        if (capacity < MINIMUM_CAPACITY || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    String.format("capacity must be a power of two not smaller than %d", MINIMUM_CAPACITY));
+        }
+    }
+
+    private static ShowRingBuffer initialise(ByteBuffer buffer, int capacity) {
+        final ShowRingBuffer ringBuffer = new ShowRingBuffer(buffer, capacity);
+        ringBuffer.header.putInt(CAPACITY_OFFSET, capacity);
+        LONG_VIEW.setRelease(ringBuffer.header, READ_POSITION_OFFSET, 0L);
+        LONG_VIEW.setRelease(ringBuffer.header, WRITE_POSITION_OFFSET, 0L);
+        return ringBuffer;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long size() {
+        return writePosition() - readPosition();
+    }
+
+    ByteBuffer data() {
+        return data;
+    }
+
+    int index(long position) {
+        return (int) (position & (capacity - 1));
+    }
+
+    long writePosition() {
+        return (long) LONG_VIEW.getAcquire(header, WRITE_POSITION_OFFSET);
+    }
+
+    void publishWritePosition(long position) {
+        LONG_VIEW.setRelease(header, WRITE_POSITION_OFFSET, position);
+    }
+
+    long readPosition() {
+        return (long) LONG_VIEW.getAcquire(header, READ_POSITION_OFFSET);
+    }
+
+    void publishReadPosition(long position) {
+        LONG_VIEW.setRelease(header, READ_POSITION_OFFSET, position);
+    }
+}
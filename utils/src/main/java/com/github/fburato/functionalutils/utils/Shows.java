@@ -0,0 +1,466 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+public final class Shows {
+
+    public static final class Configuration {
+        public final String header;
+        public final String footer;
+        public final String separator;
+        public final int limit;
+        public final String ellipsis;
+
+        public Configuration(String header, String footer, String separator, int limit, String ellipsis) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("limit must not be negative");
+            }
+            this.header = header;
+            this.footer = footer;
+            this.separator = separator;
+            this.limit = limit;
+            this.ellipsis = ellipsis;
+        }
+    }
+
+    public static Configuration standardConfiguration() {
+        return new Configuration("[", "]", ", ", Integer.MAX_VALUE, "...");
+    }
+
+    public static Configuration standardMapConfiguration() {
+        return new Configuration("{", "}", ", ", Integer.MAX_VALUE, "...");
+    }
+
+    private static final String NULL = "null";
+    private static final String STANDARD_KEY_VALUE_SEPARATOR = "=";
+
+    private static final Show<Object> STANDARD = new Show<>() {
+        @Override
+        public String show(Object o) {
+            return String.valueOf(o);
+        }
+
+        @Override
+        public void showTo(Object o, StringBuilder builder) {
+            builder.append(o);
+        }
+    };
+
+    private Shows() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <S> Show<S> standard() {
+        return (Show<S>) STANDARD;
+    }
+
+    public static <E> Show<Iterable<E>> iterable(Show<? super E> elementShow) {
+        return iterable(elementShow, standardConfiguration());
+    }
+
+    public static <E> Show<Iterable<E>> iterable(Show<? super E> elementShow, Configuration configuration) {
+        return new IterableShow<>(elementShow, configuration);
+    }
+
+    public static <E> Show<List<E>> list(Show<? super E> elementShow) {
+        return list(elementShow, standardConfiguration());
+    }
+
+    public static <E> Show<List<E>> list(Show<? super E> elementShow, Configuration configuration) {
+        return new ListShow<>(elementShow, configuration);
+    }
+
+    public static <E> Show<E[]> array(Show<? super E> elementShow) {
+        return array(elementShow, standardConfiguration());
+    }
+
+    public static <E> Show<E[]> array(Show<? super E> elementShow, Configuration configuration) {
+        return new ArrayShow<>(elementShow, configuration);
+    }
+
+    public static <K, V> Show<Map<K, V>> map(Show<? super K> keyShow, Show<? super V> valueShow) {
+        return map(keyShow, valueShow, standardMapConfiguration(), STANDARD_KEY_VALUE_SEPARATOR);
+    }
+
+    public static <K, V> Show<Map<K, V>> map(Show<? super K> keyShow, Show<? super V> valueShow,
+            Configuration configuration, String keyValueSeparator) {
+        return new MapShow<>(keyShow, valueShow, configuration, keyValueSeparator);
+    }
+
+    public static Show<int[]> intArray() {
+        return intArray(standardConfiguration());
+    }
+
+    public static Show<int[]> intArray(Configuration configuration) {
+        return new IntArrayShow(configuration);
+    }
+
+    public static Show<long[]> longArray() {
+        return longArray(standardConfiguration());
+    }
+
+    public static Show<long[]> longArray(Configuration configuration) {
+        return new LongArrayShow(configuration);
+    }
+
+    public static Show<double[]> doubleArray() {
+        return doubleArray(standardConfiguration());
+    }
+
+    public static Show<double[]> doubleArray(Configuration configuration) {
+        return new DoubleArrayShow(configuration);
+    }
+
+    public static Show<float[]> floatArray() {
+        return floatArray(standardConfiguration());
+    }
+
+    public static Show<float[]> floatArray(Configuration configuration) {
+        return new FloatArrayShow(configuration);
+    }
+
+    public static Show<short[]> shortArray() {
+        return shortArray(standardConfiguration());
+    }
+
+    public static Show<short[]> shortArray(Configuration configuration) {
+        return new ShortArrayShow(configuration);
+    }
+
+    public static Show<byte[]> byteArray() {
+        return byteArray(standardConfiguration());
+    }
+
+    public static Show<byte[]> byteArray(Configuration configuration) {
+        return new ByteArrayShow(configuration);
+    }
+
+    public static Show<char[]> charArray() {
+        return charArray(standardConfiguration());
+    }
+
+    public static Show<char[]> charArray(Configuration configuration) {
+        return new CharArrayShow(configuration);
+    }
+
+    public static Show<boolean[]> booleanArray() {
+        return booleanArray(standardConfiguration());
+    }
+
+    public static Show<boolean[]> booleanArray(Configuration configuration) {
+        return new BooleanArrayShow(configuration);
+    }
+
+    private abstract static class SequenceShow<T> implements Show<T> {
+        final Configuration configuration;
+
+        SequenceShow(Configuration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        public String show(T t) {
+            final StringBuilder builder = new StringBuilder();
+            showTo(t, builder);
+            return builder.toString();
+        }
+
+        int open(int size, StringBuilder builder) {
+            builder.append(configuration.header);
+            return Math.min(size, configuration.limit);
+        }
+
+        void separate(int index, StringBuilder builder) {
+            if (index > 0) {
+                builder.append(configuration.separator);
+            }
+        }
+
+        void close(boolean truncated, int shown, StringBuilder builder) {
+            if (truncated) {
+                separate(shown, builder);
+                builder.append(configuration.ellipsis);
+            }
+            builder.append(configuration.footer);
+        }
+
+        <E> void showIterated(Iterator<E> iterator, Show<? super E> elementShow, StringBuilder builder) {
+            builder.append(configuration.header);
+            int shown = 0;
+            while (shown < configuration.limit && iterator.hasNext()) {
+                separate(shown, builder);
+                elementShow.showTo(iterator.next(), builder);
+                shown++;
+            }
+            close(iterator.hasNext(), shown, builder);
+        }
+    }
+
+    private static final class IterableShow<E> extends SequenceShow<Iterable<E>> {
+        private final Show<? super E> elementShow;
+
+        IterableShow(Show<? super E> elementShow, Configuration configuration) {
+            super(configuration);
+            this.elementShow = elementShow;
+        }
+
+        @Override
+        public void showTo(Iterable<E> iterable, StringBuilder builder) {
+            if (iterable == null) {
+                builder.append(NULL);
+                return;
+            }
+            showIterated(iterable.iterator(), elementShow, builder);
+        }
+    }
+
+    private static final class ListShow<E> extends SequenceShow<List<E>> {
+        private final Show<? super E> elementShow;
+
+        ListShow(Show<? super E> elementShow, Configuration configuration) {
+            super(configuration);
+            this.elementShow = elementShow;
+        }
+
+        @Override
+        public void showTo(List<E> list, StringBuilder builder) {
+            if (list == null) {
+                builder.append(NULL);
+                return;
+            }
+            if (!(list instanceof RandomAccess)) {
+                showIterated(list.iterator(), elementShow, builder);
+                return;
+            }
+            final int size = list.size();
+            final int bound = open(size, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                elementShow.showTo(list.get(i), builder);
+            }
+            close(size > bound, bound, builder);
+        }
+    }
+
+    private static final class ArrayShow<E> extends SequenceShow<E[]> {
+        private final Show<? super E> elementShow;
+
+        ArrayShow(Show<? super E> elementShow, Configuration configuration) {
+            super(configuration);
+            this.elementShow = elementShow;
+        }
+
+        @Override
+        public void showTo(E[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                elementShow.showTo(array[i], builder);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+
+    private static final class MapShow<K, V> extends SequenceShow<Map<K, V>> {
+        private final Show<? super K> keyShow;
+        private final Show<? super V> valueShow;
+        private final String keyValueSeparator;
+
+        MapShow(Show<? super K> keyShow, Show<? super V> valueShow, Configuration configuration,
+                String keyValueSeparator) {
+            super(configuration);
+            this.keyShow = keyShow;
+            this.valueShow = valueShow;
+            this.keyValueSeparator = keyValueSeparator;
+        }
+
+        @Override
+        public void showTo(Map<K, V> map, StringBuilder builder) {
+            if (map == null) {
+                builder.append(NULL);
+                return;
+            }
+            builder.append(configuration.header);
+            final Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+            int shown = 0;
+            while (shown < configuration.limit && iterator.hasNext()) {
+                final Map.Entry<K, V> entry = iterator.next();
+                separate(shown, builder);
+                keyShow.showTo(entry.getKey(), builder);
+                builder.append(keyValueSeparator);
+                valueShow.showTo(entry.getValue(), builder);
+                shown++;
+            }
+            close(iterator.hasNext(), shown, builder);
+        }
+    }
+
+    private static final class IntArrayShow extends SequenceShow<int[]> {
+        IntArrayShow(Configuration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void showTo(int[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                builder.append(array[i]);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+
+    private static final class LongArrayShow extends SequenceShow<long[]> {
+        LongArrayShow(Configuration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void showTo(long[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                builder.append(array[i]);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+
+    private static final class DoubleArrayShow extends SequenceShow<double[]> {
+        DoubleArrayShow(Configuration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void showTo(double[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                builder.append(array[i]);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+
+    private static final class FloatArrayShow extends SequenceShow<float[]> {
+        FloatArrayShow(Configuration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void showTo(float[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                builder.append(array[i]);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+
+    private static final class ShortArrayShow extends SequenceShow<short[]> {
+        ShortArrayShow(Configuration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void showTo(short[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                builder.append(array[i]);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+
+    private static final class ByteArrayShow extends SequenceShow<byte[]> {
+        ByteArrayShow(Configuration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void showTo(byte[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                builder.append(array[i]);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+
+    private static final class CharArrayShow extends SequenceShow<char[]> {
+        CharArrayShow(Configuration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void showTo(char[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                builder.append(array[i]);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+
+    private static final class BooleanArrayShow extends SequenceShow<boolean[]> {
+        BooleanArrayShow(Configuration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void showTo(boolean[] array, StringBuilder builder) {
+            if (array == null) {
+                builder.append(NULL);
+                return;
+            }
+            final int bound = open(array.length, builder);
+            for (int i = 0; i < bound; i++) {
+                separate(i, builder);
+                builder.append(array[i]);
+            }
+            close(array.length > bound, bound, builder);
+        }
+    }
+}
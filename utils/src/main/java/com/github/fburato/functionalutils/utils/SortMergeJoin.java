@@ -0,0 +1,342 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class SortMergeJoin<L, R> {
+
+    public enum JoinType {
+        INNER, LEFT_OUTER, FULL_OUTER
+    }
+
+    // The elements of both sides sharing one key; one of the lists is empty for unmatched groups of outer joins.
+    public static final class Group<L, R> {
+        public final List<L> left;
+        public final List<R> right;
+
+        public Group(List<L> left, List<R> right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Group(left=%s, right=%s)", left, right);
+        }
+    }
+
+    private interface Step<L, R> {
+        int compare(L left, R right);
+
+        int compareLeft(L left1, L left2);
+
+        int compareRight(R right1, R right2);
+    }
+
+    private static final class ObjectStep<L, R, S> implements Step<L, R> {
+        private final Function<L, S> leftGetter;
+        private final Function<R, S> rightGetter;
+        private final Comparator<S> comparator;
+
+        private ObjectStep(Function<L, S> leftGetter, Function<R, S> rightGetter, Comparator<S> comparator) {
+            this.leftGetter = leftGetter;
+            this.rightGetter = rightGetter;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(L left, R right) {
+            return comparator.compare(leftGetter.apply(left), rightGetter.apply(right));
+        }
+
+        @Override
+        public int compareLeft(L left1, L left2) {
+            return comparator.compare(leftGetter.apply(left1), leftGetter.apply(left2));
+        }
+
+        @Override
+        public int compareRight(R right1, R right2) {
+            return comparator.compare(rightGetter.apply(right1), rightGetter.apply(right2));
+        }
+    }
+
+    private static final class IntStep<L, R> implements Step<L, R> {
+        private final ToIntFunction<L> leftGetter;
+        private final ToIntFunction<R> rightGetter;
+        private final IntComparator comparator;
+
+        private IntStep(ToIntFunction<L> leftGetter, ToIntFunction<R> rightGetter, IntComparator comparator) {
+            this.leftGetter = leftGetter;
+            this.rightGetter = rightGetter;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(L left, R right) {
+            return comparator.compareInt(leftGetter.applyAsInt(left), rightGetter.applyAsInt(right));
+        }
+
+        @Override
+        public int compareLeft(L left1, L left2) {
+            return comparator.compareInt(leftGetter.applyAsInt(left1), leftGetter.applyAsInt(left2));
+        }
+
+        @Override
+        public int compareRight(R right1, R right2) {
+            return comparator.compareInt(rightGetter.applyAsInt(right1), rightGetter.applyAsInt(right2));
+        }
+    }
+
+    private static final class LongStep<L, R> implements Step<L, R> {
+        private final ToLongFunction<L> leftGetter;
+        private final ToLongFunction<R> rightGetter;
+        private final LongComparator comparator;
+
+        private LongStep(ToLongFunction<L> leftGetter, ToLongFunction<R> rightGetter, LongComparator comparator) {
+            this.leftGetter = leftGetter;
+            this.rightGetter = rightGetter;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(L left, R right) {
+            return comparator.compareLong(leftGetter.applyAsLong(left), rightGetter.applyAsLong(right));
+        }
+
+        @Override
+        public int compareLeft(L left1, L left2) {
+            return comparator.compareLong(leftGetter.applyAsLong(left1), leftGetter.applyAsLong(left2));
+        }
+
+        @Override
+        public int compareRight(R right1, R right2) {
+            return comparator.compareLong(rightGetter.applyAsLong(right1), rightGetter.applyAsLong(right2));
+        }
+    }
+
+    private static final class DoubleStep<L, R> implements Step<L, R> {
+        private final ToDoubleFunction<L> leftGetter;
+        private final ToDoubleFunction<R> rightGetter;
+        private final DoubleComparator comparator;
+
+        private DoubleStep(ToDoubleFunction<L> leftGetter, ToDoubleFunction<R> rightGetter,
+                DoubleComparator comparator) {
+            this.leftGetter = leftGetter;
+            this.rightGetter = rightGetter;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(L left, R right) {
+            return comparator.compareDouble(leftGetter.applyAsDouble(left), rightGetter.applyAsDouble(right));
+        }
+
+        @Override
+        public int compareLeft(L left1, L left2) {
+            return comparator.compareDouble(leftGetter.applyAsDouble(left1), leftGetter.applyAsDouble(left2));
+        }
+
+        @Override
+        public int compareRight(R right1, R right2) {
+            return comparator.compareDouble(rightGetter.applyAsDouble(right1), rightGetter.applyAsDouble(right2));
+        }
+    }
+
+    private final List<Step<L, R>> steps;
+
+    private SortMergeJoin(List<Step<L, R>> steps) {
+        this.steps = List.copyOf(steps);
+    }
+
+    public static <S, U> SortMergeJoin<S, U> create(final Class<S> leftClass, final Class<U> rightClass) {
+        return new SortMergeJoin<>(Collections.emptyList());
+    }
+
+    public <S> SortMergeJoin<L, R> on(final Function<L, S> leftGetter, final Function<R, S> rightGetter,
+            final Comparator<S> comparator) {
+        return append(new ObjectStep<>(leftGetter, rightGetter, comparator));
+    }
+
+    public SortMergeJoin<L, R> onInt(final ToIntFunction<L> leftGetter, final ToIntFunction<R> rightGetter,
+            final IntComparator comparator) {
+        return append(new IntStep<>(leftGetter, rightGetter, comparator));
+    }
+
+    public SortMergeJoin<L, R> onLong(final ToLongFunction<L> leftGetter, final ToLongFunction<R> rightGetter,
+            final LongComparator comparator) {
+        return append(new LongStep<>(leftGetter, rightGetter, comparator));
+    }
+
+    public SortMergeJoin<L, R> onDouble(final ToDoubleFunction<L> leftGetter, final ToDoubleFunction<R> rightGetter,
+            final DoubleComparator comparator) {
+        return append(new DoubleStep<>(leftGetter, rightGetter, comparator));
+    }
+
+    private SortMergeJoin<L, R> append(Step<L, R> step) {
+        final List<Step<L, R>> result = new ArrayList<>(steps);
+        result.add(step);
+        return new SortMergeJoin<>(result);
+    }
+
+    public int compare(L left, R right) {
+        for (Step<L, R> step : steps) {
+            final int value = step.compare(left, right);
+            if (value != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    private int compareLeft(L left1, L left2) {
+        for (Step<L, R> step : steps) {
+            final int value = step.compareLeft(left1, left2);
+            if (value != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    private int compareRight(R right1, R right2) {
+        for (Step<L, R> step : steps) {
+            final int value = step.compareRight(right1, right2);
+            if (value != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    public Stream<Group<L, R>> inner(Iterator<? extends L> left, Iterator<? extends R> right) {
+        return join(JoinType.INNER, left, right);
+    }
+
+    public Stream<Group<L, R>> leftOuter(Iterator<? extends L> left, Iterator<? extends R> right) {
+        return join(JoinType.LEFT_OUTER, left, right);
+    }
+
+    public Stream<Group<L, R>> fullOuter(Iterator<? extends L> left, Iterator<? extends R> right) {
+        return join(JoinType.FULL_OUTER, left, right);
+    }
+
+    public Stream<Group<L, R>> join(JoinType type, Iterator<? extends L> left, Iterator<? extends R> right) {
+        return StreamSupport.stream(new Merger(type, left, right), false);
+    }
+
+    // Holds one look-ahead element per side and buffers only the current group of equal keys on each side.
+    private final class Merger extends Spliterators.AbstractSpliterator<Group<L, R>> {
+        private final JoinType type;
+        private final Iterator<? extends L> left;
+        private final Iterator<? extends R> right;
+        private L leftHead;
+        private R rightHead;
+        private boolean hasLeft;
+        private boolean hasRight;
+        private boolean initialised;
+
+        Merger(JoinType type, Iterator<? extends L> left, Iterator<? extends R> right) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.type = type;
+            this.left = left;
+            this.right = right;
+        }
+
+        private void advanceLeft() {
+            hasLeft = left.hasNext();
+            leftHead = hasLeft ? left.next() : null;
+        }
+
+        private void advanceRight() {
+            hasRight = right.hasNext();
+            rightHead = hasRight ? right.next() : null;
+        }
+
+        private List<L> leftGroup() {
+            final List<L> group = new ArrayList<>();
+            final L first = leftHead;
+            group.add(first);
+            advanceLeft();
+            while (hasLeft) {
+                final int value = compareLeft(first, leftHead);
+                if (value > 0) {
+                    throw new IllegalStateException("Left input is not sorted by the join keys");
+                } else if (value < 0) {
+                    break;
+                }
+                group.add(leftHead);
+                advanceLeft();
+            }
+            return group;
+        }
+
+        private List<R> rightGroup() {
+            final List<R> group = new ArrayList<>();
+            final R first = rightHead;
+            group.add(first);
+            advanceRight();
+            while (hasRight) {
+                final int value = compareRight(first, rightHead);
+                if (value > 0) {
+                    throw new IllegalStateException("Right input is not sorted by the join keys");
+                } else if (value < 0) {
+                    break;
+                }
+                group.add(rightHead);
+                advanceRight();
+            }
+            return group;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Group<L, R>> action) {
+            if (!initialised) {
+                initialised = true;
+                advanceLeft();
+                advanceRight();
+            }
+            while (hasLeft || hasRight) {
+                final int value = !hasLeft ? 1 : !hasRight ? -1 : compare(leftHead, rightHead);
+                if (value < 0) {
+                    if (type == JoinType.INNER && !hasRight) {
+                        return false;
+                    }
+                    final List<L> group = leftGroup();
+                    if (type != JoinType.INNER) {
+                        action.accept(new Group<>(group, Collections.emptyList()));
+                        return true;
+                    }
+                } else if (value > 0) {
+                    if (type != JoinType.FULL_OUTER && !hasLeft) {
+                        return false;
+                    }
+                    final List<R> group = rightGroup();
+                    if (type == JoinType.FULL_OUTER) {
+                        action.accept(new Group<>(Collections.emptyList(), group));
+                        return true;
+                    }
+                } else {
+                    action.accept(new Group<>(leftGroup(), rightGroup()));
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+public final class SortRegistry<T> {
+
+    public static final class Configuration {
+        public final int maximumSize;
+        public final EvictionPolicy policy;
+
+        public Configuration(int maximumSize, EvictionPolicy policy) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException(String.format("Invalid maximum size %d", maximumSize));
+            }
+            this.maximumSize = maximumSize;
+            this.policy = policy;
+        }
+    }
+
+    public static final class Statistics {
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+        public final long size;
+        public final long compiled;
+
+        public Statistics(long hits, long misses, long evictions, long size, long compiled) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+            this.compiled = compiled;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, evictions=%d, size=%d, compiled=%d", hits, misses, evictions,
+                    size, compiled);
+        }
+    }
+
+    public static Configuration standardConfiguration() {
+        return new Configuration(256, EvictionPolicy.TINY_LFU);
+    }
+
+    enum Nulls {
+        FIRST(":nullsfirst"), LAST(":nullslast"), DEFAULT("");
+
+        final String suffix;
+
+        Nulls(String suffix) {
+            this.suffix = suffix;
+        }
+    }
+
+    private interface Field<T> {
+        boolean nullable();
+
+        void chain(TypeSafeChainComparator.Staged<T> stage, boolean descending, Nulls nulls);
+    }
+
+    private static final class ObjectField<T, S> implements Field<T> {
+        private final Function<T, S> getter;
+        private final Comparator<S> comparator;
+
+        private ObjectField(Function<T, S> getter, Comparator<S> comparator) {
+            this.getter = getter;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public boolean nullable() {
+            return true;
+        }
+
+        @Override
+        public void chain(TypeSafeChainComparator.Staged<T> stage, boolean descending, Nulls nulls) {
+            final Comparator<S> ordered = descending ? comparator.reversed() : comparator;
+            // Without a modifier nulls sort as the largest value, as in SQL: last ascending, first descending.
+            final boolean nullsFirst = nulls == Nulls.FIRST || (nulls == Nulls.DEFAULT && descending);
+            stage.chain(getter, nullsFirst ? Comparator.nullsFirst(ordered) : Comparator.nullsLast(ordered));
+        }
+    }
+
+    private static final class IntField<T> implements Field<T> {
+        private final ToIntFunction<T> getter;
+        private final IntComparator comparator;
+
+        private IntField(ToIntFunction<T> getter, IntComparator comparator) {
+            this.getter = getter;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public boolean nullable() {
+            return false;
+        }
+
+        @Override
+        public void chain(TypeSafeChainComparator.Staged<T> stage, boolean descending, Nulls nulls) {
+            stage.chainInt(getter, descending ? (i1, i2) -> comparator.compareInt(i2, i1) : comparator);
+        }
+    }
+
+    private static final class LongField<T> implements Field<T> {
+        private final ToLongFunction<T> getter;
+        private final LongComparator comparator;
+
+        private LongField(ToLongFunction<T> getter, LongComparator comparator) {
+            this.getter = getter;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public boolean nullable() {
+            return false;
+        }
+
+        @Override
+        public void chain(TypeSafeChainComparator.Staged<T> stage, boolean descending, Nulls nulls) {
+            stage.chainLong(getter, descending ? (l1, l2) -> comparator.compareLong(l2, l1) : comparator);
+        }
+    }
+
+    private static final class DoubleField<T> implements Field<T> {
+        private final ToDoubleFunction<T> getter;
+        private final DoubleComparator comparator;
+
+        private DoubleField(ToDoubleFunction<T> getter, DoubleComparator comparator) {
+            this.getter = getter;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public boolean nullable() {
+            return false;
+        }
+
+        @Override
+        public void chain(TypeSafeChainComparator.Staged<T> stage, boolean descending, Nulls nulls) {
+            stage.chainDouble(getter, descending ? (d1, d2) -> comparator.compareDouble(d2, d1) : comparator);
+        }
+    }
+
+    private final Class<T> clazz;
+    private final Configuration configuration;
+    private final Map<String, Field<T>> fields;
+    private final Cache<String, Comparator<T>> bySpec;
+    private final Cache<String, Comparator<T>> compiled;
+    private final Function<String, Comparator<T>> loader;
+
+    private SortRegistry(Class<T> clazz, Configuration configuration, Map<String, Field<T>> fields) {
+        this.clazz = clazz;
+        this.configuration = configuration;
+        this.fields = Map.copyOf(fields);
+        this.bySpec = new BoundedCache<>(configuration.maximumSize, configuration.policy);
+        this.compiled = new BoundedCache<>(configuration.maximumSize, configuration.policy);
+        this.loader = spec -> compiled.get(normalise(spec), this::compile);
+    }
+
+    public static <S> SortRegistry<S> create(Class<S> clazz) {
+        return new SortRegistry<>(clazz, standardConfiguration(), Map.of());
+    }
+
+    public static <S> SortRegistry<S> createWithConfig(Class<S> clazz, Configuration configuration) {
+        return new SortRegistry<>(clazz, configuration, Map.of());
+    }
+
+    public <S extends Comparable<? super S>> SortRegistry<T> register(String name, Function<T, S> getter) {
+        return register(name, getter, Comparator.naturalOrder());
+    }
+
+    public <S> SortRegistry<T> register(String name, Function<T, S> getter, Comparator<S> comparator) {
+        return with(name, new ObjectField<>(getter, comparator));
+    }
+
+    public SortRegistry<T> registerInt(String name, ToIntFunction<T> getter, IntComparator comparator) {
+        return with(name, new IntField<>(getter, comparator));
+    }
+
+    public SortRegistry<T> registerLong(String name, ToLongFunction<T> getter, LongComparator comparator) {
+        return with(name, new LongField<>(getter, comparator));
+    }
+
+    public SortRegistry<T> registerDouble(String name, ToDoubleFunction<T> getter, DoubleComparator comparator) {
+        return with(name, new DoubleField<>(getter, comparator));
+    }
+
+    private SortRegistry<T> with(String name, Field<T> field) {
+        if (name.isEmpty() || !name.equals(name.trim()) || name.indexOf(',') >= 0 || name.indexOf(':') >= 0
+                || name.charAt(0) == '-' || name.charAt(0) == '+') {
+            throw new IllegalArgumentException(String.format("Invalid field name '%s'", name));
+        }
+        final Map<String, Field<T>> copy = new HashMap<>(fields);
+        copy.put(name, field);
+        return new SortRegistry<>(clazz, configuration, copy);
+    }
+
+    public Set<String> fields() {
+        return fields.keySet();
+    }
+
+    public Comparator<T> comparator(String spec) {
+        return bySpec.get(spec, loader);
+    }
+
+    public String normalise(String spec) {
+        final StringBuilder builder = new StringBuilder();
+        final Set<String> seen = new HashSet<>();
+        for (String rawTerm : spec.split(",", -1)) {
+            final String term = rawTerm.trim();
+            int start = 0;
+            boolean descending = false;
+            if (!term.isEmpty() && (term.charAt(0) == '-' || term.charAt(0) == '+')) {
+                descending = term.charAt(0) == '-';
+                start = 1;
+            }
+            final int colon = term.indexOf(':');
+            final String name = (colon < 0 ? term.substring(start) : term.substring(start, colon)).trim();
+            final Nulls nulls = colon < 0 ? Nulls.DEFAULT : nulls(spec, term.substring(colon));
+            final Field<T> field = fields.get(name);
+            if (field == null) {
+                throw new IllegalArgumentException(String.format("Unknown sort field '%s' in '%s' for %s", name,
+                        spec, clazz.getSimpleName()));
+            }
+            if (!seen.add(name)) {
+                throw new IllegalArgumentException(String.format("Sort field '%s' repeated in '%s'", name, spec));
+            }
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(descending ? '-' : '+').append(name).append(field.nullable() ? nulls.suffix : "");
+        }
+        return builder.toString();
+    }
+
+    private static Nulls nulls(String spec, String modifier) {
+        final String lower = modifier.trim().toLowerCase(Locale.ROOT);
+        if (lower.equals(Nulls.FIRST.suffix)) {
+            return Nulls.FIRST;
+        } else if (lower.equals(Nulls.LAST.suffix)) {
+            return Nulls.LAST;
+        }
+        throw new IllegalArgumentException(String.format("Unknown modifier '%s' in '%s'", modifier, spec));
+    }
+
+    private Comparator<T> compile(String normalisedSpec) {
+        final TypeSafeChainComparator.Staged<T> stage = TypeSafeChainComparator.create(clazz).stage();
+        for (String term : normalisedSpec.split(",")) {
+            final int colon = term.indexOf(':');
+            final String name = colon < 0 ? term.substring(1) : term.substring(1, colon);
+            final Nulls nulls = colon < 0 ? Nulls.DEFAULT : nulls(normalisedSpec, term.substring(colon));
+            fields.get(name).chain(stage, term.charAt(0) == '-', nulls);
+        }
+        return stage.freeze().unrolled();
+    }
+
+    public Statistics statistics() {
+        return new Statistics(bySpec.hits(), bySpec.misses(), bySpec.evictions(), bySpec.size(), compiled.misses());
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class SortedGrouping<T> {
+
+    private final TypeSafeChainComparator<T> comparator;
+    private final int prefix;
+
+    private SortedGrouping(TypeSafeChainComparator<T> comparator, int prefix) {
+        this.comparator = comparator;
+        this.prefix = comparator.checkPrefix(prefix);
+    }
+
+    public static <S> SortedGrouping<S> create(TypeSafeChainComparator<S> comparator, int prefix) {
+        return new SortedGrouping<>(comparator, prefix);
+    }
+
+    public boolean sameGroup(T element1, T element2) {
+        return comparator.comparePrefix(element1, element2, prefix) == 0;
+    }
+
+    public <A, D> Iterator<D> groups(Iterator<? extends T> sorted, Collector<? super T, A, D> downstream) {
+        return new GroupIterator<>(sorted, downstream);
+    }
+
+    public <A, D> Stream<D> group(Stream<? extends T> sorted, Collector<? super T, A, D> downstream) {
+        if (sorted.isParallel()) {
+            return sorted.collect(collector(downstream)).parallelStream().onClose(sorted::close);
+        }
+        final Iterator<D> groups = groups(sorted.iterator(), downstream);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(groups, Spliterator.ORDERED), false)
+                .onClose(sorted::close);
+    }
+
+    public <A, D> Collector<T, ?, List<D>> collector(Collector<? super T, A, D> downstream) {
+        final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        return Collector.<T, Chunk<T, A, D>, List<D>> of(() -> new Chunk<>(downstream), (chunk, element) -> {
+            final Run<T, A> current = chunk.last != null ? chunk.last : chunk.first;
+            if (current != null && sameGroup(current.key, element)) {
+                accumulator.accept(current.accumulation, element);
+                return;
+            }
+            final Run<T, A> run = new Run<>(element, downstream.supplier().get());
+            accumulator.accept(run.accumulation, element);
+            if (chunk.first == null) {
+                chunk.first = run;
+            } else {
+                chunk.closeLast();
+                chunk.last = run;
+            }
+        }, this::combine, Chunk::finish);
+    }
+
+    private static final class Run<T, A> {
+        final T key;
+        A accumulation;
+
+        Run(T key, A accumulation) {
+            this.key = key;
+            this.accumulation = accumulation;
+        }
+    }
+
+    // A chunk keeps its first and last runs open, as they can continue in the neighbouring chunks, and finishes the
+    // runs in between as soon as they close.
+    private static final class Chunk<T, A, D> {
+        final Collector<? super T, A, D> downstream;
+        final List<D> middle = new ArrayList<>();
+        Run<T, A> first;
+        Run<T, A> last;
+
+        Chunk(Collector<? super T, A, D> downstream) {
+            this.downstream = downstream;
+        }
+
+        void closeLast() {
+            if (last != null) {
+                middle.add(downstream.finisher().apply(last.accumulation));
+            }
+        }
+
+        List<D> finish() {
+            final Function<A, D> finisher = downstream.finisher();
+            final List<D> result = new ArrayList<>(middle.size() + 2);
+            if (first != null) {
+                result.add(finisher.apply(first.accumulation));
+            }
+            result.addAll(middle);
+            if (last != null) {
+                result.add(finisher.apply(last.accumulation));
+            }
+            return result;
+        }
+    }
+
+    private <A, D> Chunk<T, A, D> combine(Chunk<T, A, D> left, Chunk<T, A, D> right) {
+        if (left.first == null) {
+            return right;
+        } else if (right.first == null) {
+            return left;
+        }
+        final Run<T, A> current = left.last != null ? left.last : left.first;
+        if (sameGroup(current.key, right.first.key)) {
+            current.accumulation = left.downstream.combiner().apply(current.accumulation,
+                    right.first.accumulation);
+            if (right.last == null) {
+                left.middle.addAll(right.middle);
+                return left;
+            }
+        } else if (right.last == null) {
+            left.closeLast();
+            left.last = right.first;
+            return left;
+        } else {
+            left.closeLast();
+            left.middle.add(left.downstream.finisher().apply(right.first.accumulation));
+            left.middle.addAll(right.middle);
+            left.last = right.last;
+            return left;
+        }
+        left.closeLast();
+        left.middle.addAll(right.middle);
+        left.last = right.last;
+        return left;
+    }
+
+    private final class GroupIterator<A, D> implements Iterator<D> {
+        private final Iterator<? extends T> sorted;
+        private final Collector<? super T, A, D> downstream;
+        private final BiConsumer<A, ? super T> accumulator;
+        private T head;
+        private boolean hasHead;
+        private boolean initialised;
+
+        GroupIterator(Iterator<? extends T> sorted, Collector<? super T, A, D> downstream) {
+            this.sorted = sorted;
+            this.downstream = downstream;
+            this.accumulator = downstream.accumulator();
+        }
+
+        private void advance() {
+            hasHead = sorted.hasNext();
+            head = hasHead ? sorted.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!initialised) {
+                initialised = true;
+                advance();
+            }
+            return hasHead;
+        }
+
+        @Override
+        public D next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final T key = head;
+            final A accumulation = downstream.supplier().get();
+            do {
+                accumulator.accept(accumulation, head);
+                advance();
+            } while (hasHead && sameGroup(key, head));
+            return downstream.finisher().apply(accumulation);
+        }
+    }
+}
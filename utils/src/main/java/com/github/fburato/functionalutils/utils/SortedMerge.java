@@ -0,0 +1,207 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class SortedMerge<T> {
+
+    private final Comparator<? super T> comparator;
+    private final boolean distinct;
+
+    private SortedMerge(Comparator<? super T> comparator, boolean distinct) {
+        this.comparator = comparator;
+        this.distinct = distinct;
+    }
+
+    public static <S> SortedMerge<S> create(Comparator<? super S> comparator) {
+        return new SortedMerge<>(comparator, false);
+    }
+
+    public static <S> SortedMerge<S> createDistinct(Comparator<? super S> comparator) {
+        return new SortedMerge<>(comparator, true);
+    }
+
+    public Stream<T> merge(List<? extends Iterator<? extends T>> inputs) {
+        final List<Spliterator<? extends T>> spliterators = new ArrayList<>(inputs.size());
+        for (Iterator<? extends T> input : inputs) {
+            spliterators.add(Spliterators.spliteratorUnknownSize(input, Spliterator.ORDERED));
+        }
+        return mergeSpliterators(spliterators);
+    }
+
+    public Stream<T> mergeSpliterators(List<? extends Spliterator<? extends T>> inputs) {
+        return StreamSupport.stream(new LoserTree<>(comparator, distinct, inputs), false);
+    }
+
+    public Stream<T> mergeStreams(List<? extends Stream<? extends T>> inputs) {
+        final List<Spliterator<? extends T>> spliterators = new ArrayList<>(inputs.size());
+        for (Stream<? extends T> input : inputs) {
+            spliterators.add(input.spliterator());
+        }
+        return mergeSpliterators(spliterators).onClose(() -> {
+            RuntimeException failure = null;
+            for (Stream<? extends T> input : inputs) {
+                try {
+                    input.close();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        });
+    }
+
+    // Leaves are the inputs; node n > 0 holds the loser of the match played there and node 0 the overall winner.
+    // Ties are won by the lower input index, which keeps the merge stable.
+    static final class LoserTree<T> implements Spliterator<T>, Consumer<T> {
+        private final Comparator<? super T> comparator;
+        private final boolean distinct;
+        private final List<? extends Spliterator<? extends T>> inputs;
+        private final Object[] heads;
+        private final boolean[] exhausted;
+        private final int[] tree;
+        private final int size;
+        private T pulled;
+        private T last;
+        private boolean emitted;
+        private boolean initialised;
+
+        LoserTree(Comparator<? super T> comparator, boolean distinct,
+                List<? extends Spliterator<? extends T>> inputs) {
+            this.comparator = comparator;
+            this.distinct = distinct;
+            this.inputs = List.copyOf(inputs);
+            this.size = inputs.size();
+            this.heads = new Object[size];
+            this.exhausted = new boolean[size];
+            this.tree = new int[Math.max(1, size)];
+        }
+
+        private void initialise() {
+            initialised = true;
+            for (int i = 0; i < size; i++) {
+                pull(i);
+            }
+            final int[] winners = new int[2 * size];
+            for (int i = 0; i < size; i++) {
+                winners[size + i] = i;
+            }
+            for (int node = size - 1; node > 0; node--) {
+                final int left = winners[2 * node];
+                final int right = winners[2 * node + 1];
+                if (beats(left, right)) {
+                    winners[node] = left;
+                    tree[node] = right;
+                } else {
+                    winners[node] = right;
+                    tree[node] = left;
+                }
+            }
+            tree[0] = size < 2 ? 0 : winners[1];
+        }
+
+        @Override
+        public void accept(T t) {
+            pulled = t;
+        }
+
+        private void pull(int input) {
+            if (inputs.get(input).tryAdvance(this)) {
+                heads[input] = pulled;
+                pulled = null;
+            } else {
+                heads[input] = null;
+                exhausted[input] = true;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean beats(int first, int second) {
+            if (exhausted[first]) {
+                return false;
+            } else if (exhausted[second]) {
+                return true;
+            }
+            final int value = comparator.compare((T) heads[first], (T) heads[second]);
+            return value < 0 || (value == 0 && first < second);
+        }
+
+        private void replay(int input) {
+            int winner = input;
+            for (int node = (size + input) / 2; node > 0; node /= 2) {
+                if (beats(tree[node], winner)) {
+                    final int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (!initialised) {
+                initialise();
+            }
+            while (size > 0) {
+                final int winner = tree[0];
+                if (exhausted[winner]) {
+                    return false;
+                }
+                final T next = (T) heads[winner];
+                pull(winner);
+                replay(winner);
+                if (!distinct || !emitted || comparator.compare(last, next) != 0) {
+                    if (distinct) {
+                        last = next;
+                        emitted = true;
+                    }
+                    action.accept(next);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long estimate = 0;
+            for (int i = 0; i < size; i++) {
+                estimate += inputs.get(i).estimateSize() + (initialised && !exhausted[i] ? 1 : 0);
+                if (estimate < 0) {
+                    return Long.MAX_VALUE;
+                }
+            }
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED;
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return comparator;
+        }
+    }
+}
@@ -3,22 +3,340 @@ package com.github.fburato.functionalutils.utils;
 import com.github.fburato.functionalutils.api.ChainComparator1;
 import com.github.fburato.functionalutils.api.ChainableComparator;
 import com.github.fburato.functionalutils.api.ComparatorDecorator;
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.api.UnrolledComparators;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public final class TypeSafeChainComparator<T> implements ChainableComparator<T> {
 
+    static class Step<T, S> {
+        final Function<T, S> fieldGetter;
+        final Comparator<S> comparator;
+
+        Step(Function<T, S> fieldGetter, Comparator<S> comparator) {
+            this.fieldGetter = fieldGetter;
+            this.comparator = comparator;
+        }
+
+        int compare(T o1, T o2) {
+            return comparator.compare(fieldGetter.apply(o1), fieldGetter.apply(o2));
+        }
+
+        Object checkKey(int index, Object key) {
+            return key;
+        }
+
+        @SuppressWarnings("unchecked")
+        int compareKey(T element, Object key) {
+            return comparator.compare(fieldGetter.apply(element), (S) key);
+        }
+
+        boolean differs(T o1, T o2) {
+            final S s1 = fieldGetter.apply(o1);
+            final S s2 = fieldGetter.apply(o2);
+            return s1 != s2 && comparator.compare(s1, s2) != 0;
+        }
+
+        boolean equalsDiffers(T o1, T o2) {
+            return !Objects.equals(fieldGetter.apply(o1), fieldGetter.apply(o2));
+        }
+
+        Step<T, S> decorate(ComparatorDecorator decorator) {
+            return new Step<>(fieldGetter, decorator.decorate(comparator));
+        }
+
+        Function<T, ?> unrolledGetter() {
+            return fieldGetter;
+        }
+
+        Comparator<?> unrolledComparator() {
+            return comparator;
+        }
+    }
+
+    abstract static class PrimitiveStep<T, S> extends Step<T, S> {
+
+        PrimitiveStep(Function<T, S> fieldGetter, Comparator<S> comparator) {
+            super(fieldGetter, comparator);
+        }
+
+        @Override
+        boolean differs(T o1, T o2) {
+            return compare(o1, o2) != 0;
+        }
+
+        @Override
+        Step<T, S> decorate(ComparatorDecorator decorator) {
+            return keepsPrimitives(decorator) ? this : super.decorate(decorator);
+        }
+
+        @Override
+        Function<T, ?> unrolledGetter() {
+            return Function.identity();
+        }
+
+        @Override
+        Comparator<?> unrolledComparator() {
+            return (Comparator<T>) this::compare;
+        }
+    }
+
+    static final class IntStep<T> extends PrimitiveStep<T, Integer> {
+        private final ToIntFunction<T> intGetter;
+        private final IntComparator intComparator;
+
+        IntStep(ToIntFunction<T> intGetter, IntComparator intComparator) {
+            super(intGetter::applyAsInt, intComparator);
+            this.intGetter = intGetter;
+            this.intComparator = intComparator;
+        }
+
+        @Override
+        int compare(T o1, T o2) {
+            return intComparator.compareInt(intGetter.applyAsInt(o1), intGetter.applyAsInt(o2));
+        }
+
+        @Override
+        boolean equalsDiffers(T o1, T o2) {
+            return intGetter.applyAsInt(o1) != intGetter.applyAsInt(o2);
+        }
+
+        @Override
+        Object checkKey(int index, Object key) {
+            if (key instanceof Integer || key instanceof Short || key instanceof Byte) {
+                return ((Number) key).intValue();
+            }
+            throw keyMismatch(index, key, "int");
+        }
+
+        @Override
+        int compareKey(T element, Object key) {
+            return compareIntKey(element, (Integer) key);
+        }
+
+        int compareIntKey(T element, int key) {
+            return intComparator.compareInt(intGetter.applyAsInt(element), key);
+        }
+    }
+
+    static final class LongStep<T> extends PrimitiveStep<T, Long> {
+        private final ToLongFunction<T> longGetter;
+        private final LongComparator longComparator;
+
+        LongStep(ToLongFunction<T> longGetter, LongComparator longComparator) {
+            super(longGetter::applyAsLong, longComparator);
+            this.longGetter = longGetter;
+            this.longComparator = longComparator;
+        }
+
+        @Override
+        int compare(T o1, T o2) {
+            return longComparator.compareLong(longGetter.applyAsLong(o1), longGetter.applyAsLong(o2));
+        }
+
+        @Override
+        boolean equalsDiffers(T o1, T o2) {
+            return longGetter.applyAsLong(o1) != longGetter.applyAsLong(o2);
+        }
+
+        @Override
+        Object checkKey(int index, Object key) {
+            if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+                return ((Number) key).longValue();
+            }
+            throw keyMismatch(index, key, "long");
+        }
+
+        @Override
+        int compareKey(T element, Object key) {
+            return compareLongKey(element, (Long) key);
+        }
+
+        int compareLongKey(T element, long key) {
+            return longComparator.compareLong(longGetter.applyAsLong(element), key);
+        }
+    }
+
+    static final class DoubleStep<T> extends PrimitiveStep<T, Double> {
+        private final ToDoubleFunction<T> doubleGetter;
+        private final DoubleComparator doubleComparator;
+
+        DoubleStep(ToDoubleFunction<T> doubleGetter, DoubleComparator doubleComparator) {
+            super(doubleGetter::applyAsDouble, doubleComparator);
+            this.doubleGetter = doubleGetter;
+            this.doubleComparator = doubleComparator;
+        }
+
+        @Override
+        int compare(T o1, T o2) {
+            return doubleComparator.compareDouble(doubleGetter.applyAsDouble(o1), doubleGetter.applyAsDouble(o2));
+        }
+
+        // Same as Double.equals, so NaN equals NaN and 0.0 differs from -0.0.
+        @Override
+        boolean equalsDiffers(T o1, T o2) {
+            return Double.compare(doubleGetter.applyAsDouble(o1), doubleGetter.applyAsDouble(o2)) != 0;
+        }
+
+        @Override
+        Object checkKey(int index, Object key) {
+            if (key instanceof Double || key instanceof Float || key instanceof Long || key instanceof Integer
+                    || key instanceof Short || key instanceof Byte) {
+                return ((Number) key).doubleValue();
+            }
+            throw keyMismatch(index, key, "double");
+        }
+
+        @Override
+        int compareKey(T element, Object key) {
+            return compareDoubleKey(element, (Double) key);
+        }
+
+        int compareDoubleKey(T element, double key) {
+            return doubleComparator.compareDouble(doubleGetter.applyAsDouble(element), key);
+        }
+    }
+
+    // Primitive values are never null, so null safety leaves primitive steps unchanged.
+    static boolean keepsPrimitives(ComparatorDecorator decorator) {
+        return decorator == ComparatorDecorators.identity || decorator == ComparatorDecorators.nullSafe;
+    }
+
+    private static IllegalArgumentException keyMismatch(int index, Object key, String type) {
+        return new IllegalArgumentException(String.format("Key value %s%s does not match the %s values of step %d",
+                key, key == null ? "" : " of type " + key.getClass().getSimpleName(), type, index));
+    }
+
+    interface Probe<T> {
+        int compare(T element);
+    }
+
+    private static final class KeyProbe<T> implements Probe<T> {
+        private final TypeSafeChainComparator<T> comparator;
+        private final Object[] key;
+
+        KeyProbe(TypeSafeChainComparator<T> comparator, Object[] key) {
+            this.comparator = comparator;
+            this.key = key;
+        }
+
+        @Override
+        public int compare(T element) {
+            return comparator.compareToKey(element, key);
+        }
+    }
+
+    private static final class IntProbe<T> implements Probe<T> {
+        private final IntStep<T> step;
+        private final int key;
+
+        IntProbe(IntStep<T> step, int key) {
+            this.step = step;
+            this.key = key;
+        }
+
+        @Override
+        public int compare(T element) {
+            return step.compareIntKey(element, key);
+        }
+    }
+
+    private static final class LongProbe<T> implements Probe<T> {
+        private final LongStep<T> step;
+        private final long key;
+
+        LongProbe(LongStep<T> step, long key) {
+            this.step = step;
+            this.key = key;
+        }
+
+        @Override
+        public int compare(T element) {
+            return step.compareLongKey(element, key);
+        }
+    }
+
+    private static final class DoubleProbe<T> implements Probe<T> {
+        private final DoubleStep<T> step;
+        private final double key;
+
+        DoubleProbe(DoubleStep<T> step, double key) {
+            this.step = step;
+            this.key = key;
+        }
+
+        @Override
+        public int compare(T element) {
+            return step.compareDoubleKey(element, key);
+        }
+    }
+
+    public static final class Staged<T> implements ChainableComparator.Stage<T> {
+        private final ComparatorDecorator comparatorDecorator;
+        private List<Step<T, ?>> steps;
+
+        private Staged(ComparatorDecorator comparatorDecorator, List<Step<T, ?>> steps) {
+            this.comparatorDecorator = comparatorDecorator;
+            this.steps = new ArrayList<>(steps);
+        }
+
+        @Override
+        public <S> Staged<T> chain(final Function<T, S> fieldGetter, final Comparator<S> comparator) {
+            frozenCheck().add(new Step<>(fieldGetter, comparatorDecorator.decorate(comparator)));
+            return this;
+        }
+
+        @Override
+        public Staged<T> chainInt(final ToIntFunction<T> fieldGetter, final IntComparator comparator) {
+            frozenCheck().add(new IntStep<>(fieldGetter, comparator).decorate(comparatorDecorator));
+            return this;
+        }
+
+        @Override
+        public Staged<T> chainLong(final ToLongFunction<T> fieldGetter, final LongComparator comparator) {
+            frozenCheck().add(new LongStep<>(fieldGetter, comparator).decorate(comparatorDecorator));
+            return this;
+        }
+
+        @Override
+        public Staged<T> chainDouble(final ToDoubleFunction<T> fieldGetter, final DoubleComparator comparator) {
+            frozenCheck().add(new DoubleStep<>(fieldGetter, comparator).decorate(comparatorDecorator));
+            return this;
+        }
+
+        @Override
+        public TypeSafeChainComparator<T> freeze() {
+            final TypeSafeChainComparator<T> result = new TypeSafeChainComparator<>(comparatorDecorator,
+                    frozenCheck());
+            steps = null;
+            return result;
+        }
+
+        private List<Step<T, ?>> frozenCheck() {
+            if (steps == null) {
+                throw new IllegalStateException("Stage has already been frozen");
+            }
+            return steps;
+        }
+    }
+
     private final ComparatorDecorator comparatorDecorator;
-    private final List<BiFunction<T, T, Integer>> comparisons;
+    private final List<Step<T, ?>> steps;
 
-    private TypeSafeChainComparator(ComparatorDecorator decorator, List<BiFunction<T, T, Integer>> comparisons) {
+    private TypeSafeChainComparator(ComparatorDecorator decorator, List<Step<T, ?>> steps) {
         this.comparatorDecorator = decorator;
-        this.comparisons = List.copyOf(comparisons);
+        this.steps = List.copyOf(steps);
     }
 
     public static <S> TypeSafeChainComparator<S> create(final Class<S> clazz) {
@@ -36,16 +354,35 @@ public final class TypeSafeChainComparator<T> implements ChainableComparator<T>
 
     @Override
     public <S> TypeSafeChainComparator<T> chain(final Function<T, S> fieldGetter, final Comparator<S> comparator) {
-        final Comparator<S> decorated = comparatorDecorator.decorate(comparator);
-        final List<BiFunction<T, T, Integer>> copy = new ArrayList<>(comparisons);
-        copy.add((o1, o2) -> decorated.compare(fieldGetter.apply(o1), fieldGetter.apply(o2)));
+        return append(new Step<>(fieldGetter, comparatorDecorator.decorate(comparator)));
+    }
+
+    @Override
+    public TypeSafeChainComparator<T> chainInt(final ToIntFunction<T> fieldGetter, final IntComparator comparator) {
+        return append(new IntStep<>(fieldGetter, comparator).decorate(comparatorDecorator));
+    }
+
+    @Override
+    public TypeSafeChainComparator<T> chainLong(final ToLongFunction<T> fieldGetter, final LongComparator comparator) {
+        return append(new LongStep<>(fieldGetter, comparator).decorate(comparatorDecorator));
+    }
+
+    @Override
+    public TypeSafeChainComparator<T> chainDouble(final ToDoubleFunction<T> fieldGetter,
+            final DoubleComparator comparator) {
+        return append(new DoubleStep<>(fieldGetter, comparator).decorate(comparatorDecorator));
+    }
+
+    private TypeSafeChainComparator<T> append(final Step<T, ?> step) {
+        final List<Step<T, ?>> copy = new ArrayList<>(steps);
+        copy.add(step);
         return new TypeSafeChainComparator<>(comparatorDecorator, copy);
     }
 
     @Override
     public int compare(T o1, T o2) {
-        for (BiFunction<T, T, Integer> i : comparisons) {
-            final Integer value = i.apply(o1, o2);
+        for (int i = 0; i < steps.size(); i++) {
+            final int value = steps.get(i).compare(o1, o2);
             if (value != 0) {
                 return value;
             }
@@ -53,6 +390,110 @@ public final class TypeSafeChainComparator<T> implements ChainableComparator<T>
         return 0;
     }
 
+    @Override
+    public Comparator<T> unrolled() {
+        if (steps.size() > UnrolledComparators.MAXIMUM_ARITY) {
+            return this;
+        }
+        final List<Function<T, ?>> getters = new ArrayList<>(steps.size());
+        final List<Comparator<?>> comparators = new ArrayList<>(steps.size());
+        for (Step<T, ?> step : steps) {
+            getters.add(step.unrolledGetter());
+            comparators.add(step.unrolledComparator());
+        }
+        return UnrolledComparators.of(getters, comparators);
+    }
+
+    @Override
+    public Staged<T> stage() {
+        return new Staged<>(comparatorDecorator, steps);
+    }
+
+    List<Step<T, ?>> steps() {
+        return steps;
+    }
+
+    int checkPrefix(int length) {
+        if (length < 0 || length > steps.size()) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid prefix of %d steps for a chain of %d steps", length, steps.size()));
+        }
+        return length;
+    }
+
+    int comparePrefix(T o1, T o2, int length) {
+        for (int i = 0; i < length; i++) {
+            final int value = steps.get(i).compare(o1, o2);
+            if (value != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    Object[] checkKey(Object[] key) {
+        if (key.length > steps.size()) {
+            throw new IllegalArgumentException(
+                    String.format("A key of %d values is longer than the %d steps", key.length, steps.size()));
+        }
+        final Object[] converted = new Object[key.length];
+        for (int i = 0; i < key.length; i++) {
+            converted[i] = steps.get(i).checkKey(i, key[i]);
+        }
+        return converted;
+    }
+
+    int compareToKey(T element, Object[] key) {
+        for (int i = 0; i < key.length; i++) {
+            final int value = steps.get(i).compareKey(element, key[i]);
+            if (value != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    Probe<T> keyProbe(Object[] key) {
+        return new KeyProbe<>(this, checkKey(key));
+    }
+
+    Probe<T> intProbe(int key) {
+        final Step<T, ?> step = firstStep();
+        if (step instanceof IntStep) {
+            return new IntProbe<>((IntStep<T>) step, key);
+        } else if (step instanceof LongStep) {
+            return new LongProbe<>((LongStep<T>) step, key);
+        } else if (step instanceof DoubleStep) {
+            return new DoubleProbe<>((DoubleStep<T>) step, key);
+        }
+        return keyProbe(new Object[] { key });
+    }
+
+    Probe<T> longProbe(long key) {
+        final Step<T, ?> step = firstStep();
+        if (step instanceof LongStep) {
+            return new LongProbe<>((LongStep<T>) step, key);
+        } else if (step instanceof DoubleStep) {
+            return new DoubleProbe<>((DoubleStep<T>) step, key);
+        }
+        return keyProbe(new Object[] { key });
+    }
+
+    Probe<T> doubleProbe(double key) {
+        final Step<T, ?> step = firstStep();
+        if (step instanceof DoubleStep) {
+            return new DoubleProbe<>((DoubleStep<T>) step, key);
+        }
+        return keyProbe(new Object[] { key });
+    }
+
+    private Step<T, ?> firstStep() {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("A key of 1 value is longer than the 0 steps");
+        }
+        return steps.get(0);
+    }
+
     public <T1> ChainComparator1<T, T1> addComparator(Comparator<T1> comparator1) {
         return new ChainComparator1<>(this, comparator1);
     }
@@ -2,14 +2,18 @@ package com.github.fburato.functionalutils.utils;
 
 import com.github.fburato.functionalutils.api.ChainShow1;
 import com.github.fburato.functionalutils.api.ChainableShow;
+import com.github.fburato.functionalutils.api.DoubleShow;
+import com.github.fburato.functionalutils.api.IntShow;
+import com.github.fburato.functionalutils.api.LongShow;
 import com.github.fburato.functionalutils.api.Show;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public final class TypeSafeChainShow<T> implements ChainableShow<T> {
 
@@ -32,11 +36,158 @@ public final class TypeSafeChainShow<T> implements ChainableShow<T> {
         return new Configuration<>(Class::getSimpleName, "(", ")", ",");
     }
 
+    static class Step<T, S> {
+        final String name;
+        final Function<T, S> fieldGetter;
+        final Show<S> show;
+
+        Step(String name, Function<T, S> fieldGetter, Show<S> show) {
+            this.name = name;
+            this.fieldGetter = fieldGetter;
+            this.show = show;
+        }
+
+        void showTo(T t, StringBuilder builder) {
+            show.showTo(fieldGetter.apply(t), builder);
+        }
+    }
+
+    static final class IntStep<T> extends Step<T, Integer> {
+        private final ToIntFunction<T> intGetter;
+        private final IntShow intShow;
+
+        IntStep(String name, ToIntFunction<T> intGetter, IntShow intShow) {
+            super(name, intGetter::applyAsInt, intShow);
+            this.intGetter = intGetter;
+            this.intShow = intShow;
+        }
+
+        @Override
+        void showTo(T t, StringBuilder builder) {
+            intShow.showIntTo(intGetter.applyAsInt(t), builder);
+        }
+    }
+
+    static final class LongStep<T> extends Step<T, Long> {
+        private final ToLongFunction<T> longGetter;
+        private final LongShow longShow;
+
+        LongStep(String name, ToLongFunction<T> longGetter, LongShow longShow) {
+            super(name, longGetter::applyAsLong, longShow);
+            this.longGetter = longGetter;
+            this.longShow = longShow;
+        }
+
+        @Override
+        void showTo(T t, StringBuilder builder) {
+            longShow.showLongTo(longGetter.applyAsLong(t), builder);
+        }
+    }
+
+    static final class DoubleStep<T> extends Step<T, Double> {
+        private final ToDoubleFunction<T> doubleGetter;
+        private final DoubleShow doubleShow;
+
+        DoubleStep(String name, ToDoubleFunction<T> doubleGetter, DoubleShow doubleShow) {
+            super(name, doubleGetter::applyAsDouble, doubleShow);
+            this.doubleGetter = doubleGetter;
+            this.doubleShow = doubleShow;
+        }
+
+        @Override
+        void showTo(T t, StringBuilder builder) {
+            doubleShow.showDoubleTo(doubleGetter.applyAsDouble(t), builder);
+        }
+    }
+
+    public static final class Staged<T> implements ChainableShow.Stage<T> {
+        private final Class<T> clazz;
+        private final Configuration<T> configuration;
+        private List<Step<T, ?>> sequencer;
+
+        private Staged(Class<T> clazz, Configuration<T> configuration, List<Step<T, ?>> sequencer) {
+            this.clazz = clazz;
+            this.configuration = configuration;
+            this.sequencer = new ArrayList<>(sequencer);
+        }
+
+        @Override
+        public <S> Staged<T> chain(Function<T, S> fieldGetter, Show<S> sShow) {
+            return chain(null, fieldGetter, sShow);
+        }
+
+        public <S> Staged<T> chain(String fieldName, Function<T, S> fieldGetter, Show<S> sShow) {
+            frozenCheck().add(new Step<>(fieldName, fieldGetter, sShow));
+            return this;
+        }
+
+        @Override
+        public <S> Staged<T> standardChain(Function<T, S> fieldGetter) {
+            return chain(fieldGetter, Shows.standard());
+        }
+
+        public <S> Staged<T> standardChain(String fieldName, Function<T, S> fieldGetter) {
+            return chain(fieldName, fieldGetter, Shows.standard());
+        }
+
+        public <S> Staged<T> chain(Accessor<T, S> accessor, Show<S> sShow) {
+            return chain(accessor.path(), accessor, sShow);
+        }
+
+        public <S> Staged<T> standardChain(Accessor<T, S> accessor) {
+            return chain(accessor.path(), accessor, Shows.standard());
+        }
+
+        @Override
+        public Staged<T> chainInt(ToIntFunction<T> fieldGetter, IntShow show) {
+            return chainInt(null, fieldGetter, show);
+        }
+
+        public Staged<T> chainInt(String fieldName, ToIntFunction<T> fieldGetter, IntShow show) {
+            frozenCheck().add(new IntStep<>(fieldName, fieldGetter, show));
+            return this;
+        }
+
+        @Override
+        public Staged<T> chainLong(ToLongFunction<T> fieldGetter, LongShow show) {
+            return chainLong(null, fieldGetter, show);
+        }
+
+        public Staged<T> chainLong(String fieldName, ToLongFunction<T> fieldGetter, LongShow show) {
+            frozenCheck().add(new LongStep<>(fieldName, fieldGetter, show));
+            return this;
+        }
+
+        @Override
+        public Staged<T> chainDouble(ToDoubleFunction<T> fieldGetter, DoubleShow show) {
+            return chainDouble(null, fieldGetter, show);
+        }
+
+        public Staged<T> chainDouble(String fieldName, ToDoubleFunction<T> fieldGetter, DoubleShow show) {
+            frozenCheck().add(new DoubleStep<>(fieldName, fieldGetter, show));
+            return this;
+        }
+
+        @Override
+        public TypeSafeChainShow<T> freeze() {
+            final TypeSafeChainShow<T> result = new TypeSafeChainShow<>(clazz, configuration, frozenCheck());
+            sequencer = null;
+            return result;
+        }
+
+        private List<Step<T, ?>> frozenCheck() {
+            if (sequencer == null) {
+                throw new IllegalStateException("Stage has already been frozen");
+            }
+            return sequencer;
+        }
+    }
+
     private final Configuration<T> configuration;
-    private final List<Function<T, String>> sequencer;
+    private final List<Step<T, ?>> sequencer;
     private final Class<T> clazz;
 
-    private TypeSafeChainShow(Class<T> clazz, Configuration<T> configuration, List<Function<T, String>> sequencer) {
+    private TypeSafeChainShow(Class<T> clazz, Configuration<T> configuration, List<Step<T, ?>> sequencer) {
         this.clazz = clazz;
         this.configuration = configuration;
         this.sequencer = List.copyOf(sequencer);
@@ -51,26 +202,110 @@ public final class TypeSafeChainShow<T> implements ChainableShow<T> {
     }
 
     @Override
-    public <S> ChainableShow<T> chain(Function<T, S> fieldGetter, Show<S> sShow) {
-        final List<Function<T, String>> copy = new ArrayList<>(sequencer);
-        copy.add(t -> sShow.show(fieldGetter.apply(t)));
-        return new TypeSafeChainShow<>(clazz, configuration, copy);
+    public <S> TypeSafeChainShow<T> chain(Function<T, S> fieldGetter, Show<S> sShow) {
+        return chain(null, fieldGetter, sShow);
+    }
+
+    public <S> TypeSafeChainShow<T> chain(String fieldName, Function<T, S> fieldGetter, Show<S> sShow) {
+        return append(new Step<>(fieldName, fieldGetter, sShow));
+    }
+
+    @Override
+    public <S> TypeSafeChainShow<T> standardChain(Function<T, S> fieldGetter) {
+        return chain(fieldGetter, Shows.standard());
+    }
+
+    public <S> TypeSafeChainShow<T> standardChain(String fieldName, Function<T, S> fieldGetter) {
+        return chain(fieldName, fieldGetter, Shows.standard());
+    }
+
+    public <S> TypeSafeChainShow<T> chain(Accessor<T, S> accessor, Show<S> sShow) {
+        return chain(accessor.path(), accessor, sShow);
+    }
+
+    public <S> TypeSafeChainShow<T> standardChain(Accessor<T, S> accessor) {
+        return chain(accessor.path(), accessor, Shows.standard());
+    }
+
+    @Override
+    public TypeSafeChainShow<T> chainInt(ToIntFunction<T> fieldGetter, IntShow show) {
+        return chainInt(null, fieldGetter, show);
+    }
+
+    public TypeSafeChainShow<T> chainInt(String fieldName, ToIntFunction<T> fieldGetter, IntShow show) {
+        return append(new IntStep<>(fieldName, fieldGetter, show));
+    }
+
+    @Override
+    public TypeSafeChainShow<T> chainLong(ToLongFunction<T> fieldGetter, LongShow show) {
+        return chainLong(null, fieldGetter, show);
+    }
+
+    public TypeSafeChainShow<T> chainLong(String fieldName, ToLongFunction<T> fieldGetter, LongShow show) {
+        return append(new LongStep<>(fieldName, fieldGetter, show));
     }
 
     @Override
-    public <S> ChainableShow<T> standardChain(Function<T, S> fieldGetter) {
-        return chain(fieldGetter, Objects::toString);
+    public TypeSafeChainShow<T> chainDouble(ToDoubleFunction<T> fieldGetter, DoubleShow show) {
+        return chainDouble(null, fieldGetter, show);
+    }
+
+    public TypeSafeChainShow<T> chainDouble(String fieldName, ToDoubleFunction<T> fieldGetter, DoubleShow show) {
+        return append(new DoubleStep<>(fieldName, fieldGetter, show));
     }
 
     @Override
     public String show(final T t) {
-        final String content = sequencer.stream().map(fn -> fn.apply(t))
-                .collect(Collectors.joining(configuration.fieldSeparator));
-        return String.format("%s%s%s%s",
-                configuration.typeShow.apply(clazz),
-                configuration.fieldHeader,
-                content,
-                configuration.fieldFooter);
+        final StringBuilder builder = new StringBuilder();
+        showTo(t, builder);
+        return builder.toString();
+    }
+
+    @Override
+    public void showTo(final T t, final StringBuilder builder) {
+        open(builder);
+        for (int i = 0; i < sequencer.size(); i++) {
+            separate(i, builder);
+            sequencer.get(i).showTo(t, builder);
+        }
+        close(builder);
+    }
+
+    @Override
+    public Staged<T> stage() {
+        return new Staged<>(clazz, configuration, sequencer);
+    }
+
+    TypeSafeChainShow<T> project() {
+        return new TypeSafeChainShow<>(clazz, configuration, Collections.emptyList());
+    }
+
+    TypeSafeChainShow<T> append(Step<T, ?> step) {
+        final List<Step<T, ?>> copy = new ArrayList<>(sequencer);
+        copy.add(step);
+        return new TypeSafeChainShow<>(clazz, configuration, copy);
+    }
+
+    static <T> Step<T, String> redacted(Step<T, ?> step, String token) {
+        return new Step<>(step.name, t -> token, Shows.standard());
+    }
+
+    List<Step<T, ?>> steps() {
+        return sequencer;
+    }
+
+    void open(final StringBuilder builder) {
+        builder.append(configuration.typeShow.apply(clazz)).append(configuration.fieldHeader);
+    }
+
+    void separate(final int index, final StringBuilder builder) {
+        if (index > 0) {
+            builder.append(configuration.fieldSeparator);
+        }
+    }
+
+    void close(final StringBuilder builder) {
+        builder.append(configuration.fieldFooter);
     }
 
     public <T1> ChainShow1<T, T1> addShow(final Show<T1> t1Show) {
@@ -0,0 +1,71 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.nio.ByteBuffer;
+
+final class Utf8 {
+
+    private static final byte REPLACEMENT = '?';
+
+    private Utf8() {
+    }
+
+    static void encode(CharSequence chars, int from, int to, ByteBuffer buffer) {
+        int i = from;
+        while (i < to) {
+            final char c = chars.charAt(i++);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (!Character.isSurrogate(c)) {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i < to && Character.isLowSurrogate(chars.charAt(i))) {
+                final int codePoint = Character.toCodePoint(c, chars.charAt(i++));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                buffer.put(REPLACEMENT);
+            }
+        }
+    }
+
+    static int encode(CharSequence chars, int from, int to, byte[] bytes, int offset) {
+        int current = offset;
+        int i = from;
+        while (i < to) {
+            final char c = chars.charAt(i++);
+            if (c < 0x80) {
+                bytes[current++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[current++] = (byte) (0xC0 | (c >> 6));
+                bytes[current++] = (byte) (0x80 | (c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                bytes[current++] = (byte) (0xE0 | (c >> 12));
+                bytes[current++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[current++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i < to && Character.isLowSurrogate(chars.charAt(i))) {
+                final int codePoint = Character.toCodePoint(c, chars.charAt(i++));
+                bytes[current++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[current++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[current++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[current++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                bytes[current++] = REPLACEMENT;
+            }
+        }
+        return current;
+    }
+
+    static byte[] bytes(String string) {
+        final ByteBuffer buffer = ByteBuffer.allocate(string.length() * 3);
+        encode(string, 0, string.length(), buffer);
+        final byte[] result = new byte[buffer.position()];
+        buffer.flip().get(result);
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.fburato.functionalutils.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+final class WeakIdentityCache<K, V> implements Cache<K, V> {
+
+    private static final class WeakKey<K> extends WeakReference<K> {
+        private final int hash;
+
+        WeakKey(K key, ReferenceQueue<? super K> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            final Object key = get();
+            return key != null && o instanceof WeakKey && ((WeakKey<?>) o).get() == key;
+        }
+    }
+
+    private static final class LookupKey<K> {
+        private final K key;
+
+        LookupKey(K key) {
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof WeakKey && ((WeakKey<?>) o).get() == key;
+        }
+    }
+
+    private final ConcurrentHashMap<Object, V> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        expunge();
+        final V cached = map.get(new LookupKey<>(key));
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final V value = loader.apply(key);
+        final V existing = map.putIfAbsent(new WeakKey<>(key, queue), value);
+        return existing == null ? value : existing;
+    }
+
+    private void expunge() {
+        Reference<? extends K> reference;
+        while ((reference = queue.poll()) != null) {
+            if (map.remove(reference) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long size() {
+        expunge();
+        return map.size();
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Accessor")
+class AccessorTest {
+
+    static final class Node {
+        private final String name;
+        private final Node next;
+        final int weight;
+
+        Node(String name, Node next, int weight) {
+            this.name = name;
+            this.next = next;
+            this.weight = weight;
+        }
+
+        private String label() {
+            return "<" + name + ">";
+        }
+
+        Node getNext() {
+            return next;
+        }
+    }
+
+    public static final class Counted {
+        private final int value;
+        private final long total;
+        int reads;
+
+        Counted(int value, long total) {
+            this.value = value;
+            this.total = total;
+        }
+
+        public int getValue() {
+            reads++;
+            return value;
+        }
+
+        public int getTotal() {
+            reads++;
+            return (int) total;
+        }
+    }
+
+    static int STATIC = 0;
+
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    final Node leaf = new Node("leaf", null, 3);
+    final Node root = new Node("root", leaf, 1);
+
+    @Test
+    @DisplayName("should read getters, plain accessor methods and fields")
+    void testSegments() {
+        assertThat(Accessor.resolve(lookup, TestData.class, "a", String.class).apply(new TestData("x", "y", 1, 2)))
+                .isEqualTo("x");
+        assertThat(Accessor.resolve(lookup, Node.class, "label", String.class).apply(root)).isEqualTo("<root>");
+        assertThat(Accessor.resolve(lookup, Node.class, "name", String.class).apply(root)).isEqualTo("root");
+        assertThat(Accessor.resolve(lookup, Node.class, "weight", Integer.class).apply(root)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should fuse nested paths short-circuiting on null")
+    void testPath() {
+        final var testee = Accessor.resolve(lookup, Node.class, "next.next.name", String.class);
+        final var name = Accessor.resolve(lookup, Node.class, "next.name", String.class);
+
+        assertThat(name.apply(root)).isEqualTo("leaf");
+        assertThat(name.path()).isEqualTo("next.name");
+        assertThat(testee.apply(root)).isNull();
+        assertThat(testee.apply(new Node("a", root, 0))).isEqualTo("leaf");
+        assertThat(Accessor.resolve(lookup, Node.class, "next.weight", Integer.class).apply(leaf)).isNull();
+        assertThat(Accessor.resolve(lookup, Node.class, "next.weight", Integer.class).type())
+                .isEqualTo(Integer.class);
+    }
+
+    @Test
+    @DisplayName("should chain accessors with then")
+    void testThen() {
+        final var testee = Accessor.resolve(lookup, Node.class, "next", Node.class)
+                .then(Accessor.resolve(lookup, Node.class, "label", String.class));
+
+        assertThat(testee.apply(root)).isEqualTo("<leaf>");
+        assertThat(testee.apply(leaf)).isNull();
+        assertThat(testee.path()).isEqualTo("next.label");
+    }
+
+    @Test
+    @DisplayName("should expose the fused null-safe handle")
+    void testHandle() throws Throwable {
+        final var testee = Accessor.resolve(lookup, Node.class, "next.next.weight", Integer.class).handle();
+
+        assertThat(testee.invoke(root)).isNull();
+        assertThat(testee.invoke(new Node("a", root, 0))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should wrap method and var handles")
+    void testHandles() throws Exception {
+        final Accessor<Node, Integer> weight = Accessor.of("weight",
+                lookup.findVarHandle(Node.class, "weight", int.class), Integer.class);
+        final Accessor<TestData, String> a = Accessor.of("a",
+                lookup.findVirtual(TestData.class, "getA", MethodType.methodType(String.class)), String.class);
+
+        assertThat(weight.apply(leaf)).isEqualTo(3);
+        assertThat(weight.asInt().applyAsInt(root)).isEqualTo(1);
+        assertThat(a.apply(new TestData("x", null, 0, 0))).isEqualTo("x");
+        assertThatThrownBy(() -> Accessor.of("s", lookup.findStaticVarHandle(AccessorTest.class, "STATIC", int.class),
+                Integer.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should read var handles from the field even when a getter exists")
+    void testVarHandleFields() throws Throwable {
+        final Counted counted = new Counted(4, 5);
+        final Accessor<Counted, Integer> value = Accessor.of("value",
+                lookup.findVarHandle(Counted.class, "value", int.class), Integer.class);
+        final Accessor<Counted, Long> total = Accessor.of("total",
+                lookup.findVarHandle(Counted.class, "total", long.class), Long.class);
+
+        assertThat(value.apply(counted)).isEqualTo(4);
+        assertThat(value.asInt().applyAsInt(counted)).isEqualTo(4);
+        assertThat(total.asLong().applyAsLong(counted)).isEqualTo(5);
+        assertThat(value.handle().invoke(counted)).isEqualTo(4);
+        assertThat(counted.reads).isZero();
+    }
+
+    @Test
+    @DisplayName("should expose primitive views of primitive members only")
+    void testPrimitive() {
+        final var c = Accessor.resolve(lookup, TestData.class, "c", Double.class);
+
+        assertThat(c.asDouble().applyAsDouble(new TestData(null, null, 0, 2.5))).isEqualTo(2.5);
+        assertThatThrownBy(c::asInt).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> Accessor.resolve(lookup, TestData.class, "b", Integer.class).asInt())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("should plug into chain comparators and shows")
+    void testChains() {
+        final var b = Accessor.resolve(lookup, TestData.class, "b", Integer.class);
+        final var c = Accessor.resolve(lookup, TestData.class, "c", Double.class);
+        final var comparator = TypeSafeChainComparator.create(TestData.class)
+                .chain(b, Integer::compare)
+                .chainDouble(c.asDouble(), DoubleComparator.natural());
+        final var show = TypeSafeChainShow.create(TestData.class).standardChain(b).stage().standardChain(c).freeze();
+
+        assertThat(comparator.compare(new TestData(null, null, 1, 2), new TestData(null, null, 1, 3))).isNegative();
+        assertThat(show.show(new TestData(null, null, 1, 2))).isEqualTo("TestData(1,2.0)");
+        assertThat(show.steps().get(1).name).isEqualTo("c");
+    }
+
+    @Test
+    @DisplayName("should reject unknown, mistyped and inaccessible members")
+    void testInvalid() {
+        assertThatThrownBy(() -> Accessor.resolve(lookup, TestData.class, "z", String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Accessor.resolve(lookup, TestData.class, "a..b", String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Accessor.resolve(lookup, TestData.class, "b", String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Accessor.resolve(lookup, TestData.class, "c.a", String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Accessor.resolve(MethodHandles.publicLookup(), Node.class, "name", String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
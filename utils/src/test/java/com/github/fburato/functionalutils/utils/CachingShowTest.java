@@ -0,0 +1,170 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CachingShow")
+class CachingShowTest {
+
+    final AtomicInteger rendered = new AtomicInteger();
+    final Show<String> counting = s -> {
+        rendered.incrementAndGet();
+        return "<" + s + ">";
+    };
+
+    @Nested
+    @DisplayName("identity")
+    class IdentityTest {
+        final CachingShow<String> testee = CachingShow.identity(counting);
+
+        @Test
+        @DisplayName("should render each instance once")
+        void testHits() {
+            final String value = "a";
+
+            assertThat(testee.show(value)).isEqualTo("<a>");
+            assertThat(testee.show(value)).isEqualTo("<a>");
+            final var builder = new StringBuilder();
+            testee.showTo(value, builder);
+
+            assertThat(builder.toString()).isEqualTo("<a>");
+            assertThat(rendered.get()).isEqualTo(1);
+            assertThat(testee.statistics().hits).isEqualTo(2);
+            assertThat(testee.statistics().misses).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should cache by identity rather than equality")
+        void testIdentity() {
+            final String first = new String("a");
+            final String second = new String("a");
+
+            testee.show(first);
+            testee.show(second);
+
+            assertThat(rendered.get()).isEqualTo(2);
+            assertThat(testee.statistics().size).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should not cache null")
+        void testNull() {
+            assertThat(testee.show(null)).isEqualTo("<null>");
+            assertThat(testee.statistics().size).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("should drop entries of collected instances")
+        void testCollected() throws InterruptedException {
+            for (int i = 0; i < 100; i++) {
+                testee.show(new String("value" + i));
+            }
+
+            for (int i = 0; i < 50 && testee.statistics().size > 0; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+
+            assertThat(testee.statistics().size).isEqualTo(0);
+            assertThat(testee.statistics().evictions).isEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("bounded with LRU")
+    class LruTest {
+        final CachingShow<String> testee = CachingShow.bounded(counting, 2, EvictionPolicy.LRU);
+
+        @Test
+        @DisplayName("should evict the least recently used value")
+        void testEviction() {
+            testee.show("a");
+            testee.show("b");
+            testee.show("a");
+            testee.show("c");
+            rendered.set(0);
+
+            testee.show("a");
+            testee.show("c");
+            assertThat(rendered.get()).isEqualTo(0);
+            testee.show("b");
+            assertThat(rendered.get()).isEqualTo(1);
+            assertThat(testee.statistics().evictions).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should cache by equality")
+        void testEquality() {
+            testee.show(new String("a"));
+            testee.show(new String("a"));
+
+            assertThat(rendered.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("bounded with TinyLFU")
+    class TinyLfuTest {
+        final CachingShow<String> testee = CachingShow.bounded(counting, 100, EvictionPolicy.TINY_LFU);
+
+        @Test
+        @DisplayName("should keep frequently used values over scans larger than the cache")
+        void testScanResistance() {
+            final List<String> hot = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                hot.add("hot" + i);
+            }
+            for (int i = 0; i < 5000; i++) {
+                if (i % 200 == 0) {
+                    hot.forEach(testee::show);
+                }
+                testee.show("cold" + i);
+            }
+            rendered.set(0);
+
+            hot.forEach(testee::show);
+
+            assertThat(rendered.get()).isEqualTo(0);
+            assertThat(testee.statistics().size).isLessThanOrEqualTo(100);
+        }
+    }
+
+    @Test
+    @DisplayName("should count every request under concurrent access")
+    void testConcurrent() {
+        final CachingShow<String> testee = CachingShow.bounded(counting, 64);
+        final int threads = 4;
+        final int requests = 20_000;
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int seed = t;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < requests; i++) {
+                    final String value = "v" + ((i * 31 + seed) % 128);
+                    assertThat(testee.show(value)).isEqualTo("<" + value + ">");
+                }
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        final var statistics = testee.statistics();
+        assertThat(statistics.hits + statistics.misses).isEqualTo(threads * requests);
+        assertThat(statistics.size).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("should reject non positive sizes")
+    void testSize() {
+        assertThatThrownBy(() -> CachingShow.bounded(counting, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Comparator;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @DisplayName("ChainComparator")
@@ -164,4 +165,46 @@ class ChainComparatorsTest {
 
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("primitive chain")
+    class PrimitiveChainTest {
+        @SuppressWarnings("unchecked")
+        final ChainableComparator<Data> mockComparator = mock(ChainableComparator.class);
+        final Comparator<String> cstring = String::compareTo;
+        final IntComparator cint = IntComparator.natural();
+        final ChainComparator2<Data, String, Integer> testee = new ChainComparator2<>(mockComparator, cstring, cint);
+
+        @Test
+        @DisplayName("should pass the primitive getter and the slot comparator to the chainable comparator")
+        void testChainInt() {
+            final IntFunction2<Data> f = Data::getB;
+
+            assertThat(testee.chainInt(f)).isNotSameAs(testee);
+
+            verify(mockComparator).chainInt(f, cint);
+        }
+
+        @Test
+        @DisplayName("should compare unboxed values with the slot comparator")
+        void testCompare() {
+            final IntFunction2<Data> f = Data::getB;
+            final var actual = TypeSafeChainComparator.create(Data.class).addComparator(cstring)
+                    .addComparator(cint).chainInt(f);
+
+            assertThat(actual.compare(new Data("a", 1, 0), new Data("a", 2, 0))).isLessThan(0);
+            assertThat(actual.stage().chain(Data::getA).freeze().compare(new Data("b", 1, 0), new Data("a", 1, 0)))
+                    .isGreaterThan(0);
+        }
+
+        @Test
+        @DisplayName("should reject slots which are not bound to a primitive comparator")
+        void testWrongSlot() {
+            final IntFunction1<Data> f = Data::getB;
+
+            assertThatThrownBy(() -> testee.chainInt(f)).isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("slot 1");
+            assertThatThrownBy(() -> testee.chainLong((LongFunction2<Data>) Data::getB))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.ComparatorDecorator;
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChainDiff")
+class ChainDiffTest {
+
+    final TypeSafeChainComparator<TestData> chain = TypeSafeChainComparator.create(TestData.class)
+            .chain(TestData::getA, Comparator.<String> naturalOrder())
+            .chain(TestData::getA1, String.CASE_INSENSITIVE_ORDER)
+            .chain(TestData::getB, Comparator.<Integer> naturalOrder())
+            .chainDouble(TestData::getC, DoubleComparator.natural());
+    final ChainDiff<TestData> testee = ChainDiff.create(chain);
+
+    @Test
+    @DisplayName("should set a bit for every differing step")
+    void testDiff() {
+        final var left = new TestData("a", "x", 1, 1.5);
+
+        assertThat(testee.diff(left, new TestData("a", "X", 1, 1.5))).isEqualTo(0L);
+        assertThat(testee.diff(left, new TestData("b", "x", 1, 2.5))).isEqualTo(0b1001L);
+        assertThat(testee.diff(left, new TestData("b", "y", 2, 2.5))).isEqualTo(0b1111L);
+        assertThat(testee.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should fill a reusable bit set")
+    void testBitSet() {
+        final var bits = new BitSet(4);
+        bits.set(3);
+
+        assertThat(testee.diff(new TestData("a", "x", 1, 1), new TestData("a", "y", 2, 1), bits))
+                .isSameAs(bits)
+                .isEqualTo(BitSet.valueOf(new long[] { 0b0110L }));
+    }
+
+    @Test
+    @DisplayName("should stop at the first differing step")
+    void testAnyDifferent() {
+        final var left = new TestData("a", "x", 1, 1.5);
+
+        assertThat(testee.anyDifferent(left, new TestData("a", "X", 1, 1.5))).isFalse();
+        assertThat(testee.firstDifferent(left, new TestData("a", "X", 1, 1.5))).isEqualTo(-1);
+        assertThat(testee.anyDifferent(left, new TestData("a", "x", 2, 3))).isTrue();
+        assertThat(testee.firstDifferent(left, new TestData("a", "x", 2, 3))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should decorate object steps with null safety")
+    void testNullSafe() {
+        final var nullSafe = ChainDiff.createWithDecorator(chain, ComparatorDecorators.nullSafe);
+
+        assertThatThrownBy(() -> testee.diff(new TestData(null, "x", 1, 0), new TestData("a", "x", 1, 0)))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(nullSafe.diff(new TestData(null, "x", null, 0), new TestData("a", "x", null, 0)))
+                .isEqualTo(0b0001L);
+        assertThat(nullSafe.diff(new TestData(null, null, null, 0), new TestData(null, null, null, 0)))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("should decorate primitive steps")
+    void testPrimitiveDecorator() {
+        final var ignoring = ChainDiff.createWithDecorator(chain, new ComparatorDecorator() {
+            @Override
+            public <S> Comparator<S> decorate(Comparator<S> comparator) {
+                return (s1, s2) -> 0;
+            }
+        });
+
+        assertThat(testee.diff(new TestData("a", "x", 1, 1.5), new TestData("b", "y", 2, 2.5))).isEqualTo(0b1111L);
+        assertThat(ignoring.diff(new TestData("a", "x", 1, 1.5), new TestData("b", "y", 2, 2.5))).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("should compare with equals when asked to")
+    void testEquals() {
+        final var decimals = TypeSafeChainComparator.create(BigDecimal.class)
+                .chain(Function.identity(), Comparator.<BigDecimal> naturalOrder());
+
+        assertThat(ChainDiff.create(decimals).diff(new BigDecimal("1.0"), new BigDecimal("1.00"))).isEqualTo(0L);
+        assertThat(ChainDiff.createWithEquals(decimals).diff(new BigDecimal("1.0"), new BigDecimal("1.00")))
+                .isEqualTo(1L);
+        assertThat(ChainDiff.createWithEquals(chain).diff(new TestData("a", "x", null, 0),
+                new TestData("a", "X", null, 0))).isEqualTo(0b0010L);
+    }
+
+    @Test
+    @DisplayName("should compare primitive steps by value when asked to use equals")
+    void testPrimitiveEquals() {
+        final var primitives = ChainDiff.createWithEquals(TypeSafeChainComparator.create(TestData.class)
+                .chainInt(TestData::getB, (value1, value2) -> 0)
+                .chainLong(data -> (long) data.getB() << 32, LongComparator.natural())
+                .chainDouble(TestData::getC, DoubleComparator.natural()));
+
+        assertThat(primitives.diff(new TestData("a", "", 1, 1.5), new TestData("b", "", 1, 1.5))).isEqualTo(0L);
+        assertThat(primitives.diff(new TestData("a", "", 1, 1.5), new TestData("a", "", 2, 2.5)))
+                .isEqualTo(0b111L);
+        assertThat(primitives.diff(new TestData("a", "", 1, Double.NaN), new TestData("a", "", 1, Double.NaN)))
+                .isEqualTo(0L);
+        assertThat(primitives.diff(new TestData("a", "", 1, 0.0), new TestData("a", "", 1, -0.0)))
+                .isEqualTo(0b100L);
+    }
+
+    @Test
+    @DisplayName("should use bit sets beyond 64 steps")
+    void testWide() {
+        TypeSafeChainComparator<TestData> wide = TypeSafeChainComparator.create(TestData.class);
+        for (int i = 0; i < 70; i++) {
+            wide = i == 68 ? wide.chain(TestData::getB, Comparator.<Integer> naturalOrder())
+                    : wide.chain(TestData::getA, Comparator.<String> naturalOrder());
+        }
+        final var diff = ChainDiff.create(wide);
+
+        assertThatThrownBy(() -> diff.diff(new TestData("a", null, 1, 0), new TestData("a", null, 2, 0)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(diff.diff(new TestData("a", null, 1, 0), new TestData("a", null, 2, 0), new BitSet()))
+                .isEqualTo(BitSet.valueOf(new long[] { 0, 1L << 4 }));
+        assertThat(diff.firstDifferent(new TestData("a", null, 1, 0), new TestData("a", null, 2, 0))).isEqualTo(68);
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChainIndex")
+class ChainIndexTest {
+
+    final TypeSafeChainComparator<TestData> comparator = TypeSafeChainComparator.create(TestData.class)
+            .chain(TestData::getA, Comparator.<String> naturalOrder())
+            .chain(TestData::getA1, Comparator.<String> naturalOrder())
+            .chainDouble(TestData::getC, DoubleComparator.natural());
+    final ChainIndex<TestData> testee = ChainIndex.createWithConfig(comparator, new ChainIndex.Configuration(4));
+
+    final Random random = new Random(42);
+
+    private TestData randomData() {
+        return new TestData("t" + random.nextInt(5), "r" + random.nextInt(4), random.nextInt(), random.nextInt(50));
+    }
+
+    private List<TestData> expected(List<TestData> reference, Predicate<TestData> filter) {
+        return reference.stream().filter(filter).collect(Collectors.toList());
+    }
+
+    private void assertSameOrder(List<TestData> actual, List<TestData> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(comparator.compare(actual.get(i), expected.get(i))).isZero();
+        }
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Nested
+    @DisplayName("populated randomly")
+    class RandomTest {
+        final List<TestData> reference = new ArrayList<>();
+
+        RandomTest() {
+            for (int i = 0; i < 2000; i++) {
+                final var data = randomData();
+                reference.add(data);
+                testee.add(data);
+            }
+            reference.sort(comparator);
+        }
+
+        @Test
+        @DisplayName("should keep every element in order")
+        void testOrder() {
+            assertThat(testee.size()).isEqualTo(2000);
+            assertSameOrder(testee.stream().collect(Collectors.toList()), reference);
+        }
+
+        @Test
+        @DisplayName("should answer prefix queries of any length")
+        void testPrefix() {
+            assertSameOrder(testee.prefix("t2").collect(Collectors.toList()),
+                    expected(reference, d -> d.getA().equals("t2")));
+            assertSameOrder(testee.prefix("t2", "r1").collect(Collectors.toList()),
+                    expected(reference, d -> d.getA().equals("t2") && d.getA1().equals("r1")));
+            assertSameOrder(testee.prefix("t2", "r1", 7.0).collect(Collectors.toList()), expected(reference,
+                    d -> d.getA().equals("t2") && d.getA1().equals("r1") && d.getC() == 7.0));
+            assertThat(testee.prefix("t9")).isEmpty();
+            assertThat(testee.prefix().count()).isEqualTo(2000);
+        }
+
+        @Test
+        @DisplayName("should answer half open ranges after a prefix")
+        void testRange() {
+            assertSameOrder(testee.prefixRange(List.of("t1", "r3"), 10.0, 20.0).collect(Collectors.toList()),
+                    expected(reference, d -> d.getA().equals("t1") && d.getA1().equals("r3") && d.getC() >= 10
+                            && d.getC() < 20));
+            assertSameOrder(testee.range(List.of("t1", "r2"), List.of("t3")).collect(Collectors.toList()),
+                    expected(reference, d -> (d.getA().equals("t1") && d.getA1().compareTo("r2") >= 0)
+                            || d.getA().equals("t2")));
+            assertThat(testee.prefixRange(List.of("t1"), "r3", "r1")).isEmpty();
+            assertThat(testee.prefixRange(List.of("t1", "r3"), 20.0, 20.0)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should remove elements and keep queries consistent")
+        void testRemove() {
+            final List<TestData> remaining = new ArrayList<>(reference);
+            Collections.shuffle(remaining, random);
+            for (int i = 0; i < 1900; i++) {
+                final var removed = remaining.remove(remaining.size() - 1);
+                assertThat(testee.remove(removed)).isTrue();
+                assertThat(testee.remove(removed)).isFalse();
+            }
+            remaining.sort(comparator);
+
+            assertThat(testee.size()).isEqualTo(100);
+            assertSameOrder(testee.stream().collect(Collectors.toList()), remaining);
+            assertSameOrder(testee.prefix("t3").collect(Collectors.toList()),
+                    expected(remaining, d -> d.getA().equals("t3")));
+            for (TestData data : remaining) {
+                assertThat(testee.remove(data)).isTrue();
+            }
+            assertThat(testee.isEmpty()).isTrue();
+            assertThat(testee.stream()).isEmpty();
+            testee.add(reference.get(0));
+            assertThat(testee.prefix(reference.get(0).getA())).containsExactly(reference.get(0));
+        }
+    }
+
+    @Test
+    @DisplayName("should bulk load into an empty index")
+    void testBulkLoad() {
+        final List<TestData> reference = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            reference.add(randomData());
+        }
+        testee.addAll(reference);
+        final var extra = new TestData("t0", "r0", 0, -1);
+        testee.add(extra);
+        reference.add(extra);
+        reference.sort(comparator);
+
+        assertSameOrder(testee.stream().collect(Collectors.toList()), reference);
+        assertSameOrder(testee.prefix("t0", "r0").collect(Collectors.toList()),
+                expected(reference, d -> d.getA().equals("t0") && d.getA1().equals("r0")));
+    }
+
+    @Test
+    @DisplayName("should convert key values for primitive leading steps")
+    void testPrimitiveSteps() {
+        final ChainIndex<TestData> longs = ChainIndex.create(TypeSafeChainComparator.create(TestData.class)
+                .chainLong(data -> (long) data.getB(), LongComparator.natural())
+                .chainDouble(TestData::getC, DoubleComparator.natural()));
+        final List<TestData> reference = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            reference.add(new TestData("a", "", i % 10, i % 7));
+        }
+        longs.addAll(reference);
+
+        assertThat(longs.prefix(2)).hasSize(20);
+        assertThat(longs.prefix(2L)).hasSize(20);
+        assertThat(longs.prefix(2, 3)).allMatch(d -> d.getB() == 2 && d.getC() == 3);
+        assertThat(longs.prefix(2L, 3.0f).count()).isEqualTo(longs.prefix(2, 3L).count());
+        assertThat(longs.range(List.of(2), List.of(4L))).hasSize(40);
+        assertThat(longs.prefixRange(List.of(2), 1, 3.5)).allMatch(d -> d.getC() >= 1 && d.getC() < 3.5);
+        assertThatThrownBy(() -> longs.prefix(2.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> longs.prefix("2")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should pass key values unchanged to boxed steps")
+    void testBoxedSteps() {
+        final Comparator<Number> byValue = Comparator.comparingDouble(Number::doubleValue);
+        final ChainIndex<TestData> numbers = ChainIndex.create(TypeSafeChainComparator.create(TestData.class)
+                .chain(data -> data.getB() % 2 == 0 ? (Number) data.getB() : (Number) (long) data.getB(), byValue));
+        assertThat(numbers.prefix(2)).isEmpty();
+        for (int i = 0; i < 100; i++) {
+            numbers.add(new TestData("a", "", i % 10, 0));
+        }
+
+        assertThat(numbers.prefix(2)).hasSize(10);
+        assertThat(numbers.prefix(3L)).hasSize(10);
+        assertThat(numbers.range(List.of(1L), List.of(2.5))).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("should reject keys longer than the chain")
+    void testInvalid() {
+        assertThatThrownBy(() -> testee.prefix("a", "b", 1.0, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ChainIndex.Configuration(2)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(testee.range(Arrays.asList("a"), List.of("b"))).isEmpty();
+    }
+}
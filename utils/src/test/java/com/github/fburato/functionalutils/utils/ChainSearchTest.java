@@ -0,0 +1,163 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChainSearch")
+class ChainSearchTest {
+
+    final TypeSafeChainComparator<TestData> comparator = TypeSafeChainComparator.create(TestData.class)
+            .chainInt(TestData::getB, IntComparator.natural())
+            .chain(TestData::getA, Comparator.<String> naturalOrder());
+    final ChainSearch<TestData> testee = ChainSearch.create(comparator);
+
+    final List<TestData> sorted = new ArrayList<>();
+
+    ChainSearchTest() {
+        final var random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            sorted.add(new TestData("a" + random.nextInt(5), "", random.nextInt(40) * 2, 0));
+        }
+        sorted.sort(comparator);
+    }
+
+    private int expectedLower(int b, String a) {
+        int index = 0;
+        while (index < sorted.size() && (sorted.get(index).getB() < b
+                || (sorted.get(index).getB() == b && a != null && sorted.get(index).getA().compareTo(a) < 0))) {
+            index++;
+        }
+        return index;
+    }
+
+    private int expectedUpper(int b, String a) {
+        int index = 0;
+        while (index < sorted.size() && (sorted.get(index).getB() < b
+                || (sorted.get(index).getB() == b && (a == null || sorted.get(index).getA().compareTo(a) <= 0)))) {
+            index++;
+        }
+        return index;
+    }
+
+    @Test
+    @DisplayName("should find bounds for primitive keys")
+    void testPrimitive() {
+        final TestData[] array = sorted.toArray(new TestData[0]);
+        for (int b = -1; b <= 81; b++) {
+            assertThat(testee.lowerBound(sorted, b)).isEqualTo(expectedLower(b, null));
+            assertThat(testee.upperBound(sorted, b)).isEqualTo(expectedUpper(b, null));
+            assertThat(testee.lowerBound(array, b)).isEqualTo(expectedLower(b, null));
+            assertThat(testee.upperBound(array, b)).isEqualTo(expectedUpper(b, null));
+            assertThat(testee.equalRange(array, b)).isEqualTo(sorted.subList(expectedLower(b, null),
+                    expectedUpper(b, null)));
+        }
+    }
+
+    @Test
+    @DisplayName("should widen primitive keys to the type of the first step")
+    void testWidening() {
+        final List<TestData> byC = List.of(new TestData("a", "", 0, 1), new TestData("b", "", 0, 2.5),
+                new TestData("c", "", 0, 3));
+        final ChainSearch<TestData> doubles = ChainSearch.create(TypeSafeChainComparator.create(TestData.class)
+                .chainDouble(TestData::getC, DoubleComparator.natural()));
+
+        assertThat(doubles.lowerBound(byC, 2.5)).isEqualTo(1);
+        assertThat(doubles.upperBound(byC, 2.5)).isEqualTo(2);
+        assertThat(doubles.lowerBound(byC, 3)).isEqualTo(2);
+        assertThat(doubles.binarySearch(byC, 3L)).isEqualTo(2);
+        assertThat(doubles.equalRange(byC, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should compare keys against a boxed first step")
+    void testBoxedStep() {
+        final List<TestData> byB = List.of(new TestData("a", "", 1, 0), new TestData("b", "", 2, 0),
+                new TestData("c", "", 2, 0), new TestData("d", "", 4, 0));
+        final ChainSearch<TestData> longs = ChainSearch.create(TypeSafeChainComparator.create(TestData.class)
+                .chain(data -> (long) data.getB(), Comparator.<Long> naturalOrder()));
+
+        assertThat(longs.lowerBound(byB, 2L)).isEqualTo(1);
+        assertThat(longs.upperBound(byB, (Object) 2L)).isEqualTo(3);
+        assertThat(longs.equalRange(byB, 4L)).containsExactly(byB.get(3));
+        assertThat(longs.lowerBound(new ArrayList<>(), 2)).isZero();
+    }
+
+    @Test
+    @DisplayName("should pass object keys unchanged to boxed steps")
+    void testNumberStep() {
+        final List<TestData> byB = List.of(new TestData("a", "", 1, 0), new TestData("b", "", 2, 0),
+                new TestData("c", "", 2, 0), new TestData("d", "", 4, 0));
+        final Comparator<Number> byValue = Comparator.comparingDouble(Number::doubleValue);
+        final ChainSearch<TestData> numbers = ChainSearch.create(TypeSafeChainComparator.create(TestData.class)
+                .chain(data -> data.getB() % 2 == 0 ? (Number) data.getB() : (Number) (long) data.getB(), byValue));
+
+        assertThat(numbers.lowerBound(byB, 2)).isEqualTo(1);
+        assertThat(numbers.lowerBound(byB, 2L)).isEqualTo(1);
+        assertThat(numbers.lowerBound(byB, (Object) 2.5)).isEqualTo(3);
+        assertThat(numbers.equalRange(byB, (short) 4)).containsExactly(byB.get(3));
+    }
+
+    @Test
+    @DisplayName("should convert the key values of a mixed int and long chain")
+    void testMixedSteps() {
+        final List<TestData> byB = List.of(new TestData("a", "", 1, 0), new TestData("b", "", 2, 1),
+                new TestData("c", "", 2, 3), new TestData("d", "", 4, 0));
+        final ChainSearch<TestData> mixed = ChainSearch.create(TypeSafeChainComparator.create(TestData.class)
+                .chainInt(TestData::getB, IntComparator.natural())
+                .chainLong(data -> (long) data.getC(), LongComparator.natural()));
+
+        assertThat(mixed.lowerBound(byB, 2, 3)).isEqualTo(2);
+        assertThat(mixed.lowerBound(byB, (short) 2, 3L)).isEqualTo(2);
+        assertThat(mixed.upperBound(byB, 2, 1L)).isEqualTo(2);
+        assertThat(mixed.binarySearch(byB.toArray(new TestData[0]), 4, (byte) 0)).isEqualTo(3);
+        assertThatThrownBy(() -> mixed.lowerBound(byB, 2L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mixed.lowerBound(byB, 2L, 3L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mixed.lowerBound(byB, 2, 3.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mixed.lowerBound(byB, 2, "3")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should find bounds for keys over a prefix of the steps")
+    void testPrefix() {
+        for (int b = -1; b <= 81; b++) {
+            for (int a = 0; a < 6; a++) {
+                assertThat(testee.lowerBound(sorted, b, "a" + a)).isEqualTo(expectedLower(b, "a" + a));
+                assertThat(testee.upperBound(sorted, b, "a" + a)).isEqualTo(expectedUpper(b, "a" + a));
+                assertThat(testee.equalRange(sorted, b, "a" + a))
+                        .isEqualTo(sorted.subList(expectedLower(b, "a" + a), expectedUpper(b, "a" + a)));
+            }
+            assertThat(testee.lowerBound(sorted, (Object) b)).isEqualTo(expectedLower(b, null));
+        }
+        assertThat(testee.lowerBound(sorted)).isZero();
+        assertThat(testee.upperBound(sorted)).isEqualTo(sorted.size());
+    }
+
+    @Test
+    @DisplayName("should return the insertion point when the key is missing")
+    void testBinarySearch() {
+        assertThat(testee.binarySearch(sorted, 1)).isEqualTo(-expectedLower(1, null) - 1);
+        assertThat(testee.binarySearch(sorted, 200)).isEqualTo(-sorted.size() - 1);
+        final int index = testee.binarySearch(sorted, sorted.get(100).getB(), sorted.get(100).getA());
+        assertThat(comparator.compare(sorted.get(index), sorted.get(100))).isZero();
+        assertThat(testee.binarySearch(new TestData[0], 1)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("should reject keys longer than the chain")
+    void testInvalid() {
+        assertThatThrownBy(() -> testee.lowerBound(sorted, 1, "a", 2)).isInstanceOf(IllegalArgumentException.class);
+        final ChainSearch<TestData> empty = ChainSearch.create(TypeSafeChainComparator.create(TestData.class));
+        assertThatThrownBy(() -> empty.lowerBound(sorted, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
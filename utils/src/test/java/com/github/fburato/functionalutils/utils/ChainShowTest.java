@@ -11,6 +11,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @DisplayName("ChainShow")
@@ -78,6 +79,17 @@ class ChainShowTest {
         void testReturn() {
             assertThat(testee.chain(null, null)).isNotSameAs(testee);
         }
+
+        @Test
+        @DisplayName("should delegate showTo to the chainable show")
+        void testShowTo() {
+            final var data = new Data("a", 1, 2.0);
+            final var builder = new StringBuilder();
+
+            testee.showTo(data, builder);
+
+            verify(mockShow).showTo(data, builder);
+        }
     }
 
     @Nested
@@ -168,4 +180,39 @@ class ChainShowTest {
 
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("primitive chain")
+    class PrimitiveChainTest {
+        @SuppressWarnings("unchecked")
+        final ChainableShow<Data> mockShow = mock(ChainableShow.class);
+        final DoubleShow cdouble = d -> String.format("%.1f", d);
+        final ChainShow2<Data, String, Double> testee = new ChainShow2<>(mockShow, String::toString, cdouble);
+
+        @Test
+        @DisplayName("should pass the primitive getter and the slot show to the chainable show")
+        void testChainDouble() {
+            final DoubleFunction2<Data> f = Data::getC;
+
+            assertThat(testee.chainDouble(f)).isNotSameAs(testee);
+
+            verify(mockShow).chainDouble(f, cdouble);
+        }
+
+        @Test
+        @DisplayName("should show unboxed values with the slot show")
+        void testShow() {
+            final DoubleFunction1<Data> f = Data::getC;
+            final var actual = TypeSafeChainShow.create(Data.class).addShow(cdouble).chainDouble(f)
+                    .stage().chainDouble(f).freeze();
+
+            assertThat(actual.show(new Data("a", 1, 2.25))).isEqualTo("Data(2.3,2.3)");
+        }
+
+        @Test
+        @DisplayName("should reject slots which are not bound to a primitive show")
+        void testWrongSlot() {
+            assertThatThrownBy(() -> testee.chainDouble((DoubleFunction1<Data>) Data::getC))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
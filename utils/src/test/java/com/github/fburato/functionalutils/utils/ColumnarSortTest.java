@@ -0,0 +1,125 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ColumnarSort")
+class ColumnarSortTest {
+
+    final int rows = 5000;
+    final int[] region = new int[rows];
+    final long[] timestamp = new long[rows];
+    final double[] price = new double[rows];
+    final String[] name = new String[rows];
+    final BitSet nullTimestamps = new BitSet();
+
+    ColumnarSortTest() {
+        final var random = new Random(42);
+        for (int i = 0; i < rows; i++) {
+            region[i] = random.nextInt(5);
+            timestamp[i] = random.nextInt(20);
+            price[i] = random.nextInt(10) / 2.0;
+            name[i] = random.nextInt(10) == 0 ? null : "n" + random.nextInt(8);
+            if (random.nextInt(8) == 0) {
+                nullTimestamps.set(i);
+            }
+        }
+    }
+
+    private List<Integer> sortedRows(Comparator<Integer> comparator) {
+        return IntStream.range(0, rows).boxed().sorted(comparator).collect(Collectors.toList());
+    }
+
+    private List<Integer> toList(int[] permutation) {
+        return IntStream.of(permutation).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("should produce the stable permutation of a chain of primitive columns")
+    void testPrimitive() {
+        final var testee = ColumnarSort.create(rows).chainInt(region, IntComparator.natural())
+                .chainLong(timestamp, LongComparator.natural(), ColumnarSort.Direction.DESCENDING)
+                .chainDouble(price, DoubleComparator.natural());
+
+        final Comparator<Integer> expected = Comparator.<Integer> comparingInt(i -> region[i])
+                .thenComparing(Comparator.<Integer> comparingLong(i -> timestamp[i]).reversed())
+                .thenComparingDouble(i -> price[i]);
+        assertThat(toList(testee.sort())).isEqualTo(sortedRows(expected));
+        final IntComparator custom = (value1, value2) -> Integer.compare(value1, value2);
+        assertThat(ColumnarSort.create(rows).chainInt(region, custom)
+                .chainLong(timestamp, LongComparator.natural(), ColumnarSort.Direction.DESCENDING)
+                .chainDouble(price, DoubleComparator.natural()).sort()).isEqualTo(testee.sort());
+    }
+
+    @Test
+    @DisplayName("should place nulls independently of the direction")
+    void testNulls() {
+        final var testee = ColumnarSort.create(rows)
+                .chainLong(timestamp, nullTimestamps, LongComparator.natural(), ColumnarSort.Direction.DESCENDING,
+                        ColumnarSort.Nulls.FIRST)
+                .chain(name, Comparator.<String> naturalOrder(), ColumnarSort.Direction.DESCENDING,
+                        ColumnarSort.Nulls.LAST);
+
+        final Comparator<Integer> expected = Comparator
+                .<Integer, Long> comparing(i -> nullTimestamps.get(i) ? null : timestamp[i],
+                        Comparator.nullsFirst(Comparator.<Long> reverseOrder()))
+                .thenComparing(i -> name[i], Comparator.nullsLast(Comparator.<String> reverseOrder()));
+        assertThat(toList(testee.sort())).isEqualTo(sortedRows(expected));
+    }
+
+    @Test
+    @DisplayName("should apply the permutation to every column")
+    void testApply() {
+        final long[] payload = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            payload[i] = i;
+        }
+        final int[] originalRegion = region.clone();
+        final BitSet originalNulls = (BitSet) nullTimestamps.clone();
+        final var testee = ColumnarSort.create(rows).chainInt(region, IntComparator.natural())
+                .chainLong(timestamp, nullTimestamps, LongComparator.natural(), ColumnarSort.Direction.ASCENDING,
+                        ColumnarSort.Nulls.LAST);
+
+        final int[] permutation = testee.sortAndApply();
+        ColumnarSort.permute(permutation, payload);
+
+        for (int i = 0; i < rows; i++) {
+            assertThat(payload[i]).isEqualTo(permutation[i]);
+            assertThat(region[i]).isEqualTo(originalRegion[permutation[i]]);
+            assertThat(nullTimestamps.get(i)).isEqualTo(originalNulls.get(permutation[i]));
+        }
+        for (int i = 1; i < rows; i++) {
+            assertThat(testee.compare(i - 1, i)).isLessThanOrEqualTo(0);
+        }
+        assertThat(toList(testee.sort())).isEqualTo(toList(IntStream.range(0, rows).toArray()));
+    }
+
+    @Test
+    @DisplayName("should handle empty inputs and reject mismatched columns")
+    void testEdges() {
+        assertThat(ColumnarSort.create(0).chainInt(new int[0], IntComparator.natural()).sort()).isEmpty();
+        assertThat(ColumnarSort.create(3).sort()).containsExactly(0, 1, 2);
+        final BitSet allNull = new BitSet();
+        allNull.set(0, 3);
+        assertThat(ColumnarSort.create(3).chainLong(new long[] { 3, 2, 1 }, allNull, LongComparator.natural(),
+                ColumnarSort.Direction.ASCENDING, ColumnarSort.Nulls.FIRST).sort()).containsExactly(0, 1, 2);
+        assertThat(ColumnarSort.create(3).chainLong(new long[] { Long.MAX_VALUE, Long.MIN_VALUE, 0 },
+                LongComparator.natural()).sort()).containsExactly(1, 2, 0);
+        assertThatThrownBy(() -> ColumnarSort.create(2).chainInt(new int[3], IntComparator.natural()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ColumnarSort.create(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.fburato.functionalutils.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DelimitedExporter")
+class DelimitedExporterTest {
+
+    final TypeSafeChainShow<TestData> columns = TypeSafeChainShow.create(TestData.class)
+            .standardChain("a", TestData::getA)
+            .standardChain("a1", TestData::getA1)
+            .chain("b", TestData::getB, i -> Integer.toHexString(i))
+            .standardChain("c", TestData::getC);
+    final DelimitedExporter<TestData> testee = DelimitedExporter.create(columns);
+
+    private String export(DelimitedExporter<TestData> exporter, Stream<TestData> rows) throws Exception {
+        final var output = new ByteArrayOutputStream();
+        exporter.export(rows, Channels.newChannel(output));
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private String exportParallel(DelimitedExporter<TestData> exporter, Stream<TestData> rows) throws Exception {
+        final var output = new ByteArrayOutputStream();
+        exporter.exportParallel(rows, Channels.newChannel(output), ForkJoinPool.commonPool());
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private TestData row(int i) {
+        return new TestData("row " + i, i % 7 == 0 ? "with,comma" : "é" + i, i, i / 4.0);
+    }
+
+    private String expected(int i) {
+        return "row " + i + "," + (i % 7 == 0 ? "\"with,comma\"" : "é" + i) + "," + Integer.toHexString(i) + ","
+                + i / 4.0 + "\r\n";
+    }
+
+    @Test
+    @DisplayName("should write header and rows")
+    void testRows() throws Exception {
+        assertThat(export(testee, Stream.of(new TestData("x", null, 10, 1.5))))
+                .isEqualTo("a,a1,b,c\r\nx,,a,1.5\r\n");
+    }
+
+    @Test
+    @DisplayName("should quote fields according to RFC 4180")
+    void testQuoting() throws Exception {
+        final var row = new TestData("say \"hi\"", "line\nbreak", 1, 0);
+
+        assertThat(export(testee, Stream.of(row)))
+                .isEqualTo("a,a1,b,c\r\n\"say \"\"hi\"\"\",\"line\nbreak\",1,0.0\r\n");
+    }
+
+    @Test
+    @DisplayName("should write tab separated values")
+    void testTsv() throws Exception {
+        final var exporter = DelimitedExporter.createWithConfig(columns, DelimitedExporter.tsvConfiguration());
+
+        assertThat(export(exporter, Stream.of(new TestData("a\tb", "c,d", 1, 2))))
+                .isEqualTo("a\ta1\tb\tc\r\n\"a\tb\"\tc,d\t1\t2.0\r\n");
+    }
+
+    @Nested
+    @DisplayName("with small buffers and chunks")
+    class SmallBufferTest {
+        final DelimitedExporter<TestData> exporter = DelimitedExporter.createWithConfig(columns,
+                new DelimitedExporter.Configuration(',', "\n", false, 64, 3));
+        final List<TestData> rows = IntStream.range(0, 1000).mapToObj(DelimitedExporterTest.this::row)
+                .collect(Collectors.toList());
+        final String expected = IntStream.range(0, 1000).mapToObj(i -> expected(i).replace("\r\n", "\n"))
+                .collect(Collectors.joining());
+
+        @Test
+        @DisplayName("should span rows over several buffers")
+        void testSequential() throws Exception {
+            assertThat(export(exporter, rows.stream())).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("should write chunks encoded in parallel in order")
+        void testParallel() throws Exception {
+            assertThat(exportParallel(exporter, rows.stream())).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("should write fields larger than the buffer")
+        void testLargeField() throws Exception {
+            final var large = new TestData("x".repeat(500), "\"".repeat(100), 1, 1);
+
+            assertThat(export(exporter, Stream.of(large, row(1))))
+                    .isEqualTo("x".repeat(500) + ",\"" + "\"".repeat(200) + "\",1,1.0\n"
+                            + expected(1).replace("\r\n", "\n"));
+            assertThat(exportParallel(exporter, Stream.of(large, row(1))))
+                    .isEqualTo(export(exporter, Stream.of(large, row(1))));
+        }
+    }
+
+    @Test
+    @DisplayName("should write parallel exports with header to file channels")
+    void testFileChannel() throws Exception {
+        final var file = Files.createTempFile("export", ".csv");
+        try (final var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            final var statistics = testee.exportParallel(IntStream.range(0, 10_000).mapToObj(this::row), channel,
+                    ForkJoinPool.commonPool());
+
+            assertThat(statistics.rows).isEqualTo(10_000);
+            assertThat(statistics.bytes).isEqualTo(Files.size(file));
+            assertThat(Files.readString(file)).isEqualTo("a,a1,b,c\r\n"
+                    + IntStream.range(0, 10_000).mapToObj(this::expected).collect(Collectors.joining()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("should cancel pending chunks when a parallel export fails")
+    void testParallelFailure() throws Exception {
+        final var encoded = new AtomicInteger();
+        final var exporter = DelimitedExporter.createWithConfig(TypeSafeChainShow.create(TestData.class)
+                .chain("b", TestData::getB, i -> Integer.toString(encoded.incrementAndGet())),
+                new DelimitedExporter.Configuration(',', "\n", false, 64, 3));
+        final var pool = new ForkJoinPool(1);
+        final var blocked = new CountDownLatch(1);
+        try {
+            pool.submit(() -> {
+                blocked.await();
+                return null;
+            });
+            final Iterator<TestData> rows = IntStream.range(0, 5).mapToObj(i -> {
+                if (i == 4) {
+                    throw new IllegalStateException("source failed");
+                }
+                return row(i);
+            }).iterator();
+
+            assertThatThrownBy(() -> exporter.exportParallel(rows, Channels.newChannel(new ByteArrayOutputStream()),
+                    pool)).isInstanceOf(IllegalStateException.class).hasMessage("source failed");
+            blocked.countDown();
+            assertThat(pool.awaitQuiescence(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(encoded.get()).isZero();
+        } finally {
+            blocked.countDown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("should report statistics")
+    void testStatistics() {
+        final var statistics = new DelimitedExporter.Statistics(1000, 2 * 1024 * 1024, 500_000_000);
+
+        assertThat(statistics.rowsPerSecond()).isEqualTo(2000);
+        assertThat(statistics.megabytesPerSecond()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should reject unnamed columns when writing a header")
+    void testUnnamed() {
+        assertThatThrownBy(
+                () -> DelimitedExporter.create(TypeSafeChainShow.create(TestData.class).standardChain(TestData::getA)))
+                        .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should reject invalid configurations")
+    void testConfiguration() {
+        assertThatThrownBy(() -> new DelimitedExporter.Configuration('"', "\n", true, 1024, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DelimitedExporter.Configuration(',', "\n", true, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DelimitedExporter.Configuration(',', "\n", true, 1024, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
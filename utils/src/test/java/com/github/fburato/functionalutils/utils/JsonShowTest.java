@@ -0,0 +1,157 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JsonShow")
+class JsonShowTest {
+
+    static class Wrapper {
+        private final Object value;
+        private final TestData data;
+
+        Wrapper(Object value, TestData data) {
+            this.value = value;
+            this.data = data;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public TestData getData() {
+            return data;
+        }
+    }
+
+    final TypeSafeChainShow<TestData> dataShow = TypeSafeChainShow.create(TestData.class)
+            .standardChain("a", TestData::getA)
+            .standardChain("a1", TestData::getA1)
+            .chain("b", TestData::getB, i -> Integer.toHexString(i))
+            .standardChain("c", TestData::getC);
+    final JsonShow<TestData> testee = JsonShow.create(dataShow);
+
+    private String writeTo(JsonShow<TestData> show, TestData data) {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        show.writeTo(data, buffer);
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("should render fields as a json object")
+    void testObject() {
+        final var data = new TestData("x", null, 255, 1.5);
+
+        assertThat(testee.show(data)).isEqualTo("{\"a\":\"x\",\"a1\":null,\"b\":\"ff\",\"c\":1.5}");
+        assertThat(writeTo(testee, data)).isEqualTo(testee.show(data));
+    }
+
+    @Test
+    @DisplayName("should render null objects as null")
+    void testNull() {
+        assertThat(testee.show(null)).isEqualTo("null");
+        assertThat(writeTo(testee, null)).isEqualTo("null");
+    }
+
+    @Test
+    @DisplayName("should escape strings and field names")
+    void testEscape() {
+        final var show = JsonShow.create(dataShow, List.of("q\"", "b\\", "\n", "é"));
+        final var data = new TestData("\"\\\u0001\t\r\n\b\f", "é€😀", 1, 0);
+
+        final String expected = "{\"q\\\"\":\"\\\"\\\\\\u0001\\t\\r\\n\\b\\f\",\"b\\\\\":\"é€😀\",\"\\n\":\"1\",\"é\":0.0}";
+        assertThat(show.show(data)).isEqualTo(expected);
+        assertThat(writeTo(show, data)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("should escape the output of custom shows")
+    void testCustomEscape() {
+        final Show<String> quoted = s -> "\"" + s + "\"";
+        final var show = JsonShow.create(TypeSafeChainShow.create(TestData.class).chain("a", TestData::getA, quoted));
+
+        assertThat(show.show(new TestData("x", null, 0, 0))).isEqualTo("{\"a\":\"\\\"x\\\"\"}");
+    }
+
+    @Nested
+    @DisplayName("with standard values")
+    class StandardTest {
+        final TypeSafeChainShow<Wrapper> wrapperShow = TypeSafeChainShow.create(Wrapper.class)
+                .standardChain("value", Wrapper::getValue);
+        final JsonShow<Wrapper> show = JsonShow.create(wrapperShow);
+
+        private String render(Object value) {
+            final String rendered = show.show(new Wrapper(value, null));
+            final ByteBuffer buffer = ByteBuffer.allocate(256);
+            show.writeTo(new Wrapper(value, null), buffer);
+            assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8)).isEqualTo(rendered);
+            return rendered.substring("{\"value\":".length(), rendered.length() - 1);
+        }
+
+        @Test
+        @DisplayName("should render numbers and booleans raw")
+        void testRaw() {
+            assertThat(render(42)).isEqualTo("42");
+            assertThat(render(-7L)).isEqualTo("-7");
+            assertThat(render(Long.MIN_VALUE)).isEqualTo(Long.toString(Long.MIN_VALUE));
+            assertThat(render(Long.MAX_VALUE)).isEqualTo(Long.toString(Long.MAX_VALUE));
+            assertThat(render(0)).isEqualTo("0");
+            assertThat(render((short) 3)).isEqualTo("3");
+            assertThat(render(2.5f)).isEqualTo("2.5");
+            assertThat(render(new BigDecimal("1.10"))).isEqualTo("1.10");
+            assertThat(render(true)).isEqualTo("true");
+        }
+
+        @Test
+        @DisplayName("should quote non finite numbers and other values")
+        void testQuoted() {
+            assertThat(render(Double.NaN)).isEqualTo("\"NaN\"");
+            assertThat(render(Double.NEGATIVE_INFINITY)).isEqualTo("\"-Infinity\"");
+            assertThat(render('c')).isEqualTo("\"c\"");
+            assertThat(render(List.of("a\""))).isEqualTo("\"[a\\\"]\"");
+        }
+    }
+
+    @Test
+    @DisplayName("should compose nested chain shows into nested objects")
+    void testNested() {
+        final var show = JsonShow.create(TypeSafeChainShow.create(Wrapper.class)
+                .standardChain("value", Wrapper::getValue)
+                .chain("data", Wrapper::getData, dataShow));
+        final var wrapper = new Wrapper(1, new TestData("x", "y", 16, 2));
+
+        final String expected = "{\"value\":1,\"data\":{\"a\":\"x\",\"a1\":\"y\",\"b\":\"10\",\"c\":2.0}}";
+        assertThat(show.show(wrapper)).isEqualTo(expected);
+        assertThat(show.show(new Wrapper(1, null))).isEqualTo("{\"value\":1,\"data\":null}");
+
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        show.writeTo(wrapper, buffer);
+        assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("should render chain shows without fields as empty objects")
+    void testEmpty() {
+        assertThat(JsonShow.create(TypeSafeChainShow.create(TestData.class)).show(new TestData())).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("should reject fields without names")
+    void testMissingNames() {
+        assertThatThrownBy(
+                () -> JsonShow.create(TypeSafeChainShow.create(TestData.class).standardChain(TestData::getA)))
+                        .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonShow.create(dataShow, List.of("a")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
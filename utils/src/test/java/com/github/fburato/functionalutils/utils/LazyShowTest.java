@@ -0,0 +1,85 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LazyShow")
+class LazyShowTest {
+
+    final TestData data = new TestData("1", "2", 10, 1.0);
+    final AtomicInteger invocations = new AtomicInteger();
+    final Show<TestData> counting = TypeSafeChainShow.create(TestData.class)
+            .chain(d -> {
+                invocations.incrementAndGet();
+                return d.getA();
+            }, Shows.standard())
+            .standardChain(TestData::getB);
+
+    @Test
+    @DisplayName("should not render until used")
+    void testDeferred() {
+        counting.lazy(data);
+
+        assertThat(invocations).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("should render on toString and cache the result")
+    void testToString() {
+        final var lazy = counting.lazy(data);
+
+        assertThat(lazy.toString()).isEqualTo("TestData(1,10)");
+        assertThat(lazy.toString()).isSameAs(lazy.toString());
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should behave as the rendered char sequence")
+    void testCharSequence() {
+        final var lazy = counting.lazy(data);
+
+        assertThat(lazy.length()).isEqualTo(14);
+        assertThat(lazy.charAt(0)).isEqualTo('T');
+        assertThat(lazy.subSequence(9, 13).toString()).isEqualTo("1,10");
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should render into the given builder without caching")
+    void testFormatTo() {
+        final var lazy = counting.lazy(data);
+        final var builder = new StringBuilder("data=");
+
+        lazy.formatTo(builder);
+        lazy.formatTo(builder);
+
+        assertThat(builder.toString()).isEqualTo("data=TestData(1,10)TestData(1,10)");
+        assertThat(invocations).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should reuse the cached rendering in formatTo")
+    void testFormatToCached() {
+        final var lazy = counting.lazy(data);
+        final var builder = new StringBuilder();
+
+        lazy.toString();
+        lazy.formatTo(builder);
+
+        assertThat(builder.toString()).isEqualTo("TestData(1,10)");
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should be available on plain show instances")
+    void testPlainShow() {
+        final Show<String> quoted = s -> "'" + s + "'";
+
+        assertThat(quoted.lazy("a").toString()).isEqualTo("'a'");
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.fburato.functionalutils.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MaskedShow")
+class MaskedShowTest {
+
+    final TypeSafeChainShow<TestData> base = TypeSafeChainShow.create(TestData.class)
+            .standardChain("a", TestData::getA)
+            .standardChain("a1", TestData::getA1)
+            .chain("b", TestData::getB, i -> Integer.toHexString(i))
+            .standardChain(TestData::getC);
+    final TestData data = new TestData("x", "y", 255, 1.5);
+
+    @Test
+    @DisplayName("should render all fields without a mask")
+    void testAll() {
+        assertThat(MaskedShow.create(base).show(data)).isEqualTo(base.show(data));
+    }
+
+    @Test
+    @DisplayName("should project included fields by name and index")
+    void testInclude() {
+        final var testee = MaskedShow.create(base, ShowMask.all().include("b").includeIndices(3));
+
+        assertThat(testee.show(data)).isEqualTo("TestData(ff,1.5)");
+    }
+
+    @Test
+    @DisplayName("should accept repeated names and indices")
+    void testRepeated() {
+        final var testee = MaskedShow.create(base, ShowMask.all().include("b", "b").includeIndices(3, 3));
+
+        assertThat(testee.show(data)).isEqualTo("TestData(ff,1.5)");
+        assertThat(ShowMask.all().exclude("a", "a").excludeIndices(0, 0)).isEqualTo(ShowMask.all().exclude("a")
+                .excludeIndices(0));
+    }
+
+    @Test
+    @DisplayName("should drop excluded fields")
+    void testExclude() {
+        final var testee = MaskedShow.create(base, ShowMask.all().exclude("a1").excludeIndices(0));
+
+        assertThat(testee.show(data)).isEqualTo("TestData(ff,1.5)");
+    }
+
+    @Test
+    @DisplayName("should replace redacted fields with the token without reading them")
+    void testRedact() {
+        final var testee = MaskedShow.create(base, ShowMask.all().redact("***", "a").redactIndices("?", 3));
+
+        assertThat(testee.show(data)).isEqualTo("TestData(***,y,ff,?)");
+        assertThat(testee.show(new TestData(null, null, 1, 0))).isEqualTo("TestData(***,null,1,?)");
+    }
+
+    @Test
+    @DisplayName("should keep redacted fields in json output")
+    void testRedactJson() {
+        final var testee = MaskedShow.create(base);
+
+        assertThat(JsonShow.create(testee.compile(ShowMask.all().redact("***", "a").exclude("b")),
+                List.of("a", "a1", "c")).show(data)).isEqualTo("{\"a\":\"***\",\"a1\":\"y\",\"c\":1.5}");
+    }
+
+    @Test
+    @DisplayName("should switch masks at runtime")
+    void testSwitch() {
+        final var testee = MaskedShow.create(base);
+        final var builder = new StringBuilder();
+
+        testee.setMask(ShowMask.all().include("a"));
+        testee.showTo(data, builder);
+        testee.setMask(ShowMask.all());
+        testee.showTo(data, builder);
+
+        assertThat(builder.toString()).isEqualTo("TestData(x)" + base.show(data));
+        assertThat(testee.show(data, ShowMask.all().exclude("a"))).isEqualTo("TestData(y,ff,1.5)");
+    }
+
+    @Test
+    @DisplayName("should compile each mask once")
+    void testCompiledOnce() {
+        final var testee = MaskedShow.create(base);
+
+        assertThat(testee.compile(ShowMask.all().include("a", "b")))
+                .isSameAs(testee.compile(ShowMask.all().include("b").include("a")));
+        assertThat(testee.compile(ShowMask.all().include("a")))
+                .isNotSameAs(testee.compile(ShowMask.all().exclude("a")));
+    }
+
+    @Test
+    @DisplayName("should render consistently while masks are switched")
+    void testConcurrentSwitch() {
+        final var testee = MaskedShow.create(base);
+        final var full = base.show(data);
+        final var masks = List.of(ShowMask.all(), ShowMask.all().include("a"));
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        futures.add(CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                testee.setMask(masks.get(i % 2));
+            }
+        }));
+        futures.add(CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(testee.show(data)).isIn(full, "TestData(x)");
+            }
+        }));
+
+        futures.forEach(CompletableFuture::join);
+    }
+
+    @Test
+    @DisplayName("should reject unknown names and indices")
+    void testUnknown() {
+        final var testee = MaskedShow.create(base);
+
+        assertThatThrownBy(() -> testee.setMask(ShowMask.all().include("z")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> testee.setMask(ShowMask.all().excludeIndices(4)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> testee.setMask(ShowMask.all().redact("-", "c")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
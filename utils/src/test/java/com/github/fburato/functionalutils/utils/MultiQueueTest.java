@@ -0,0 +1,123 @@
+package com.github.fburato.functionalutils.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MultiQueue")
+class MultiQueueTest {
+
+    final TypeSafeChainComparator<TestData> comparator = TypeSafeChainComparator.create(TestData.class)
+            .chain(TestData::getB, Comparator.<Integer> naturalOrder())
+            .chain(TestData::getA, Comparator.<String> naturalOrder());
+
+    private List<TestData> shuffled(int count) {
+        final List<TestData> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(new TestData("a" + (i % 7), "", i / 7, 0));
+        }
+        Collections.shuffle(elements, new Random(42));
+        return elements;
+    }
+
+    @Test
+    @DisplayName("should poll in exact order when strict")
+    void testStrict() {
+        final MultiQueue<TestData> testee = MultiQueue.createWithConfig(comparator,
+                MultiQueue.strictConfiguration());
+        final List<TestData> elements = shuffled(1000);
+        elements.forEach(testee::offer);
+
+        assertThat(testee.isStrict()).isTrue();
+        assertThat(testee.size()).isEqualTo(1000);
+        final List<TestData> polled = new ArrayList<>();
+        for (TestData data = testee.poll(); data != null; data = testee.poll()) {
+            polled.add(data);
+        }
+        elements.sort(comparator);
+        assertThat(polled).isEqualTo(elements);
+        assertThat(testee.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should poll close to the minimum when relaxed")
+    void testRelaxed() {
+        final MultiQueue<Integer> testee = MultiQueue.createWithConfig(Comparator.naturalOrder(),
+                new MultiQueue.Configuration(8));
+        final List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            elements.add(i);
+        }
+        Collections.shuffle(elements, new Random(42));
+        elements.forEach(testee::offer);
+
+        final TreeSet<Integer> remaining = new TreeSet<>(elements);
+        long rankErrors = 0;
+        for (Integer polled = testee.poll(); polled != null; polled = testee.poll()) {
+            rankErrors += remaining.headSet(polled).size();
+            assertThat(remaining.remove(polled)).isTrue();
+        }
+        assertThat(remaining).isEmpty();
+        assertThat(rankErrors / 4000.0).isLessThan(16);
+    }
+
+    @Test
+    @DisplayName("should hand every element to exactly one consumer")
+    void testConcurrent() throws InterruptedException {
+        final MultiQueue<Integer> testee = MultiQueue.createWithConfig(Comparator.naturalOrder(),
+                new MultiQueue.Configuration(4));
+        final int threads = 4;
+        final int perThread = 5000;
+        final ConcurrentLinkedQueue<Integer> polled = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * perThread;
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    testee.offer(offset + i);
+                    final Integer data = i % 2 == 1 ? testee.poll() : null;
+                    if (data != null) {
+                        polled.add(data);
+                    }
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (Integer data = testee.poll(); data != null; data = testee.poll()) {
+            polled.add(data);
+        }
+
+        assertThat(polled).hasSize(threads * perThread).doesNotHaveDuplicates();
+        assertThat(testee.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reject invalid configurations and null elements")
+    void testInvalid() {
+        assertThatThrownBy(() -> new MultiQueue.Configuration(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultiQueue.relaxedConfiguration(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultiQueue.create(comparator).offer(null)).isInstanceOf(NullPointerException.class);
+    }
+}
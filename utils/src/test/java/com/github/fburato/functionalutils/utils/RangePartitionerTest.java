@@ -0,0 +1,232 @@
+package com.github.fburato.functionalutils.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RangePartitioner")
+class RangePartitionerTest {
+
+    final TypeSafeChainComparator<TestData> comparator = TypeSafeChainComparator.create(TestData.class)
+            .chain(TestData::getB, Comparator.<Integer> naturalOrder());
+
+    private static RangePartitioner.Sample<Integer> sampleOf(List<Integer> elements) {
+        final RangePartitioner.Reservoir<Integer> reservoir = RangePartitioner.Reservoir.createWithSeed(1000, 42);
+        elements.forEach(reservoir::add);
+        return reservoir.sample();
+    }
+
+    private static List<Integer> range(int from, int to) {
+        final List<Integer> elements = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            elements.add(i);
+        }
+        return elements;
+    }
+
+    @Test
+    @DisplayName("should keep every element while the reservoir is not full")
+    void testReservoirFilling() {
+        final RangePartitioner.Sample<Integer> sample = sampleOf(range(0, 500));
+
+        assertThat(sample.population).isEqualTo(500);
+        assertThat(sample.elements).isEqualTo(range(0, 500));
+    }
+
+    @Test
+    @DisplayName("should sample uniformly once the reservoir is full")
+    void testReservoirUniform() {
+        final RangePartitioner.Sample<Integer> sample = sampleOf(range(0, 100_000));
+
+        assertThat(sample.population).isEqualTo(100_000);
+        assertThat(sample.elements).hasSize(1000).doesNotHaveDuplicates();
+        final long low = sample.elements.stream().filter(i -> i < 50_000).count();
+        assertThat(low).isBetween(430L, 570L);
+    }
+
+    @Test
+    @DisplayName("should pick splitters at equal steps of the sampled weight")
+    void testSplitters() {
+        final RangePartitioner<Integer> testee = RangePartitioner.createFromSamples(Comparator.naturalOrder(), 4,
+                List.of(new RangePartitioner.Sample<>(range(0, 100), 100)));
+
+        assertThat(testee.partitions()).isEqualTo(4);
+        assertThat(testee.splitters()).containsExactly(25, 50, 75);
+        assertThat(testee.partition(-1)).isEqualTo(0);
+        assertThat(testee.partition(24)).isEqualTo(0);
+        assertThat(testee.partition(26)).isEqualTo(1);
+        assertThat(testee.partition(60)).isEqualTo(2);
+        assertThat(testee.partition(1000)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should weigh samples by the population they stand for")
+    void testWeightedSamples() {
+        final RangePartitioner<Integer> testee = RangePartitioner.createFromSamples(Comparator.naturalOrder(), 2,
+                List.of(new RangePartitioner.Sample<>(range(0, 10), 10),
+                        new RangePartitioner.Sample<>(range(100, 110), 30)));
+
+        assertThat(testee.splitters()).containsExactly(103);
+    }
+
+    @Test
+    @DisplayName("should spread heavy hitters over the partitions they span")
+    void testHeavyHitters() {
+        final List<Integer> elements = new ArrayList<>(range(0, 200));
+        elements.addAll(Collections.nCopies(600, 100));
+        final RangePartitioner<Integer> testee = RangePartitioner.createFromSamples(Comparator.naturalOrder(), 8,
+                List.of(new RangePartitioner.Sample<>(elements, elements.size())));
+
+        assertThat(testee.isHeavyHitter(100)).isTrue();
+        assertThat(testee.isHeavyHitter(50)).isFalse();
+        final List<List<Integer>> partitions = testee.route(elements.iterator());
+        for (List<Integer> partition : partitions) {
+            assertThat(partition.size()).isBetween(60, 140);
+        }
+        final List<Integer> sorted = new ArrayList<>();
+        for (List<Integer> partition : partitions) {
+            partition.sort(Comparator.naturalOrder());
+            sorted.addAll(partition);
+        }
+        elements.sort(Comparator.naturalOrder());
+        assertThat(sorted).isEqualTo(elements);
+    }
+
+    @Test
+    @DisplayName("should route everything to the first partition without samples")
+    void testEmpty() {
+        final RangePartitioner<Integer> testee = RangePartitioner.createFromSamples(Comparator.naturalOrder(), 4,
+                List.of());
+
+        assertThat(testee.splitters()).isEmpty();
+        assertThat(testee.partition(42)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("should encode and decode splitters with a codec")
+    void testCodec() {
+        final List<String> elements = List.of("a", "b", "b", "b", "c", "d", "e", "èé", "f");
+        final RangePartitioner<String> testee = RangePartitioner.createFromSamples(Comparator.naturalOrder(), 3,
+                List.of(new RangePartitioner.Sample<>(elements, elements.size())));
+
+        final RangePartitioner<String> decoded = RangePartitioner.decode(Comparator.naturalOrder(),
+                RangePartitioner.SplitterCodec.strings(), testee.encode(RangePartitioner.SplitterCodec.strings()));
+
+        assertThat(decoded.partitions()).isEqualTo(3);
+        assertThat(decoded.splitters()).isEqualTo(testee.splitters());
+        assertThat(decoded.partition("a")).isEqualTo(testee.partition("a"));
+        assertThat(decoded.partition("z")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should reject invalid arguments and encodings")
+    void testInvalid() {
+        assertThatThrownBy(() -> RangePartitioner.Reservoir.create(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RangePartitioner.createFromSamples(Comparator.<Integer> naturalOrder(), 0,
+                List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RangePartitioner.Sample<>(List.of(1, 2), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        final RangePartitioner<Integer> unsorted = RangePartitioner.createFromSamples(Comparator.reverseOrder(), 3,
+                List.of(new RangePartitioner.Sample<>(range(0, 30), 30)));
+        final byte[] bytes = unsorted.encode(RangePartitioner.SplitterCodec.ints());
+        assertThatThrownBy(() -> RangePartitioner.decode(Comparator.<Integer> naturalOrder(),
+                RangePartitioner.SplitterCodec.ints(), bytes)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should sort across threads standing for nodes")
+    void testNodes() throws InterruptedException {
+        final int nodes = 4;
+        final int partitions = 8;
+        final Random random = new Random(42);
+        final List<List<TestData>> inputs = new ArrayList<>();
+        final List<TestData> all = new ArrayList<>();
+        for (int node = 0; node < nodes; node++) {
+            final List<TestData> input = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                // A third of the elements share one key
+                final int key = random.nextInt(3) == 0 ? 7 : random.nextInt(1000);
+                input.add(new TestData("a" + i, "", key, node));
+            }
+            inputs.add(input);
+            all.addAll(input);
+        }
+
+        final ConcurrentLinkedQueue<RangePartitioner.Sample<TestData>> samples = new ConcurrentLinkedQueue<>();
+        final ConcurrentLinkedQueue<byte[]> broadcast = new ConcurrentLinkedQueue<>();
+        final List<ConcurrentLinkedQueue<TestData>> received = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            received.add(new ConcurrentLinkedQueue<>());
+        }
+        final CountDownLatch sampled = new CountDownLatch(nodes);
+        final CountDownLatch shared = new CountDownLatch(1);
+        final CountDownLatch routed = new CountDownLatch(nodes);
+        final RangePartitioner.SplitterCodec<TestData> codec = new RangePartitioner.SplitterCodec<>() {
+            @Override
+            public int size(TestData value) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(TestData value, ByteBuffer buffer) {
+                buffer.putInt(value.getB());
+            }
+
+            @Override
+            public TestData decode(ByteBuffer buffer) {
+                return new TestData("", "", buffer.getInt(), 0);
+            }
+        };
+        for (int node = 0; node < nodes; node++) {
+            final List<TestData> input = inputs.get(node);
+            final long seed = node;
+            new Thread(() -> {
+                try {
+                    final RangePartitioner.Reservoir<TestData> reservoir = RangePartitioner.Reservoir
+                            .createWithSeed(500, seed);
+                    input.forEach(reservoir::add);
+                    samples.add(reservoir.sample());
+                    sampled.countDown();
+                    shared.await();
+                    final RangePartitioner<TestData> partitioner = RangePartitioner.decode(comparator, codec,
+                            broadcast.peek());
+                    for (TestData data : input) {
+                        received.get(partitioner.partition(data)).add(data);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    routed.countDown();
+                }
+            }).start();
+        }
+        sampled.await();
+        broadcast.add(RangePartitioner.createFromSamples(comparator, partitions, new ArrayList<>(samples))
+                .encode(codec));
+        shared.countDown();
+        routed.await();
+
+        final List<TestData> sorted = new ArrayList<>();
+        for (ConcurrentLinkedQueue<TestData> partition : received) {
+            assertThat(partition.size()).isBetween(all.size() / partitions / 2, all.size() / partitions * 3 / 2);
+            final List<TestData> local = new ArrayList<>(partition);
+            local.sort(comparator);
+            sorted.addAll(local);
+        }
+        assertThat(sorted).hasSize(all.size());
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(comparator.compare(sorted.get(i - 1), sorted.get(i))).isLessThanOrEqualTo(0);
+        }
+    }
+}
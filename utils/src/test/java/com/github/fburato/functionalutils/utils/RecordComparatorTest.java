@@ -0,0 +1,133 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RecordComparator")
+class RecordComparatorTest {
+
+    // Records are an int region, a double price and a name of at most 24 UTF-8 bytes
+    static final int REGION = 0;
+    static final int PRICE = 4;
+    static final int NAME = 12;
+    static final int SIZE = 40;
+
+    final int count = 2000;
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(count * SIZE);
+    final TestData[] decoded = new TestData[count];
+    final int[] records = new int[count];
+
+    final RecordComparator testee = RecordComparator.create()
+            .chainInt(REGION, IntComparator.natural())
+            .chainUtf8Descending(NAME)
+            .chainDouble(PRICE, DoubleComparator.natural());
+    final Comparator<Integer> expected = Comparator.<Integer> comparingInt(r -> decoded[r / SIZE].getB())
+            .thenComparing(r -> decoded[r / SIZE].getA(), Comparator.reverseOrder())
+            .thenComparingDouble(r -> decoded[r / SIZE].getC());
+
+    static void write(ByteBuffer buffer, int record, int region, double price, String name) {
+        final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(record + REGION, region);
+        buffer.putDouble(record + PRICE, price);
+        buffer.putInt(record + NAME, bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(record + NAME + Integer.BYTES + i, bytes[i]);
+        }
+    }
+
+    RecordComparatorTest() {
+        final var random = new Random(42);
+        final String[] names = { "", "a", "ab", "b", "é", "éa", "z", "zz" };
+        for (int i = 0; i < count; i++) {
+            decoded[i] = new TestData(names[random.nextInt(names.length)], "", random.nextInt(6),
+                    random.nextInt(20) / 4.0);
+            write(buffer, i * SIZE, decoded[i].getB(), decoded[i].getC(), decoded[i].getA());
+            records[i] = i * SIZE;
+        }
+    }
+
+    private List<Integer> toList(int[] offsets) {
+        return IntStream.of(offsets).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("should sort record offsets stably without decoding")
+    void testSort() {
+        final int[] sorted = records.clone();
+        testee.sort(buffer, sorted);
+
+        assertThat(toList(sorted)).isEqualTo(toList(records).stream().sorted(expected).collect(Collectors.toList()));
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    @DisplayName("should merge sorted offset arrays")
+    void testMerge() {
+        final int[] first = Arrays.copyOfRange(records, 0, 700);
+        final int[] second = Arrays.copyOfRange(records, 700, count);
+        testee.sort(buffer, first);
+        testee.sort(buffer, second);
+        final int[] all = records.clone();
+        testee.sort(buffer, all);
+
+        assertThat(testee.merge(buffer, first, second)).isEqualTo(all);
+        assertThat(testee.merge(buffer, new int[0], second)).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("should search with a key record from another buffer")
+    void testSearch() {
+        final int[] sorted = records.clone();
+        testee.sort(buffer, sorted);
+        final RecordComparator byRegionAndName = RecordComparator.create().chainInt(REGION, IntComparator.natural())
+                .chainUtf8Descending(NAME);
+        final ByteBuffer key = ByteBuffer.allocate(SIZE);
+        write(key, 0, 3, 0, "b");
+
+        final int lower = byRegionAndName.lowerBound(buffer, sorted, key, 0);
+        final int upper = byRegionAndName.upperBound(buffer, sorted, key, 0);
+        assertThat(upper - lower).isEqualTo(
+                Arrays.stream(decoded).filter(d -> d.getB() == 3 && d.getA().equals("b")).count());
+        for (int i = lower; i < upper; i++) {
+            assertThat(decoded[sorted[i] / SIZE].getA()).isEqualTo("b");
+        }
+        assertThat(byRegionAndName.binarySearch(buffer, sorted, key, 0)).isEqualTo(lower);
+        write(key, 0, 9, 0, "b");
+        assertThat(byRegionAndName.binarySearch(buffer, sorted, key, 0)).isEqualTo(-count - 1);
+    }
+
+    @Test
+    @DisplayName("should compare long fields and reject negative offsets")
+    void testLong() {
+        final ByteBuffer longs = ByteBuffer.allocate(24).putLong(0, 5).putLong(8, -1).putLong(16, 5);
+        final int[] sorted = { 0, 8, 16 };
+        RecordComparator.create().chainLong(0, LongComparator.natural()).sort(longs, sorted);
+
+        assertThat(sorted).containsExactly(8, 0, 16);
+        final ByteBuffer names = ByteBuffer.allocate(3 * SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        write(names, 0, 0, 0, "customer-b-long");
+        write(names, SIZE, 0, 0, "customer-a-longer");
+        write(names, 2 * SIZE, 0, 0, "customer-a-long");
+        final int[] byName = { 0, SIZE, 2 * SIZE };
+        RecordComparator.create().chainUtf8(NAME).sort(names, byName);
+        assertThat(byName).containsExactly(2 * SIZE, SIZE, 0);
+        assertThatThrownBy(() -> RecordComparator.create().chainInt(-1, IntComparator.natural()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
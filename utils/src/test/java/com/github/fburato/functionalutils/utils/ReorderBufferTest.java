@@ -0,0 +1,145 @@
+package com.github.fburato.functionalutils.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReorderBuffer")
+class ReorderBufferTest {
+
+    final TypeSafeChainComparator<TestData> comparator = TypeSafeChainComparator.create(TestData.class)
+            .chain(TestData::getB, Comparator.<Integer> naturalOrder())
+            .chain(TestData::getA, Comparator.<String> naturalOrder());
+
+    // Elements 0..count-1 displaced by at most lateness positions from their sorted place
+    private List<TestData> nearlySorted(int count, int lateness) {
+        final List<TestData> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(new TestData("s" + (i % 3), "", i, 0));
+        }
+        final var random = new Random(42);
+        for (int i = 0; i + lateness < count; i += lateness + 1) {
+            Collections.shuffle(result.subList(i, i + lateness + 1), random);
+        }
+        return result;
+    }
+
+    private List<TestData> drain(ReorderBuffer<TestData> testee, List<TestData> input) {
+        final List<TestData> output = new ArrayList<>();
+        testee.reorder(input.iterator()).forEachRemaining(output::add);
+        return output;
+    }
+
+    @Test
+    @DisplayName("should restore the order when the window covers the lateness")
+    void testWindow() {
+        final List<TestData> input = nearlySorted(1000, 5);
+        final var testee = ReorderBuffer.createWithWindow(comparator, 5, ReorderBuffer.LatePolicy.DROP);
+
+        final List<TestData> output = drain(testee, input);
+        input.sort(comparator);
+        assertThat(output).isEqualTo(input);
+        assertThat(testee.statistics().late).isZero();
+        assertThat(testee.statistics().maximumBuffered).isEqualTo(6);
+        assertThat(testee.statistics().buffered).isZero();
+    }
+
+    @Test
+    @DisplayName("should apply the late policy to elements behind the emitted ones")
+    void testLate() {
+        final List<TestData> input = List.of(new TestData("a", "", 1, 0), new TestData("a", "", 3, 0),
+                new TestData("a", "", 4, 0), new TestData("a", "", 0, 0), new TestData("a", "", 2, 0));
+        final List<TestData> side = new ArrayList<>();
+
+        assertThat(drain(ReorderBuffer.createWithWindow(comparator, 1, ReorderBuffer.LatePolicy.DROP), input))
+                .extracting(TestData::getB).containsExactly(1, 3, 4);
+        assertThat(drain(ReorderBuffer.createWithWindow(comparator, 1, ReorderBuffer.LatePolicy.EMIT), input))
+                .extracting(TestData::getB).containsExactly(1, 3, 0, 2, 4);
+        final var sideOutput = ReorderBuffer.createWithWindow(comparator, 1, side::add);
+        assertThat(drain(sideOutput, input)).extracting(TestData::getB).containsExactly(1, 3, 4);
+        assertThat(side).extracting(TestData::getB).containsExactly(0, 2);
+        assertThat(sideOutput.statistics().late).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should release elements behind the watermark")
+    void testWatermark() {
+        final List<TestData> input = nearlySorted(500, 4);
+        final List<Integer> buffered = new ArrayList<>();
+        final var testee = ReorderBuffer.createWithWatermark(comparator, TestData::getB, 4,
+                ReorderBuffer.LatePolicy.DROP);
+
+        final List<TestData> output = new ArrayList<>();
+        for (TestData data : input) {
+            testee.offer(data, output::add);
+            buffered.add((int) testee.statistics().buffered);
+        }
+        testee.flush(output::add);
+        input.sort(comparator);
+        assertThat(output).isEqualTo(input);
+        assertThat(Collections.max(buffered)).isLessThanOrEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("should reorder through a flow processor")
+    void testProcessor() throws InterruptedException {
+        final List<TestData> input = nearlySorted(200, 3);
+        final var testee = ReorderBuffer.createWithWindow(comparator, 3, ReorderBuffer.LatePolicy.DROP);
+        final var processor = testee.processor();
+        final List<TestData> output = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(1);
+        processor.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(TestData item) {
+                output.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        try (SubmissionPublisher<TestData> source = new SubmissionPublisher<>()) {
+            source.subscribe(processor);
+            input.forEach(source::submit);
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        input.sort(comparator);
+        assertThat(output).isEqualTo(input);
+    }
+
+    @Test
+    @DisplayName("should reject invalid configurations")
+    void testInvalid() {
+        assertThatThrownBy(() -> ReorderBuffer.createWithWindow(comparator, -1, ReorderBuffer.LatePolicy.DROP))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(
+                () -> ReorderBuffer.createWithWindow(comparator, 1, ReorderBuffer.LatePolicy.SIDE_OUTPUT))
+                        .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReorderBuffer.createWithWatermark(comparator, TestData::getB, -1,
+                ReorderBuffer.LatePolicy.EMIT)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,290 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShowRecorder")
+class ShowRecorderTest {
+
+    static class Event {
+        private final int id;
+        private final long timestamp;
+        private final String name;
+        private final TestData data;
+        private final List<String> tags;
+        private final Boolean flag;
+        private final char code;
+        private final double value;
+
+        Event(int id, long timestamp, String name, TestData data, List<String> tags, Boolean flag, char code,
+                double value) {
+            this.id = id;
+            this.timestamp = timestamp;
+            this.name = name;
+            this.data = data;
+            this.tags = tags;
+            this.flag = flag;
+            this.code = code;
+            this.value = value;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public TestData getData() {
+            return data;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public Boolean getFlag() {
+            return flag;
+        }
+
+        public char getCode() {
+            return code;
+        }
+
+        public double getValue() {
+            return value;
+        }
+    }
+
+    final Show<String> quoted = s -> s == null ? "-" : "'" + s + "'";
+    final TypeSafeChainShow<TestData> dataShow = TypeSafeChainShow.create(TestData.class)
+            .chain(TestData::getA, quoted)
+            .chain(TestData::getB, i -> Integer.toHexString(i))
+            .standardChain(TestData::getC);
+    final TypeSafeChainShow<Event> eventShow = TypeSafeChainShow.create(Event.class)
+            .standardChain(Event::getId)
+            .standardChain(Event::getTimestamp)
+            .chain(Event::getName, quoted)
+            .chain(Event::getData, dataShow)
+            .chain(Event::getTags, Shows.list(quoted))
+            .standardChain(Event::getFlag)
+            .standardChain(Event::getCode)
+            .standardChain(Event::getValue);
+
+    private Event event(int i) {
+        return new Event(i, 1000L * i, "event-" + i, new TestData("a" + i, null, i, i / 2.0),
+                List.of("t" + i, "u"), i % 3 == 0 ? null : i % 2 == 0, (char) ('a' + i % 26), i * 1.5);
+    }
+
+    private List<String> replayAll(ShowReplayer replayer) {
+        final List<String> result = new ArrayList<>();
+        replayer.replayAll(result::add);
+        return result;
+    }
+
+    @Test
+    @DisplayName("should replay exactly the text produced by show")
+    void testRoundTrip() {
+        final var ringBuffer = ShowRingBuffer.allocate(1 << 16);
+        final var recorder = ShowRecorder.create(eventShow, 1, ringBuffer);
+        final var replayer = ShowReplayer.create(ringBuffer, Map.of(1, eventShow));
+        final var events = IntStream.range(0, 50).mapToObj(this::event).collect(Collectors.toList());
+
+        events.forEach(e -> assertThat(recorder.record(e)).isTrue());
+
+        assertThat(replayAll(replayer))
+                .containsExactlyElementsOf(events.stream().map(eventShow::show).collect(Collectors.toList()));
+        assertThat(ringBuffer.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("should replay null fields and nulls in nested shows")
+    void testNulls() {
+        final var ringBuffer = ShowRingBuffer.allocate(1024);
+        final var recorder = ShowRecorder.create(eventShow, 1, ringBuffer);
+        final var replayer = ShowReplayer.create(ringBuffer, Map.of(1, eventShow));
+        final var event = new Event(1, 2, null, new TestData(null, null, 0, 0), null, null, 'x', 0);
+
+        recorder.record(event);
+
+        assertThat(replayAll(replayer)).containsExactly(eventShow.show(event));
+    }
+
+    @Test
+    @DisplayName("should preserve any UTF-16 content in strings")
+    void testUnicode() {
+        final var ringBuffer = ShowRingBuffer.allocate(1024);
+        final var recorder = ShowRecorder.create(eventShow, 1, ringBuffer);
+        final var replayer = ShowReplayer.create(ringBuffer, Map.of(1, eventShow));
+        final var nested = new TestData("\uDC00", "", 1, 1);
+        final var event = new Event(1, 2, "\u0000é€😀\uD800x", nested, List.of("ÿ"), true, '☃', 1);
+
+        recorder.record(event);
+
+        assertThat(replayAll(replayer)).containsExactly(eventShow.show(event));
+    }
+
+    @Test
+    @DisplayName("should interleave several templates")
+    void testTemplates() {
+        final var ringBuffer = ShowRingBuffer.allocate(1024);
+        final var eventRecorder = ShowRecorder.create(eventShow, 1, ringBuffer);
+        final var dataRecorder = ShowRecorder.create(dataShow, 2, ringBuffer);
+        final var replayer = ShowReplayer.create(ringBuffer, Map.of(1, eventShow, 2, dataShow));
+        final var data = new TestData("x", "y", 3, 4);
+
+        eventRecorder.record(event(1));
+        dataRecorder.record(data);
+
+        assertThat(replayAll(replayer)).containsExactly(eventShow.show(event(1)), dataShow.show(data));
+    }
+
+    @Nested
+    @DisplayName("with a small ring buffer")
+    class WrapTest {
+        final ShowRingBuffer ringBuffer = ShowRingBuffer.allocate(256);
+        final ShowRecorder<TestData> recorder = ShowRecorder.create(dataShow, 7, ringBuffer);
+        final ShowReplayer replayer = ShowReplayer.create(ringBuffer, Map.of(7, dataShow));
+
+        @Test
+        @DisplayName("should reject records when full")
+        void testFull() {
+            int recorded = 0;
+            while (recorder.record(new TestData("value", null, recorded, 0))) {
+                recorded++;
+            }
+
+            assertThat(recorded).isGreaterThan(0);
+            assertThat(replayAll(replayer)).hasSize(recorded);
+            assertThat(recorder.record(new TestData("value", null, 0, 0))).isTrue();
+        }
+
+        @Test
+        @DisplayName("should wrap around the end of the buffer")
+        void testWrap() {
+            for (int i = 0; i < 200; i++) {
+                final var data = new TestData("v".repeat(i % 17), null, i, i);
+                assertThat(recorder.record(data)).isTrue();
+                final var builder = new StringBuilder();
+                assertThat(replayer.replayNext(builder)).isTrue();
+                assertThat(builder.toString()).isEqualTo(dataShow.show(data));
+            }
+            assertThat(replayer.replayNext(new StringBuilder())).isFalse();
+        }
+
+        @Test
+        @DisplayName("should reject records larger than the buffer")
+        void testTooLarge() {
+            assertThat(recorder.record(new TestData("v".repeat(300), null, 1, 1))).isFalse();
+            assertThat(ringBuffer.size()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    @DisplayName("should hand records over between a producer and a consumer thread")
+    void testConcurrent() {
+        final var ringBuffer = ShowRingBuffer.allocate(4096);
+        final var recorder = ShowRecorder.create(eventShow, 1, ringBuffer);
+        final var replayer = ShowReplayer.create(ringBuffer, Map.of(1, eventShow));
+        final int count = 20_000;
+
+        final var producer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < count; i++) {
+                final var event = event(i);
+                while (!recorder.record(event)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        final var consumer = CompletableFuture.supplyAsync(() -> {
+            final List<String> result = new ArrayList<>();
+            final var builder = new StringBuilder();
+            while (result.size() < count) {
+                if (replayer.replayNext(builder)) {
+                    result.add(builder.toString());
+                    builder.setLength(0);
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+            return result;
+        });
+
+        producer.join();
+        final var replayed = consumer.join();
+        for (int i = 0; i < count; i += 997) {
+            assertThat(replayed.get(i)).isEqualTo(eventShow.show(event(i)));
+        }
+        assertThat(replayed).hasSize(count);
+    }
+
+    @Test
+    @DisplayName("should replay a memory-mapped buffer from another instance")
+    void testMapped() throws Exception {
+        final var file = Files.createTempFile("show", ".ring");
+        try {
+            final var recorder = ShowRecorder.create(eventShow, 1, ShowRingBuffer.create(file, 4096));
+            recorder.record(event(1));
+            recorder.record(event(2));
+
+            final var reopened = ShowRingBuffer.open(file);
+
+            assertThat(reopened.capacity()).isEqualTo(4096);
+            assertThat(replayAll(ShowReplayer.create(reopened, Map.of(1, eventShow))))
+                    .containsExactly(eventShow.show(event(1)), eventShow.show(event(2)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("should fail on unknown templates")
+    void testUnknownTemplate() {
+        final var ringBuffer = ShowRingBuffer.allocate(1024);
+        ShowRecorder.create(dataShow, 3, ringBuffer).record(new TestData());
+
+        assertThatThrownBy(() -> ShowReplayer.create(ringBuffer, Map.of()).replayNext(new StringBuilder()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("should skip records of unknown templates and replay the following ones")
+    void testUnknownTemplateSkipped() {
+        final var ringBuffer = ShowRingBuffer.allocate(1024);
+        final var data = new TestData("x", "y", 3, 4);
+        ShowRecorder.create(dataShow, 3, ringBuffer).record(new TestData());
+        ShowRecorder.create(dataShow, 2, ringBuffer).record(data);
+        final var replayer = ShowReplayer.create(ringBuffer, Map.of(2, dataShow));
+        final var builder = new StringBuilder("kept ");
+
+        assertThatThrownBy(() -> replayer.replayNext(builder)).isInstanceOf(IllegalStateException.class);
+        assertThat(builder.toString()).isEqualTo("kept ");
+        assertThat(replayAll(replayer)).containsExactly(dataShow.show(data));
+        assertThat(ringBuffer.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("should reject invalid capacities")
+    void testCapacity() {
+        assertThatThrownBy(() -> ShowRingBuffer.allocate(1000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ShowRingBuffer.allocate(32)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
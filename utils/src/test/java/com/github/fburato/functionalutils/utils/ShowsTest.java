@@ -0,0 +1,207 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.Show;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Shows")
+class ShowsTest {
+
+    final Show<String> quoted = s -> "'" + s + "'";
+    final Shows.Configuration limited = new Shows.Configuration("<", ">", "|", 2, "~");
+
+    @Nested
+    @DisplayName("list")
+    class ListTest {
+        @Test
+        @DisplayName("should render like List::toString with the standard configuration")
+        void testStandard() {
+            final List<Integer> list = List.of(1, 2, 3);
+
+            assertThat(Shows.<Integer> list(Shows.standard()).show(list)).isEqualTo(list.toString());
+            assertThat(Shows.list(Shows.standard()).show(List.of())).isEqualTo("[]");
+        }
+
+        @Test
+        @DisplayName("should render with element show")
+        void testElementShow() {
+            assertThat(Shows.list(quoted).show(List.of("a", "b"))).isEqualTo("['a', 'b']");
+        }
+
+        @Test
+        @DisplayName("should render non random access lists")
+        void testLinkedList() {
+            final var list = new LinkedList<>(List.of("a", "b", "c"));
+
+            assertThat(Shows.list(quoted).show(list)).isEqualTo("['a', 'b', 'c']");
+            assertThat(Shows.list(quoted, limited).show(list)).isEqualTo("<'a'|'b'|~>");
+        }
+
+        @Test
+        @DisplayName("should truncate after limit")
+        void testLimit() {
+            assertThat(Shows.list(quoted, limited).show(List.of("a", "b", "c"))).isEqualTo("<'a'|'b'|~>");
+            assertThat(Shows.list(quoted, limited).show(List.of("a", "b"))).isEqualTo("<'a'|'b'>");
+        }
+
+        @Test
+        @DisplayName("should render only the ellipsis with zero limit")
+        void testZeroLimit() {
+            final var configuration = new Shows.Configuration("[", "]", ",", 0, "...");
+
+            assertThat(Shows.list(quoted, configuration).show(List.of("a"))).isEqualTo("[...]");
+            assertThat(Shows.list(quoted, configuration).show(List.of())).isEqualTo("[]");
+        }
+
+        @Test
+        @DisplayName("should render null as null")
+        void testNull() {
+            assertThat(Shows.list(quoted).show(null)).isEqualTo("null");
+        }
+    }
+
+    @Nested
+    @DisplayName("iterable")
+    class IterableTest {
+        @Test
+        @DisplayName("should render like Collection::toString with the standard configuration")
+        void testStandard() {
+            final Set<String> set = new TreeSet<>(Set.of("b", "a", "c"));
+
+            assertThat(Shows.<String> iterable(Shows.standard()).show(set)).isEqualTo(set.toString());
+            assertThat(Shows.iterable(quoted, limited).show(set)).isEqualTo("<'a'|'b'|~>");
+        }
+    }
+
+    @Nested
+    @DisplayName("arrays")
+    class ArraysTest {
+        @Test
+        @DisplayName("should render object arrays like Arrays::toString")
+        void testObjectArray() {
+            final String[] array = { "a", null, "c" };
+
+            assertThat(Shows.array(Shows.standard()).show(array)).isEqualTo(Arrays.toString(array));
+            assertThat(Shows.<String> array(quoted, limited).show(array)).isEqualTo("<'a'|'null'|~>");
+        }
+
+        @Test
+        @DisplayName("should render primitive arrays like Arrays::toString")
+        void testPrimitiveArrays() {
+            final int[] ints = { 1, -2, 3 };
+            final long[] longs = { 1L, Long.MAX_VALUE };
+            final double[] doubles = { 1.0, Double.NaN, -0.5 };
+            final float[] floats = { 1.5f, 2f };
+            final short[] shorts = { 1, 2 };
+            final byte[] bytes = { -1, 2 };
+            final char[] chars = { 'a', 'b' };
+            final boolean[] booleans = { true, false };
+
+            assertThat(Shows.intArray().show(ints)).isEqualTo(Arrays.toString(ints));
+            assertThat(Shows.longArray().show(longs)).isEqualTo(Arrays.toString(longs));
+            assertThat(Shows.doubleArray().show(doubles)).isEqualTo(Arrays.toString(doubles));
+            assertThat(Shows.floatArray().show(floats)).isEqualTo(Arrays.toString(floats));
+            assertThat(Shows.shortArray().show(shorts)).isEqualTo(Arrays.toString(shorts));
+            assertThat(Shows.byteArray().show(bytes)).isEqualTo(Arrays.toString(bytes));
+            assertThat(Shows.charArray().show(chars)).isEqualTo(Arrays.toString(chars));
+            assertThat(Shows.booleanArray().show(booleans)).isEqualTo(Arrays.toString(booleans));
+            assertThat(Shows.intArray().show(null)).isEqualTo("null");
+        }
+
+        @Test
+        @DisplayName("should apply configuration to primitive arrays")
+        void testPrimitiveConfiguration() {
+            assertThat(Shows.intArray(limited).show(new int[] { 1, 2, 3 })).isEqualTo("<1|2|~>");
+            assertThat(Shows.doubleArray(limited).show(new double[] { 1 })).isEqualTo("<1.0>");
+        }
+    }
+
+    @Nested
+    @DisplayName("map")
+    class MapTest {
+        final Map<String, Integer> map = new LinkedHashMap<>();
+
+        {
+            map.put("a", 1);
+            map.put("b", 2);
+            map.put("c", 3);
+        }
+
+        @Test
+        @DisplayName("should render like Map::toString with the standard configuration")
+        void testStandard() {
+            assertThat(Shows.<String, Integer> map(Shows.standard(), Shows.standard()).show(map))
+                    .isEqualTo(map.toString());
+        }
+
+        @Test
+        @DisplayName("should render with key and value shows and configuration")
+        void testConfiguration() {
+            final Show<Integer> hex = Integer::toHexString;
+
+            assertThat(Shows.map(quoted, hex, limited, ":").show(map)).isEqualTo("<'a':1|'b':2|~>");
+        }
+
+        @Test
+        @DisplayName("should render null as null")
+        void testNull() {
+            assertThat(Shows.map(quoted, quoted).show(null)).isEqualTo("null");
+        }
+    }
+
+    @Test
+    @DisplayName("should reject negative limits")
+    void testNegativeLimit() {
+        assertThatThrownBy(() -> new Shows.Configuration("[", "]", ",", -1, "..."))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should plug into chain shows")
+    void testChain() {
+        final Show<CollectionData> testee = TypeSafeChainShow.create(CollectionData.class)
+                .addShow(Shows.list(quoted))
+                .chain(CollectionData::getNames)
+                .chain(CollectionData::getCounts, Shows.intArray())
+                .chain(CollectionData::getAttributes, Shows.map(Shows.standard(), Shows.standard()));
+
+        assertThat(testee.show(new CollectionData(List.of("x", "y"), new int[] { 4 }, Map.of("k", "v"))))
+                .isEqualTo("CollectionData(['x', 'y'],[4],{k=v})");
+    }
+
+    static class CollectionData {
+        private final List<String> names;
+        private final int[] counts;
+        private final Map<String, String> attributes;
+
+        CollectionData(List<String> names, int[] counts, Map<String, String> attributes) {
+            this.names = names;
+            this.counts = counts;
+            this.attributes = attributes;
+        }
+
+        public List<String> getNames() {
+            return names;
+        }
+
+        public int[] getCounts() {
+            return counts;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.IntComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SortMergeJoin")
+class SortMergeJoinTest {
+
+    final SortMergeJoin<TestData, String> testee = SortMergeJoin.create(TestData.class, String.class)
+            .on(TestData::getA, s -> s.substring(0, 1), Comparator.<String> naturalOrder())
+            .onInt(TestData::getB, s -> s.charAt(1) - '0', IntComparator.natural());
+
+    final List<TestData> left = List.of(new TestData("a", "1", 1, 0), new TestData("a", "2", 1, 0),
+            new TestData("a", "3", 2, 0), new TestData("c", "4", 1, 0), new TestData("d", "5", 0, 0));
+    final List<String> right = List.of("a1x", "a1y", "b1x", "c1x", "e0x", "e0y");
+
+    private List<String> describe(SortMergeJoin.JoinType type) {
+        return testee.join(type, left.iterator(), right.iterator())
+                .map(g -> g.left.stream().map(TestData::getA1).collect(Collectors.joining()) + "|"
+                        + String.join(",", g.right))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("should emit matched groups for inner joins")
+    void testInner() {
+        assertThat(describe(SortMergeJoin.JoinType.INNER)).containsExactly("12|a1x,a1y", "4|c1x");
+    }
+
+    @Test
+    @DisplayName("should keep unmatched left groups for left outer joins")
+    void testLeftOuter() {
+        assertThat(describe(SortMergeJoin.JoinType.LEFT_OUTER)).containsExactly("12|a1x,a1y", "3|", "4|c1x", "5|");
+    }
+
+    @Test
+    @DisplayName("should keep unmatched groups of both sides for full outer joins")
+    void testFullOuter() {
+        assertThat(describe(SortMergeJoin.JoinType.FULL_OUTER)).containsExactly("12|a1x,a1y", "3|", "|b1x",
+                "4|c1x", "5|", "|e0x,e0y");
+        assertThat(testee.fullOuter(List.<TestData> of().iterator(), List.<String> of().iterator())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should pull inputs lazily")
+    void testLazy() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final SortMergeJoin<Integer, Integer> join = SortMergeJoin.create(Integer.class, Integer.class)
+                .onInt(i -> i / 2, i -> i, IntComparator.natural());
+        final var groups = join.inner(
+                IntStream.iterate(0, i -> i + 1).boxed().peek(i -> pulled.incrementAndGet()).iterator(),
+                IntStream.iterate(0, i -> i + 1).boxed().iterator());
+
+        assertThat(groups.limit(3).map(g -> g.left)).containsExactly(List.of(0, 1), List.of(2, 3), List.of(4, 5));
+        assertThat(pulled.get()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("should reject unsorted inputs")
+    void testUnsorted() {
+        assertThatThrownBy(() -> testee
+                .inner(List.of(new TestData("b", "", 1, 0), new TestData("a", "", 1, 0)).iterator(),
+                        right.iterator())
+                .collect(Collectors.toList())).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.fburato.functionalutils.utils;
+
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SortRegistry")
+class SortRegistryTest {
+
+    final SortRegistry<TestData> testee = SortRegistry.create(TestData.class)
+            .register("a", TestData::getA)
+            .register("a1", TestData::getA1, String.CASE_INSENSITIVE_ORDER)
+            .register("b", TestData::getB)
+            .registerDouble("c", TestData::getC, DoubleComparator.natural());
+
+    final TestData first = new TestData("x", "B", 1, 1.0);
+    final TestData second = new TestData("x", "a", 2, 2.0);
+    final TestData third = new TestData(null, "c", null, 0.5);
+    final TestData fourth = new TestData("y", null, 1, 0.5);
+
+    private List<TestData> sorted(String spec) {
+        final List<TestData> result = new ArrayList<>(List.of(first, second, third, fourth));
+        result.sort(testee.comparator(spec));
+        return result;
+    }
+
+    @Test
+    @DisplayName("should sort ascending and descending by several fields")
+    void testDirections() {
+        assertThat(sorted("a,-c")).containsExactly(second, first, fourth, third);
+        assertThat(sorted("+c, b")).containsExactly(fourth, third, first, second);
+        assertThat(sorted("-a1")).containsExactly(fourth, third, first, second);
+    }
+
+    @Test
+    @DisplayName("should sort nulls last ascending and first descending unless overridden")
+    void testNulls() {
+        assertThat(sorted("b,c")).containsExactly(fourth, first, second, third);
+        assertThat(sorted("-b,c")).containsExactly(third, second, fourth, first);
+        assertThat(sorted("b:nullsfirst,c")).containsExactly(third, fourth, first, second);
+        assertThat(sorted("-b:NullsLast,c")).containsExactly(second, fourth, first, third);
+    }
+
+    @Test
+    @DisplayName("should normalise directions, spacing and modifiers")
+    void testNormalise() {
+        assertThat(testee.normalise(" a , -b:NULLSFIRST,+c:nullslast")).isEqualTo("+a,-b:nullsfirst,+c");
+        assertThat(testee.comparator("-b, a")).isSameAs(testee.comparator("-b,+a"));
+    }
+
+    @Test
+    @DisplayName("should serve repeated specs from the cache")
+    void testCache() {
+        final var comparator = testee.comparator("a,-b");
+
+        assertThat(testee.comparator("a,-b")).isSameAs(comparator);
+        assertThat(testee.comparator("+a,-b")).isSameAs(comparator);
+        final var statistics = testee.statistics();
+        assertThat(statistics.hits).isEqualTo(1);
+        assertThat(statistics.misses).isEqualTo(2);
+        assertThat(statistics.compiled).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should bound the cache whatever specs are requested")
+    void testBounded() {
+        final var registry = SortRegistry.createWithConfig(TestData.class,
+                new SortRegistry.Configuration(4, EvictionPolicy.LRU))
+                .register("a", TestData::getA)
+                .register("b", TestData::getB);
+        final List<String> specs = List.of("a", "-a", "b", "-b", "a,b", "a,-b", "-a,b", "-a,-b", "b,a", "b,-a");
+
+        for (int i = 0; i < 100; i++) {
+            registry.comparator(specs.get(i % specs.size()) + ":nullsfirst");
+        }
+
+        assertThat(registry.statistics().size).isLessThanOrEqualTo(4);
+        assertThat(registry.statistics().evictions).isEqualTo(96);
+    }
+
+    @Test
+    @DisplayName("should compile consistent comparators under concurrent access")
+    void testConcurrent() {
+        final List<String> specs = List.of("a,b", "-c,a1", "b:nullsfirst,-a", "a1,c");
+        final List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                final List<String> results = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    results.add(sorted(specs.get(i % specs.size())).stream().map(TestData::getA1)
+                            .map(String::valueOf).collect(Collectors.joining()));
+                }
+                return results;
+            }));
+        }
+
+        final var expected = futures.get(0).join();
+        futures.forEach(f -> assertThat(f.join()).isEqualTo(expected));
+        assertThat(testee.statistics().compiled).isBetween(4L, 16L);
+    }
+
+    @Test
+    @DisplayName("should reject unknown fields, repeated fields and invalid modifiers")
+    void testInvalid() {
+        assertThatThrownBy(() -> testee.comparator("z")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'z'");
+        assertThatThrownBy(() -> testee.comparator("a,-a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> testee.comparator("a:nullsmiddle")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> testee.comparator("a,,b")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> testee.comparator("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> testee.register("-d", TestData::getA)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(testee.statistics().size).isEqualTo(0);
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.fburato.functionalutils.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SortedGrouping")
+class SortedGroupingTest {
+
+    final TypeSafeChainComparator<TestData> comparator = TypeSafeChainComparator.create(TestData.class)
+            .chain(TestData::getA, Comparator.<String> naturalOrder())
+            .chain(TestData::getA1, Comparator.<String> naturalOrder())
+            .chain(TestData::getB, Comparator.<Integer> naturalOrder());
+    final SortedGrouping<TestData> testee = SortedGrouping.create(comparator, 2);
+
+    final List<TestData> sorted = new ArrayList<>();
+
+    SortedGroupingTest() {
+        final var random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            sorted.add(new TestData("a" + random.nextInt(6), "r" + random.nextInt(5), random.nextInt(100), 0));
+        }
+        sorted.sort(comparator);
+    }
+
+    private List<String> expected() {
+        final List<String> result = new ArrayList<>();
+        sorted.stream().collect(Collectors.groupingBy(d -> d.getA() + d.getA1(), Collectors.counting()))
+                .entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .forEach(e -> result.add(e.getKey() + "=" + e.getValue()));
+        return result;
+    }
+
+    private final Collector<TestData, ?, String> describe = Collectors.collectingAndThen(
+            Collectors.toList(), group -> group.get(0).getA() + group.get(0).getA1() + "=" + group.size());
+
+    @Test
+    @DisplayName("should group consecutive elements equal on the prefix")
+    void testIterator() {
+        final List<String> groups = new ArrayList<>();
+        testee.groups(sorted.iterator(), describe).forEachRemaining(groups::add);
+
+        assertThat(groups).isEqualTo(expected());
+        assertThat(testee.group(sorted.stream(), describe)).containsExactlyElementsOf(expected());
+        assertThat(testee.groups(List.<TestData> of().iterator(), describe).hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should pull the input lazily")
+    void testLazy() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final SortedGrouping<TestData> byA = SortedGrouping.create(comparator, 1);
+        final Stream<TestData> infinite = IntStream.iterate(0, i -> i + 1)
+                .mapToObj(i -> new TestData(String.format("%05d", i / 3), "", i, 0))
+                .peek(d -> pulled.incrementAndGet());
+
+        assertThat(byA.group(infinite, Collectors.counting()).limit(2)).containsExactly(3L, 3L);
+        assertThat(pulled.get()).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("should fix up groups across chunks of parallel streams")
+    void testParallel() {
+        for (int prefix = 0; prefix <= 3; prefix++) {
+            final SortedGrouping<TestData> grouping = SortedGrouping.create(comparator, prefix);
+            final List<Long> sequential = grouping.group(sorted.stream(), Collectors.counting())
+                    .collect(Collectors.toList());
+
+            assertThat(sorted.parallelStream().collect(grouping.collector(Collectors.counting())))
+                    .isEqualTo(sequential);
+            assertThat(grouping.group(sorted.parallelStream(), Collectors.counting()).collect(Collectors.toList()))
+                    .isEqualTo(sequential);
+        }
+        assertThat(sorted.parallelStream().collect(testee.collector(describe))).isEqualTo(expected());
+    }
+
+    @Test
+    @DisplayName("should reject prefixes longer than the chain")
+    void testInvalid() {
+        assertThatThrownBy(() -> SortedGrouping.create(comparator, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SortedGrouping.create(comparator, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.fburato.functionalutils.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SortedMerge")
+class SortedMergeTest {
+
+    final TypeSafeChainComparator<TestData> comparator = TypeSafeChainComparator.create(TestData.class)
+            .chain(TestData::getA, Comparator.<String> naturalOrder())
+            .chain(TestData::getB, Comparator.<Integer> naturalOrder());
+
+    private TestData data(String a, int b, String tag) {
+        return new TestData(a, tag, b, 0);
+    }
+
+    @Test
+    @DisplayName("should merge any number of sorted inputs")
+    void testMerge() {
+        final var random = new Random(42);
+        for (int k = 0; k <= 9; k++) {
+            final List<List<Integer>> inputs = new ArrayList<>();
+            final List<Integer> all = new ArrayList<>();
+            for (int i = 0; i < k; i++) {
+                final List<Integer> input = random.ints(random.nextInt(50), 0, 100).sorted().boxed()
+                        .collect(Collectors.toList());
+                inputs.add(input);
+                all.addAll(input);
+            }
+            all.sort(Comparator.naturalOrder());
+
+            assertThat(SortedMerge.<Integer> create(Comparator.naturalOrder())
+                    .merge(inputs.stream().map(List::iterator).collect(Collectors.toList()))
+                    .collect(Collectors.toList())).isEqualTo(all);
+        }
+    }
+
+    @Test
+    @DisplayName("should break ties by input index")
+    void testStable() {
+        final List<Iterator<TestData>> inputs = List.of(
+                List.of(data("a", 1, "0"), data("b", 1, "0")).iterator(),
+                List.of(data("a", 1, "1"), data("a", 2, "1"), data("b", 1, "1")).iterator(),
+                List.of(data("a", 1, "2"), data("b", 1, "2")).iterator());
+
+        assertThat(SortedMerge.create(comparator).merge(inputs).map(d -> d.getA() + d.getB() + d.getA1()))
+                .containsExactly("a10", "a11", "a12", "a21", "b10", "b11", "b12");
+    }
+
+    @Test
+    @DisplayName("should keep the first of equal elements when distinct")
+    void testDistinct() {
+        final List<Iterator<TestData>> inputs = List.of(
+                List.of(data("a", 1, "0"), data("c", 1, "0")).iterator(),
+                List.of(data("a", 1, "1"), data("a", 1, "1"), data("b", 1, "1")).iterator(),
+                List.of(data("b", 1, "2"), data("c", 1, "2")).iterator());
+
+        assertThat(SortedMerge.createDistinct(comparator).merge(inputs).map(d -> d.getA() + d.getA1()))
+                .containsExactly("a0", "b1", "c0");
+    }
+
+    @Test
+    @DisplayName("should pull inputs lazily")
+    void testLazy() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final List<Stream<Integer>> inputs = List.of(
+                IntStream.iterate(0, i -> i + 2).boxed().peek(i -> pulled.incrementAndGet()),
+                IntStream.iterate(1, i -> i + 2).boxed().peek(i -> pulled.incrementAndGet()));
+
+        assertThat(SortedMerge.<Integer> create(Comparator.naturalOrder()).mergeStreams(inputs).limit(10))
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(pulled.get()).isLessThanOrEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("should close merged streams")
+    void testClose() {
+        final AtomicInteger closed = new AtomicInteger();
+        final var merged = SortedMerge.<Integer> create(Comparator.naturalOrder())
+                .mergeStreams(List.of(Stream.of(1, 3).onClose(closed::incrementAndGet),
+                        Stream.of(2).onClose(closed::incrementAndGet)));
+
+        try (merged) {
+            assertThat(merged).containsExactly(1, 2, 3);
+        }
+        assertThat(closed.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should merge spliterators and report their size")
+    void testSpliterators() {
+        final var merged = SortedMerge.<Integer> create(Comparator.naturalOrder())
+                .mergeSpliterators(List.of(List.of(1, 4).spliterator(), List.<Integer> of().spliterator(),
+                        List.of(2, 3, 5).spliterator()));
+
+        assertThat(merged.spliterator().estimateSize()).isEqualTo(5);
+        assertThat(SortedMerge.<Integer> create(Comparator.naturalOrder())
+                .mergeSpliterators(List.of(List.of(1, 4).spliterator(), List.of(2, 3, 5).spliterator())))
+                        .containsExactly(1, 2, 3, 4, 5);
+    }
+}
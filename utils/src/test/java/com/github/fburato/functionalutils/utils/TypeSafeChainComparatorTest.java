@@ -1,12 +1,19 @@
 package com.github.fburato.functionalutils.utils;
 
+import com.github.fburato.functionalutils.api.ComparatorDecorator;
+import com.github.fburato.functionalutils.api.DoubleComparator;
+import com.github.fburato.functionalutils.api.IntComparator;
+import com.github.fburato.functionalutils.api.LongComparator;
+import com.github.fburato.functionalutils.api.UnrolledComparators;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.Comparator;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("TypeSafeChainComparator")
 class TypeSafeChainComparatorTest {
@@ -154,4 +161,221 @@ class TypeSafeChainComparatorTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("unrolled")
+    class UnrolledTest {
+        final TypeSafeChainComparator<TestData> chain = TypeSafeChainComparator.createNullSafe(TestData.class)
+                .chain(TestData::getA, String::compareTo)
+                .chain(TestData::getA1, String::compareTo)
+                .chain(TestData::getB, Integer::compareTo)
+                .chain(TestData::getC, Double::compareTo);
+        final List<TestData> data = List.of(new TestData("1", null, 345, 234), new TestData("2", null, 0, 432),
+                new TestData("1", "1", 0, 1), new TestData("1", "2", 0, 0), new TestData("1", "1", 1, 0),
+                new TestData("1", "1", 1, 1), new TestData(null, "1", 1, 1), new TestData("1", "1", null, 1));
+
+        @Test
+        @DisplayName("should compare like the chain")
+        void testSameResults() {
+            final Comparator<TestData> testee = chain.unrolled();
+
+            assertThat(testee).isNotSameAs(chain);
+            for (TestData first : data) {
+                for (TestData second : data) {
+                    assertThat(Integer.signum(testee.compare(first, second)))
+                            .isEqualTo(Integer.signum(chain.compare(first, second)));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should be reachable from type bound chains")
+        void testBoundChain() {
+            final Comparator<TestData> testee = chain.addComparator(Comparator.<String> naturalOrder())
+                    .chain(TestData::getA)
+                    .unrolled();
+
+            assertThat(testee.compare(new TestData("1", "1", 1, 1), new TestData("1", "1", 1, 1))).isEqualTo(0);
+            assertThat(testee.compare(new TestData("1", "1", 1, 1), new TestData("1", "1", 1, 2))).isLessThan(0);
+        }
+
+        @Test
+        @DisplayName("should compare primitive steps without boxing")
+        void testPrimitiveSteps() {
+            final IntComparator unboxedOnly = new IntComparator() {
+                @Override
+                public int compareInt(int value1, int value2) {
+                    return Integer.compare(value1, value2);
+                }
+
+                @Override
+                public int compare(Integer value1, Integer value2) {
+                    throw new AssertionError("boxed comparison");
+                }
+            };
+            final TypeSafeChainComparator<TestData> primitive = TypeSafeChainComparator.create(TestData.class)
+                    .chainInt(TestData::getB, unboxedOnly)
+                    .chain(TestData::getA, String::compareTo)
+                    .chainDouble(TestData::getC, DoubleComparator.natural());
+            final List<TestData> values = List.of(new TestData("1", "", 0, 1), new TestData("1", "", 0, 2),
+                    new TestData("2", "", 0, 1), new TestData("1", "", 1, 0));
+            final Comparator<TestData> testee = primitive.unrolled();
+
+            assertThat(testee).isNotSameAs(primitive);
+            for (TestData first : values) {
+                for (TestData second : values) {
+                    assertThat(Integer.signum(testee.compare(first, second)))
+                            .isEqualTo(Integer.signum(primitive.compare(first, second)));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should compare equal without steps")
+        void testEmpty() {
+            assertThat(TypeSafeChainComparator.create(TestData.class).unrolled().compare(data.get(0), data.get(1)))
+                    .isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("should fall back to the chain beyond the maximum arity")
+        void testFallback() {
+            TypeSafeChainComparator<TestData> longChain = TypeSafeChainComparator.create(TestData.class);
+            for (int i = 0; i <= UnrolledComparators.MAXIMUM_ARITY; i++) {
+                longChain = longChain.chain(TestData::getA, String::compareTo);
+            }
+
+            assertThat(longChain.unrolled()).isSameAs(longChain);
+        }
+    }
+
+    @Nested
+    @DisplayName("stage")
+    class StageTest {
+        final TypeSafeChainComparator<TestData> base = TypeSafeChainComparator.createNullSafe(TestData.class)
+                .chain(TestData::getA, String::compareTo);
+
+        @Test
+        @DisplayName("should freeze into a chain comparing like the immutable chain")
+        void testSameResults() {
+            final var frozen = base.stage()
+                    .chain(TestData::getA1, String::compareTo)
+                    .chain(TestData::getB, Integer::compareTo)
+                    .freeze();
+            final var chained = base.chain(TestData::getA1, String::compareTo)
+                    .chain(TestData::getB, Integer::compareTo);
+            final var data = List.of(new TestData("1", "1", 1, 0), new TestData("1", "2", 0, 0),
+                    new TestData(null, "1", 1, 0), new TestData("1", null, 2, 0), new TestData("1", "1", null, 0));
+
+            for (TestData first : data) {
+                for (TestData second : data) {
+                    assertThat(Integer.signum(frozen.compare(first, second)))
+                            .isEqualTo(Integer.signum(chained.compare(first, second)));
+                }
+            }
+            assertThat(frozen.steps()).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("should not mutate the staged chain")
+        void testBaseUnchanged() {
+            base.stage().chain(TestData::getA1, String::compareTo).freeze();
+
+            assertThat(base.steps()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should freeze exactly once")
+        void testFrozen() {
+            final var stage = base.stage();
+            stage.freeze();
+
+            assertThatThrownBy(stage::freeze).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> stage.chain(TestData::getA1, String::compareTo))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("should stage type bound chains")
+        void testBoundChain() {
+            final var testee = base.addComparator(Comparator.<String> reverseOrder())
+                    .addComparator(Comparator.<Integer> naturalOrder())
+                    .stage()
+                    .chain(TestData::getA1)
+                    .chain(TestData::getB)
+                    .freeze();
+
+            assertThat(testee.compare(new TestData("1", "1", 1, 0), new TestData("1", "2", 0, 0))).isGreaterThan(0);
+            assertThat(testee.compare(new TestData("1", "1", 0, 0), new TestData("1", "1", 1, 0))).isLessThan(0);
+            assertThat(testee.chain(TestData::getC, Double::compareTo)
+                    .compare(new TestData("1", "1", 0, 1), new TestData("1", "1", 0, 0))).isGreaterThan(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("primitive chains")
+    class PrimitiveTest {
+        final TypeSafeChainComparator<TestData> testee = TypeSafeChainComparator.createNullSafe(TestData.class)
+                .chainLong(d -> d.getA().length(), LongComparator.natural())
+                .chainInt(TestData::getB, (i1, i2) -> Integer.compare(i2, i1))
+                .chainDouble(TestData::getC, DoubleComparator.natural());
+
+        @Test
+        @DisplayName("should compare unboxed values in chain order")
+        void testOrder() {
+            assertThat(testee.compare(new TestData("a", null, 1, 0), new TestData("aa", null, 2, 0))).isLessThan(0);
+            assertThat(testee.compare(new TestData("a", null, 1, 0), new TestData("b", null, 2, 0)))
+                    .isGreaterThan(0);
+            assertThat(testee.compare(new TestData("a", null, 1, 0.5), new TestData("b", null, 1, 0.25)))
+                    .isGreaterThan(0);
+            assertThat(testee.compare(new TestData("a", null, 1, 0.5), new TestData("b", null, 1, 0.5)))
+                    .isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("should decorate primitive steps like object steps")
+        void testDecorator() {
+            final ComparatorDecorator reversed = new ComparatorDecorator() {
+                @Override
+                public <S> Comparator<S> decorate(Comparator<S> comparator) {
+                    return comparator.reversed();
+                }
+            };
+            final var boxed = TypeSafeChainComparator.createWithDecorator(TestData.class, reversed)
+                    .chain(TestData::getB, Comparator.<Integer> naturalOrder());
+            final var primitive = TypeSafeChainComparator.createWithDecorator(TestData.class, reversed)
+                    .chainInt(TestData::getB, IntComparator.natural());
+            final var staged = TypeSafeChainComparator.createWithDecorator(TestData.class, reversed).stage()
+                    .chainLong(TestData::getB, LongComparator.natural())
+                    .chainDouble(TestData::getC, DoubleComparator.natural())
+                    .freeze();
+            final var low = new TestData("a", null, 1, 0);
+            final var high = new TestData("a", null, 2, 0);
+
+            assertThat(boxed.compare(low, high)).isGreaterThan(0);
+            assertThat(primitive.compare(low, high)).isGreaterThan(0);
+            assertThat(primitive.unrolled().compare(low, high)).isGreaterThan(0);
+            assertThat(staged.compare(low, high)).isGreaterThan(0);
+            assertThat(staged.compare(low, new TestData("a", null, 1, 1))).isGreaterThan(0);
+        }
+
+        @Test
+        @DisplayName("should keep unrolled and staged chains consistent")
+        void testUnrolledAndStaged() {
+            final var staged = TypeSafeChainComparator.create(TestData.class).stage()
+                    .chainLong(d -> d.getA().length(), LongComparator.natural())
+                    .chainInt(TestData::getB, (i1, i2) -> Integer.compare(i2, i1))
+                    .chainDouble(TestData::getC, DoubleComparator.natural())
+                    .freeze();
+            final var data = List.of(new TestData("a", null, 1, 0.5), new TestData("bb", null, 1, 0.25),
+                    new TestData("c", null, 2, 0.25), new TestData("d", null, 1, 0.25));
+
+            for (TestData first : data) {
+                for (TestData second : data) {
+                    final int expected = Integer.signum(testee.compare(first, second));
+                    assertThat(Integer.signum(testee.unrolled().compare(first, second))).isEqualTo(expected);
+                    assertThat(Integer.signum(staged.compare(first, second))).isEqualTo(expected);
+                }
+            }
+        }
+    }
+}
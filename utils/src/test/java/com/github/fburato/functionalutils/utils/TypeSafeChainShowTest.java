@@ -1,6 +1,8 @@
 package com.github.fburato.functionalutils.utils;
 
 import com.github.fburato.functionalutils.api.ChainableShow;
+import com.github.fburato.functionalutils.api.DoubleShow;
+import com.github.fburato.functionalutils.api.IntShow;
 import com.github.fburato.functionalutils.api.Show;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,8 +10,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("TypeSafeChainShow")
 class TypeSafeChainShowTest {
@@ -113,6 +117,56 @@ class TypeSafeChainShowTest {
         }
     }
 
+    @Nested
+    @DisplayName("nested in another chain show")
+    class NestedTest {
+        final Show<TestData> inner = TypeSafeChainShow.create(TestData.class)
+                .addShow(stringWithQuotes)
+                .chain(TestData::getA)
+                .standardChain(TestData::getB);
+        final Show<TestData> outer = TypeSafeChainShow
+                .createWithConfig(TestData.class,
+                        new TypeSafeChainShow.Configuration<>(c -> "Outer", "[", "]", ";"))
+                .chain(d -> d, inner)
+                .chain(TestData::getA1, Objects::toString)
+                .chain(d -> d, inner);
+
+        @Test
+        @DisplayName("should render nested shows in place")
+        void testNested() {
+            assertThat(outer.show(data)).isEqualTo("Outer[TestData(\"1\",10);2;TestData(\"1\",10)]");
+        }
+
+        @Test
+        @DisplayName("should append to an existing builder")
+        void testShowTo() {
+            final var builder = new StringBuilder("prefix:");
+
+            outer.showTo(data, builder);
+
+            assertThat(builder.toString()).isEqualTo("prefix:" + outer.show(data));
+        }
+
+        @Test
+        @DisplayName("should not invoke show on nested chain shows")
+        void testNoIntermediateString() {
+            final var nested = TypeSafeChainShow.create(TestData.class)
+                    .chain(d -> d, new Show<TestData>() {
+                        @Override
+                        public String show(TestData testData) {
+                            throw new AssertionError("show should not be invoked");
+                        }
+
+                        @Override
+                        public void showTo(TestData testData, StringBuilder builder) {
+                            builder.append(testData.getA());
+                        }
+                    });
+
+            assertThat(nested.show(data)).isEqualTo("TestData(1)");
+        }
+    }
+
     @Test
     @DisplayName("should return no parameter if nothing is chained")
     void testEmpty() {
@@ -120,4 +174,98 @@ class TypeSafeChainShowTest {
 
         assertThat(testee.show(data)).isEqualTo("TestData()");
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("stage")
+    class StageTest {
+        final TypeSafeChainShow<TestData> base = TypeSafeChainShow.create(TestData.class)
+                .standardChain("a", TestData::getA);
+
+        @Test
+        @DisplayName("should freeze into a show rendering like the immutable chain")
+        void testSameResults() {
+            final var frozen = base.stage()
+                    .standardChain("a1", TestData::getA1)
+                    .chain("b", TestData::getB, i -> Integer.toHexString(i))
+                    .standardChain(TestData::getC)
+                    .freeze();
+
+            assertThat(frozen.show(data)).isEqualTo("TestData(1,2,a,23423.0)");
+            assertThat(frozen.steps()).extracting(s -> s.name).containsExactly("a", "a1", "b", null);
+            assertThat(base.show(data)).isEqualTo("TestData(1)");
+        }
+
+        @Test
+        @DisplayName("should freeze exactly once")
+        void testFrozen() {
+            final var stage = base.stage();
+            stage.freeze();
+
+            assertThatThrownBy(stage::freeze).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> stage.standardChain(TestData::getA1)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("should stage type bound chains")
+        void testBoundChain() {
+            final var testee = base.addShow(stringWithQuotes)
+                    .stage()
+                    .chain(TestData::getA1)
+                    .standardChain(TestData::getB)
+                    .freeze();
+
+            assertThat(testee.show(data)).isEqualTo("TestData(1,\"2\",10)");
+        }
+
+        @Test
+        @DisplayName("should fall back to chaining for other chainable shows")
+        void testDefaultStage() {
+            final ChainableShow.Stage<TestData> stage = new ChainableShow<TestData>() {
+                @Override
+                public <S> ChainableShow<TestData> chain(Function<TestData, S> fieldGetter, Show<S> sShow) {
+                    return base.chain(fieldGetter, sShow);
+                }
+
+                @Override
+                public <S> ChainableShow<TestData> standardChain(Function<TestData, S> fieldGetter) {
+                    return base.standardChain(fieldGetter);
+                }
+
+                @Override
+                public String show(TestData testData) {
+                    return base.show(testData);
+                }
+            }.stage();
+
+            assertThat(stage.standardChain(TestData::getB).freeze().show(data)).isEqualTo("TestData(1,10)");
+            assertThatThrownBy(stage::freeze).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("primitive chains")
+    class PrimitiveTest {
+        final TypeSafeChainShow<TestData> testee = TypeSafeChainShow.create(TestData.class)
+                .chainInt("b", TestData::getB, IntShow.standard())
+                .chainLong("length", d -> d.getA().length(), l -> "#" + l)
+                .chainDouble("c", TestData::getC, DoubleShow.standard());
+
+        @Test
+        @DisplayName("should show unboxed values")
+        void testShow() {
+            assertThat(testee.show(data)).isEqualTo("TestData(10,#1,23423.0)");
+        }
+
+        @Test
+        @DisplayName("should render standard primitive shows raw in json")
+        void testJson() {
+            assertThat(JsonShow.create(testee).show(data)).isEqualTo("{\"b\":10,\"length\":\"#1\",\"c\":23423.0}");
+        }
+
+        @Test
+        @DisplayName("should show null boxed values as null")
+        void testNull() {
+            assertThat(IntShow.standard().show(null)).isEqualTo("null");
+        }
+    }
+}